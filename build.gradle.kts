@@ -15,7 +15,7 @@ version = getGitHash()
 
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(21)
 	}
 }
 
@@ -58,6 +58,9 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-redis")
 	implementation("org.redisson:redisson-spring-boot-starter:3.23.4")
 
+	// cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
 	// Monitoring & Metrics (k6 부하테스트용)
 	implementation("io.micrometer:micrometer-registry-prometheus")
 
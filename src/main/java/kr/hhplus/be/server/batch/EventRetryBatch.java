@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.batch;
+
+import kr.hhplus.be.server.domain.EventRetry;
+import kr.hhplus.be.server.eventHandler.OrderCreatedEvent;
+import kr.hhplus.be.server.eventHandler.OrderEventHandler;
+import kr.hhplus.be.server.eventHandler.PointDeductedEvent;
+import kr.hhplus.be.server.service.EventRetryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 실패한 이벤트 핸들러 재시도
+ * 재시도 시각이 된 건을 배치 단위로 가져와 스케줄러 스레드에서 순서대로 다시 실행한다.
+ * 주문 실행기에 재시도를 몰아넣지 않으므로 장애 중에 재시도가 한꺼번에 몰리지 않는다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EventRetryBatch {
+
+    private final EventRetryService eventRetryService;
+    private final OrderEventHandler orderEventHandler;
+
+    @Scheduled(fixedDelayString = "${order.retry.poll-interval-ms:1000}")
+    public void retry() {
+        try {
+            List<EventRetry> retries;
+            do {
+                retries = eventRetryService.claimDue();
+                retries.forEach(this::execute);
+            } while (retries.size() == eventRetryService.getBatchSize());
+        } catch (Exception e) {
+            log.error("핸들러 재시도 배치 실패", e);
+        }
+    }
+
+    private void execute(EventRetry retry) {
+        try {
+            Object event = eventRetryService.readEvent(retry);
+
+            switch (retry.getHandlerType()) {
+                case POINT_DEDUCTION -> orderEventHandler.retryPointDeduction((OrderCreatedEvent) event);
+                case PAYMENT -> orderEventHandler.retryPayment((PointDeductedEvent) event);
+            }
+
+            eventRetryService.succeed(retry);
+        } catch (Exception e) {
+            eventRetryService.fail(retry, e);
+        }
+    }
+}
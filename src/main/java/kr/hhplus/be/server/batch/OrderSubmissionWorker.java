@@ -0,0 +1,193 @@
+package kr.hhplus.be.server.batch;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.service.OrderSubmissionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 주문 접수 처리
+ * 접수 스트림을 컨슈머 그룹으로 읽어 고정 크기 작업 풀에서 주문을 생성하고, 처리 후 ACK한다.
+ * 한 번에 작업 풀 크기만큼만 읽으므로 처리량이 밀리면 접수 스트림이 쌓이고 접수 단계에서 거절된다.
+ * 다른 노드가 가져간 뒤 claim-idle-ms 동안 ACK하지 않은 접수(노드 종료)는 넘겨받아 처리한다.
+ */
+@Component
+@Slf4j
+public class OrderSubmissionWorker {
+
+    private static final String GROUP = "order-submission-worker";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OrderSubmissionService orderSubmissionService;
+    private final boolean workerEnabled;
+    private final int workerThreads;
+    private final String consumerName;
+    private final long claimIdleMs;
+    private final ExecutorService workers;
+
+    public OrderSubmissionWorker(StringRedisTemplate stringRedisTemplate,
+                                 OrderSubmissionService orderSubmissionService,
+                                 @Value("${order.submission.worker-enabled:true}") boolean workerEnabled,
+                                 @Value("${order.submission.worker-threads:4}") int workerThreads,
+                                 @Value("${order.submission.consumer-name:${HOSTNAME:submission-worker}}") String consumerName,
+                                 @Value("${order.submission.claim-idle-ms:60000}") long claimIdleMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.orderSubmissionService = orderSubmissionService;
+        this.workerEnabled = workerEnabled;
+        this.workerThreads = workerThreads;
+        this.consumerName = consumerName;
+        this.claimIdleMs = claimIdleMs;
+        this.workers = Executors.newFixedThreadPool(workerThreads);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!workerEnabled) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) this::createGroup);
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP
+            log.debug("주문 접수 컨슈머 그룹 생성 생략 - {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.submission.poll-interval-ms:100}")
+    public void poll() {
+        if (!workerEnabled) {
+            return;
+        }
+
+        try {
+            int processed;
+            do {
+                processed = processBatch();
+            } while (processed == workerThreads);
+        } catch (Exception e) {
+            log.error("주문 접수 처리 실패", e);
+        }
+    }
+
+    private int processBatch() throws InterruptedException {
+        // 재시작 전 자기 pending -> 다른 노드가 놓친 pending -> 새 접수 순
+        List<MapRecord<String, Object, Object>> records = read(ReadOffset.from("0"));
+        if (records == null || records.isEmpty()) {
+            records = claimStale();
+        }
+        if (records == null || records.isEmpty()) {
+            records = read(ReadOffset.lastConsumed());
+        }
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        List<Callable<Void>> tasks = records.stream()
+                .map(record -> (Callable<Void>) () -> {
+                    orderSubmissionService.process(
+                            (String) record.getValue().get("submissionId"),
+                            (String) record.getValue().get("request")
+                    );
+                    return null;
+                })
+                .toList();
+
+        List<Future<Void>> futures = workers.invokeAll(tasks);
+
+        // 처리 중 예외(Redis 장애 등)가 난 접수는 ACK하지 않고 다음 실행에서 다시 처리한다
+        List<RecordId> done = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+                done.add(records.get(i).getId());
+            } catch (ExecutionException e) {
+                log.error("주문 접수 처리 실패, 재처리 대기 - 레코드ID: {}", records.get(i).getId(), e.getCause());
+            }
+        }
+
+        if (!done.isEmpty()) {
+            RecordId[] ids = done.toArray(RecordId[]::new);
+            StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+            streamOps.acknowledge(OrderSubmissionService.STREAM_KEY, GROUP, ids);
+            streamOps.delete(OrderSubmissionService.STREAM_KEY, ids);
+        }
+
+        return records.size();
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        return stringRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(workerThreads),
+                StreamOffset.create(OrderSubmissionService.STREAM_KEY, offset)
+        );
+    }
+
+    private List<MapRecord<String, Object, Object>> claimStale() {
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+        PendingMessages pending = streamOps.pending(OrderSubmissionService.STREAM_KEY, GROUP, Range.unbounded(), workerThreads);
+
+        RecordId[] staleIds = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().toMillis() >= claimIdleMs)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+
+        if (staleIds.length == 0) {
+            return List.of();
+        }
+
+        log.warn("응답 없는 노드의 주문 접수 넘겨받음 - {}건", staleIds.length);
+        return streamOps.claim(OrderSubmissionService.STREAM_KEY, GROUP, consumerName, Duration.ofMillis(claimIdleMs), staleIds);
+    }
+
+    private String createGroup(RedisConnection connection) {
+        return connection.streamCommands().xGroupCreate(
+                OrderSubmissionService.STREAM_KEY.getBytes(StandardCharsets.UTF_8),
+                GROUP,
+                ReadOffset.from("0"),
+                true
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
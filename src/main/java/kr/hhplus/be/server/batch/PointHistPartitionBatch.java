@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.batch;
+
+import kr.hhplus.be.server.repository.PointHistPartitionJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * POINT_HIST 월별 파티션 관리
+ * 앞으로 premake-months 개월치 파티션을 미리 만들고, 보관기간(retention-months)이 지난 파티션은 DROP으로 지운다.
+ * 파티션 테이블이 아니면(db/point_hist_partition.sql 미적용) 아무것도 하지 않는다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PointHistPartitionBatch {
+
+    private final PointHistPartitionJdbcRepository pointHistPartitionJdbcRepository;
+
+    @Value("${order.point.history.partition-enabled:false}")
+    private boolean enabled;
+
+    @Value("${order.point.history.premake-months:3}")
+    private int premakeMonths;
+
+    @Value("${order.point.history.retention-months:12}")
+    private int retentionMonths;
+
+    @Scheduled(cron = "${order.point.history.partition-cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            maintain(YearMonth.now());
+        } catch (Exception e) {
+            log.error("포인트 이력 파티션 관리 실패", e);
+        }
+    }
+
+    public void maintain(YearMonth now) {
+        List<String> partitions = pointHistPartitionJdbcRepository.findPartitionNames();
+        if (!partitions.contains(PointHistPartitionJdbcRepository.MAX_PARTITION)) {
+            log.warn("POINT_HIST가 월별 파티션 테이블이 아니어서 파티션 관리를 건너뜀");
+            return;
+        }
+
+        List<YearMonth> months = partitions.stream()
+                .map(PointHistPartitionJdbcRepository::monthOf)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // 월 파티션은 pmax 앞에 순서대로만 추가할 수 있다
+        YearMonth next = months.isEmpty() ? now : months.get(months.size() - 1).plusMonths(1);
+        for (YearMonth month = next; !month.isAfter(now.plusMonths(premakeMonths)); month = month.plusMonths(1)) {
+            pointHistPartitionJdbcRepository.addMonthlyPartition(month);
+            log.info("포인트 이력 파티션 추가 - {}", PointHistPartitionJdbcRepository.partitionName(month));
+        }
+
+        YearMonth retentionStart = now.minusMonths(retentionMonths);
+        for (YearMonth month : months) {
+            if (month.isBefore(retentionStart)) {
+                pointHistPartitionJdbcRepository.dropPartition(PointHistPartitionJdbcRepository.partitionName(month));
+                log.info("포인트 이력 파티션 삭제 - {}", PointHistPartitionJdbcRepository.partitionName(month));
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package kr.hhplus.be.server.batch;
+
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.dto.point.PointLedgerEntry;
+import kr.hhplus.be.server.repository.PointLedgerJdbcRepository;
+import kr.hhplus.be.server.service.PointLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 원장 DB 반영
+ * 원장 스트림을 컨슈머 그룹으로 읽어 USERS 잔액(사용자별 마지막 값)과 POINT_HIST를 한 트랜잭션에서 일괄 반영한다.
+ * 커밋 후에만 ACK하므로 반영 전에 종료되면 다음 실행에서 자기 pending 항목부터 다시 처리한다.
+ * 스트림 순서를 지켜야 하므로 노드당 하나의 컨슈머 이름을 쓰고, 기록기는 한 노드에서만 켠다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PointLedgerWriter {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PointLedgerService pointLedgerService;
+    private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String GROUP = "point-ledger-writer";
+
+    @Value("${order.point.ledger.writer-enabled:true}")
+    private boolean writerEnabled;
+
+    @Value("${order.point.ledger.consumer-name:ledger-writer}")
+    private String consumerName;
+
+    @Value("${order.point.ledger.batch-size:200}")
+    private int batchSize;
+
+    @PostConstruct
+    public void init() {
+        if (!isActive()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> createGroup(connection));
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP
+            log.debug("포인트 원장 컨슈머 그룹 생성 생략 - {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.point.ledger.flush-interval-ms:200}")
+    public void flush() {
+        if (!isActive()) {
+            return;
+        }
+
+        try {
+            int applied;
+            do {
+                applied = applyBatch();
+            } while (applied == batchSize);
+        } catch (Exception e) {
+            log.error("포인트 원장 DB 반영 실패", e);
+        }
+    }
+
+    private int applyBatch() {
+        List<MapRecord<String, Object, Object>> records = read(ReadOffset.from("0"));
+        if (records == null || records.isEmpty()) {
+            records = read(ReadOffset.lastConsumed());
+        }
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        List<PointLedgerEntry> entries = records.stream()
+                .map(record -> PointLedgerEntry.from(record.getValue()))
+                .toList();
+
+        Map<Long, Long> balances = new LinkedHashMap<>();
+        entries.forEach(entry -> balances.put(entry.userId(), entry.balance()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            pointLedgerJdbcRepository.updateBalances(balances);
+            pointLedgerJdbcRepository.insertHistories(entries);
+        });
+
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+        streamOps.acknowledge(PointLedgerService.STREAM_KEY, GROUP, ids);
+        streamOps.delete(PointLedgerService.STREAM_KEY, ids);
+
+        log.debug("포인트 원장 반영 - 항목: {}건, 사용자: {}명", entries.size(), balances.size());
+        return records.size();
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        return stringRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(PointLedgerService.STREAM_KEY, offset)
+        );
+    }
+
+    private String createGroup(RedisConnection connection) {
+        return connection.streamCommands().xGroupCreate(
+                PointLedgerService.STREAM_KEY.getBytes(StandardCharsets.UTF_8),
+                GROUP,
+                ReadOffset.from("0"),
+                true
+        );
+    }
+
+    private boolean isActive() {
+        return pointLedgerService.isEnabled() && writerEnabled;
+    }
+}
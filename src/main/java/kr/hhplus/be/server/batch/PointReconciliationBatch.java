@@ -0,0 +1,36 @@
+package kr.hhplus.be.server.batch;
+
+import kr.hhplus.be.server.service.PointReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 정합성 검사 배치
+ * 실행 상태와 체크포인트를 DB에 두므로 한 노드에서만 켠다. 중단되면 다음 실행에서 남은 범위부터 이어간다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PointReconciliationBatch {
+
+    private final PointReconciliationService pointReconciliationService;
+
+    @Value("${order.point.reconciliation.enabled:false}")
+    private boolean enabled;
+
+    @Scheduled(cron = "${order.point.reconciliation.cron:0 0 4 * * *}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            pointReconciliationService.run();
+        } catch (Exception e) {
+            log.error("포인트 정합성 검사 실패", e);
+        }
+    }
+}
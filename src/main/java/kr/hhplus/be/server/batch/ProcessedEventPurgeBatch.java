@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.batch;
+
+import kr.hhplus.be.server.repository.ProcessedEventJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 처리 기록 정리
+ * Redis 처리 표시가 만료되는 시점(retention-hours)이 지난 PROCESSED_EVENT 행을 지워 테이블이 계속 커지지 않게 한다.
+ * outbox 재전달은 ack 대기 시간 단위로 끝나므로 보관 기간이 지난 이벤트가 다시 오는 경우는 없다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProcessedEventPurgeBatch {
+
+    private final ProcessedEventJdbcRepository processedEventJdbcRepository;
+
+    @Value("${order.dedup.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${order.dedup.purge-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "0 10 * * * *")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+
+        try {
+            long total = 0;
+            int deleted;
+            do {
+                deleted = processedEventJdbcRepository.deleteProcessedBefore(before, batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+
+            if (total > 0) {
+                log.info("이벤트 처리 기록 정리 - 기준: {}, 삭제: {}건", before, total);
+            }
+        } catch (Exception e) {
+            log.error("이벤트 처리 기록 정리 실패", e);
+        }
+    }
+}
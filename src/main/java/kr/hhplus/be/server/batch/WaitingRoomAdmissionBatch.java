@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.batch;
+
+import kr.hhplus.be.server.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WaitingRoomAdmissionBatch {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Scheduled(fixedDelayString = "${order.waiting-room.admission-interval-ms:1000}")
+    public void admit() {
+        try {
+            waitingRoomService.admit();
+        } catch (Exception e) {
+            log.error("대기열 입장 토큰 발급 실패", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 모드 동시 요청 제한
+ * 요청 스레드 수에 상한이 없어지므로, 쓰기 API의 동시 처리 수를 제한해 커넥션 풀 대기 타임아웃을 막는다.
+ * max-in-flight를 지정하지 않으면 커넥션 풀 크기 × 커넥션당 요청 수(permits-per-connection)로 정한다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ConcurrencyGuardFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public ConcurrencyGuardFilter(@Value("${order.concurrency.max-in-flight:0}") int maxInFlight,
+                                  @Value("${order.concurrency.permits-per-connection:4}") int permitsPerConnection,
+                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                                  @Value("${order.concurrency.acquire-timeout-ms:3000}") long acquireTimeoutMs) {
+        int limit = maxInFlight > 0 ? maxInFlight : maximumPoolSize * permitsPerConnection;
+        this.permits = new Semaphore(limit, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        log.info("동시 요청 제한 - 최대: {}, 커넥션 풀: {}", limit, maximumPoolSize);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !"POST".equals(request.getMethod())
+                || !(uri.startsWith("/order") || uri.startsWith("/point"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        if (!acquired) {
+            log.warn("동시 요청 한도 초과 - URI: {}", request.getRequestURI());
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 직렬 실행기
+ * userId로 줄(stripe)을 나눠 같은 사용자의 포인트 작업은 메모리에서 순서대로, 다른 사용자는 병렬로 실행한다.
+ * 같은 사용자의 작업이 USERS 행 잠금을 기다리며 커넥션을 붙잡고 있지 않게 된다.
+ * 각 줄은 orderTaskExecutor 스레드를 빌려 쓰므로 전체 동시 실행 수는 기존 실행기 설정을 따른다.
+ * 줄은 작업이 빌 때까지 빌린 스레드에서 계속 처리한다. 자리를 쥔 채 자신을 다시 제출하면
+ * 동시 실행 수가 제한된 실행기(SimpleAsyncTaskExecutor)에서 모든 줄이 빈자리를 기다리며 멈춘다.
+ * 비활성화 시 orderTaskExecutor에 그대로 넘긴다.
+ */
+@Component
+@Slf4j
+public class UserKeyedExecutor {
+
+    private final AsyncTaskExecutor delegate;
+    private final boolean enabled;
+    private final boolean skipRowLock;
+    private final SerialLane[] lanes;
+
+    public UserKeyedExecutor(@Qualifier("orderTaskExecutor") AsyncTaskExecutor delegate,
+                             @Value("${order.point.keyed-executor.enabled:false}") boolean enabled,
+                             @Value("${order.point.keyed-executor.stripes:64}") int stripes,
+                             @Value("${order.point.keyed-executor.skip-row-lock:false}") boolean skipRowLock) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.skipRowLock = skipRowLock;
+        this.lanes = new SerialLane[stripes];
+        for (int i = 0; i < stripes; i++) {
+            lanes[i] = new SerialLane();
+        }
+    }
+
+    /**
+     * 비동기 실행 - 같은 사용자의 작업은 제출 순서대로 하나씩 실행
+     */
+    public void execute(Long userId, Runnable task) {
+        if (!enabled) {
+            delegate.execute(task);
+            return;
+        }
+        laneFor(userId).add(task);
+    }
+
+    /**
+     * 동기 실행 - 같은 사용자의 줄에서 실행하고 결과를 기다린다 (비활성화 시 호출 스레드에서 실행)
+     * 작업에서 발생한 예외는 그대로 다시 던진다.
+     */
+    public <T> T call(Long userId, Supplier<T> task) {
+        if (!enabled) {
+            return task.get();
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        laneFor(userId).add(() -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 단일 노드에서 포인트 변경이 모두 이 실행기를 거칠 때만 행 잠금을 생략할 수 있다
+     */
+    public boolean isRowLockSkippable() {
+        return enabled && skipRowLock;
+    }
+
+    private SerialLane laneFor(Long userId) {
+        return lanes[Math.floorMod(Long.hashCode(userId), lanes.length)];
+    }
+
+    private final class SerialLane {
+
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void add(Runnable task) {
+            tasks.add(task);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    delegate.execute(this::drain);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        log.error("사용자별 직렬 작업 실패", e);
+                    }
+                }
+                scheduled.set(false);
+                // 표시를 내린 사이에 들어온 작업은 다른 스레드가 가져가지 않았으면 이어서 처리한다
+            } while (!tasks.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.hhplus.be.server.dto.retry.ResponseDeadLetter;
+import kr.hhplus.be.server.service.EventRetryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/dead-letters")
+@Tag(name = "이벤트 재처리 API", description = "재시도를 소진한 이벤트 핸들러 조회/재처리")
+public class EventRetryController {
+
+    private final EventRetryService eventRetryService;
+
+    @Operation(summary = "dead letter 목록 조회")
+    @GetMapping
+    public ResponseEntity<List<ResponseDeadLetter>> getDeadLetters(
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(eventRetryService.getDeadLetters(size));
+    }
+
+    @Operation(summary = "dead letter 재처리")
+    @PostMapping("/{deadLetterId}/replay")
+    public ResponseEntity<Long> replay(@PathVariable("deadLetterId") Long deadLetterId) {
+        return ResponseEntity.ok(eventRetryService.replay(deadLetterId));
+    }
+}
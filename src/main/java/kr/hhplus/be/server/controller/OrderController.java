@@ -2,16 +2,30 @@ package kr.hhplus.be.server.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.hhplus.be.server.dto.order.RequestCartOrder;
 import kr.hhplus.be.server.dto.order.RequestOrder;
 import kr.hhplus.be.server.dto.order.ResponseOrder;
+import kr.hhplus.be.server.dto.order.ResponseOrderHistory;
+import kr.hhplus.be.server.dto.order.ResponseOrderSubmission;
+import kr.hhplus.be.server.dto.order.ResponseOrderSummary;
+import kr.hhplus.be.server.service.IdempotencyService;
 import kr.hhplus.be.server.service.OrderFacade;
 import kr.hhplus.be.server.service.OrderService;
+import kr.hhplus.be.server.service.OrderSubmissionService;
+import kr.hhplus.be.server.service.OrderSummaryService;
+import kr.hhplus.be.server.service.WaitingRoomService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RestController
@@ -23,11 +37,100 @@ public class OrderController {
 
     private final OrderFacade orderFacade;
 
+    private final IdempotencyService idempotencyService;
+
+    private final WaitingRoomService waitingRoomService;
+
+    private final OrderSubmissionService orderSubmissionService;
+
+    private final OrderSummaryService orderSummaryService;
+
+    @Operation(summary = "사용자 주문 목록 조회")
+    @GetMapping("")
+    public ResponseEntity<ResponseOrderHistory> getOrderHistory(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(orderService.getOrderHistory(userId, cursor, size));
+    }
+
+    @Operation(summary = "주문 상세 조회")
+    @GetMapping("/{orderId:\\d+}")
+    public ResponseEntity<ResponseOrderSummary> getOrder(@PathVariable("orderId") Long orderId) {
+        return ResponseEntity.ok(orderSummaryService.getSummary(orderId));
+    }
+
     @Operation(summary = "상품 주문 및 결제")
     @PostMapping("")
-    public ResponseEntity<ResponseOrder> responseOrder(@RequestBody RequestOrder requestOrder) {
+    public ResponseEntity<ResponseOrder> responseOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "Waiting-Token", required = false) String waitingToken,
+            @RequestBody RequestOrder requestOrder
+    ) {
+
+        ResponseOrder orderDto = idempotencyService.execute(
+                "order:" + requestOrder.userId(),
+                idempotencyKey,
+                ResponseOrder.class,
+                () -> waitingRoomService.orderWithAdmission(
+                        requestOrder.productId(), requestOrder.userId(), waitingToken,
+                        () -> orderFacade.processOrder(requestOrder)
+                )
+        );
+
+        return ResponseEntity.ok(orderDto);
+    }
+
+    @Operation(summary = "상품 주문 비동기 접수")
+    @PostMapping("/async")
+    public ResponseEntity<ResponseOrderSubmission> submitOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "Waiting-Token", required = false) String waitingToken,
+            @RequestBody RequestOrder requestOrder
+    ) {
+
+        ResponseOrderSubmission submission = idempotencyService.execute(
+                "order:async:" + requestOrder.userId(),
+                idempotencyKey,
+                ResponseOrderSubmission.class,
+                () -> waitingRoomService.orderWithAdmission(
+                        requestOrder.productId(), requestOrder.userId(), waitingToken,
+                        () -> orderSubmissionService.submit(requestOrder)
+                )
+        );
+
+        return ResponseEntity.accepted().body(submission);
+    }
+
+    @Operation(summary = "비동기 주문 상태 조회")
+    @GetMapping("/{submissionId}/status")
+    public ResponseEntity<ResponseOrderSubmission> getSubmissionStatus(@PathVariable("submissionId") String submissionId) {
+        return ResponseEntity.ok(orderSubmissionService.getStatus(submissionId));
+    }
+
+    @Operation(summary = "비동기 주문 상태 스트림 (SSE)")
+    @GetMapping(value = "/{submissionId}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSubmissionStatus(@PathVariable("submissionId") String submissionId) {
+        return orderSubmissionService.stream(submissionId);
+    }
+
+    @Operation(summary = "장바구니 주문 및 결제")
+    @PostMapping("/cart")
+    public ResponseEntity<ResponseOrder> responseCartOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody RequestCartOrder requestCartOrder
+    ) {
 
-        ResponseOrder orderDto = orderFacade.processOrder(requestOrder);
+        ResponseOrder orderDto = idempotencyService.execute(
+                "order:cart:" + requestCartOrder.userId(),
+                idempotencyKey,
+                ResponseOrder.class,
+                () -> {
+                    waitingRoomService.checkCartAdmission(requestCartOrder.lines());
+                    return orderFacade.processCartOrder(requestCartOrder);
+                }
+        );
 
         return ResponseEntity.ok(orderDto);
     }
@@ -2,15 +2,23 @@ package kr.hhplus.be.server.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.hhplus.be.server.config.UserKeyedExecutor;
 import kr.hhplus.be.server.dto.point.RequestPointCharge;
+import kr.hhplus.be.server.dto.point.ResponsePointHistory;
 import kr.hhplus.be.server.dto.point.ResponseUserPoint;
+import kr.hhplus.be.server.service.IdempotencyService;
+import kr.hhplus.be.server.service.PointChargeCombiner;
 import kr.hhplus.be.server.service.PointHistService;
 import kr.hhplus.be.server.service.PointService;
 import kr.hhplus.be.server.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/point")
@@ -19,6 +27,10 @@ public class PointController {
 
     private final UserService userService;
     private final PointService pointService;
+    private final PointHistService pointHistService;
+    private final IdempotencyService idempotencyService;
+    private final UserKeyedExecutor userKeyedExecutor;
+    private final PointChargeCombiner pointChargeCombiner;
 
     @GetMapping("/{id}")
     public ResponseEntity<ResponseUserPoint> getUserPoint(@PathVariable("id") long id) {
@@ -28,12 +40,54 @@ public class PointController {
         return ResponseEntity.ok(userPointInfo);
     }
 
+    @Operation(summary = "사용자 포인트 이력 조회")
+    @GetMapping("/{id}/history")
+    public ResponseEntity<ResponsePointHistory> getPointHistory(
+            @PathVariable("id") long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(pointHistService.getHistory(id, cursor, size, from, to));
+    }
+
     @Operation(summary = "사용자 포인트 충전")
     @PostMapping("/charge")
-    public ResponseEntity<ResponseUserPoint> chargeUserPoint(@RequestBody RequestPointCharge requestPointCharge) {
+    public ResponseEntity<ResponseUserPoint> chargeUserPoint(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody RequestPointCharge requestPointCharge
+    ) {
 
-        ResponseUserPoint userPointInfo = pointService.chargePoint(requestPointCharge);
+        ResponseUserPoint userPointInfo = idempotencyService.execute(
+                "point:charge:" + requestPointCharge.userId(),
+                idempotencyKey,
+                ResponseUserPoint.class,
+                () -> chargePoint(requestPointCharge)
+        );
 
         return ResponseEntity.ok(userPointInfo);
     }
+
+    /**
+     * 묶음 충전 모드에서는 모아서 한 번에 처리하고, 실패하면 건별 충전
+     * 묶음 충전은 사용자 행을 USER_ID 순서로 잠그므로 사용자 줄 밖에서 실행한다 (줄 안에서 기다리면 같은 사용자의 충전이 한 묶음에 모이지 않는다).
+     * 건별 충전은 행 잠금을 생략하는 모드에서만 사용자 줄에서 실행한다.
+     */
+    private ResponseUserPoint chargePoint(RequestPointCharge requestPointCharge) {
+        if (pointChargeCombiner.isEnabled()) {
+            Optional<ResponseUserPoint> combined = pointChargeCombiner.submit(requestPointCharge);
+            if (combined.isPresent()) {
+                return combined.get();
+            }
+        }
+
+        if (userKeyedExecutor.isRowLockSkippable()) {
+            return userKeyedExecutor.call(
+                    requestPointCharge.userId(),
+                    () -> pointService.chargePoint(requestPointCharge)
+            );
+        }
+        return pointService.chargePoint(requestPointCharge);
+    }
 }
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.hhplus.be.server.domain.Product;
 import kr.hhplus.be.server.dto.product.ResponseProduct;
 import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.ProductStockSlotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +19,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductStockSlotService productStockSlotService;
 
     @Operation(summary = "상품 list를 조회")
     @GetMapping("/list")
@@ -62,5 +64,16 @@ public class ProductController {
         return ResponseEntity.ok(product);
     }
 
+    @Operation(summary = "인기 상품 재고 슬롯 분할")
+    @PostMapping("/{id}/stock/shard")
+    public ResponseEntity<ResponseProduct> shardProductStock(
+            @PathVariable("id") long id,
+            @RequestParam int slotCount
+    ) {
+
+        productStockSlotService.shardStock(id, slotCount);
+
+        return ResponseEntity.ok(productService.getProduct(id));
+    }
 
 }
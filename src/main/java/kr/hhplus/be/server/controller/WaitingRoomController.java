@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.hhplus.be.server.dto.waiting.ResponseWaitingPosition;
+import kr.hhplus.be.server.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/waiting")
+@Tag(name = "대기열 API", description = "선착순 판매 대기열")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Operation(summary = "대기열 진입")
+    @PostMapping("/{productId}")
+    public ResponseEntity<ResponseWaitingPosition> enter(
+            @PathVariable("productId") Long productId,
+            @RequestParam Long userId
+    ) {
+        return ResponseEntity.ok(waitingRoomService.enter(productId, userId));
+    }
+
+    @Operation(summary = "대기 순번 조회")
+    @GetMapping("/{productId}/position")
+    public ResponseEntity<ResponseWaitingPosition> getPosition(
+            @PathVariable("productId") Long productId,
+            @RequestParam Long userId
+    ) {
+        return ResponseEntity.ok(waitingRoomService.getPosition(productId, userId));
+    }
+
+    @Operation(summary = "대기열 시작")
+    @PostMapping("/{productId}/open")
+    public ResponseEntity<Void> open(@PathVariable("productId") Long productId) {
+        waitingRoomService.open(productId);
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(summary = "대기열 종료")
+    @PostMapping("/{productId}/close")
+    public ResponseEntity<Void> close(@PathVariable("productId") Long productId) {
+        waitingRoomService.close(productId);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.domain;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.enums.EventHandlerType;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도를 모두 소진한 핸들러 호출 - 관리자 재처리 전까지 보관
+ */
+@Entity
+@Table(name = "EVENT_DEAD_LETTER")
+@Getter
+public class EventDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "DEAD_LETTER_ID")
+    private Long id;
+
+    @Column(name = "HANDLER_TYPE", length = 30, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private EventHandlerType handlerType;
+
+    @Column(name = "PAYLOAD", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "ATTEMPT_COUNT", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "LAST_ERROR", length = 500)
+    private String lastError;
+
+    @Column(name = "FIRST_FAILED_DATETIME", nullable = false)
+    private LocalDateTime firstFailedDateTime;
+
+    @Column(name = "DEAD_DATETIME", nullable = false)
+    private LocalDateTime deadDateTime;
+
+    @Column(name = "REPLAYED_DATETIME")
+    private LocalDateTime replayedDateTime;
+
+    protected EventDeadLetter() {}
+
+    public EventDeadLetter(EventRetry retry) {
+        this.handlerType = retry.getHandlerType();
+        this.payload = retry.getPayload();
+        this.attemptCount = retry.getAttemptCount();
+        this.lastError = retry.getLastError();
+        this.firstFailedDateTime = retry.getCreatedDateTime();
+        this.deadDateTime = LocalDateTime.now();
+    }
+
+    public static EventDeadLetter from(EventRetry retry) {
+        return new EventDeadLetter(retry);
+    }
+
+    public void markReplayed() {
+        if (this.replayedDateTime != null) {
+            throw new CustomException("이미 재처리된 dead letter입니다.");
+        }
+        this.replayedDateTime = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.domain;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.enums.EventHandlerType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실패한 핸들러 호출 재시도 대기열
+ * 재시도에 성공하면 삭제되고, 최대 횟수를 넘기면 EVENT_DEAD_LETTER로 옮겨진다.
+ */
+@Entity
+@Table(name = "EVENT_RETRY",
+        indexes = @Index(name = "IDX_EVENT_RETRY_NEXT_ATTEMPT", columnList = "NEXT_ATTEMPT_DATETIME"))
+@Getter
+public class EventRetry {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "RETRY_ID")
+    private Long id;
+
+    @Column(name = "HANDLER_TYPE", length = 30, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private EventHandlerType handlerType;
+
+    @Column(name = "PAYLOAD", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "ATTEMPT_COUNT", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "NEXT_ATTEMPT_DATETIME", nullable = false)
+    private LocalDateTime nextAttemptDateTime;
+
+    @Column(name = "LAST_ERROR", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "CREATED_DATETIME", nullable = false)
+    private LocalDateTime createdDateTime;
+
+    protected EventRetry() {}
+
+    public EventRetry(EventHandlerType handlerType, String payload, int attemptCount,
+                      LocalDateTime nextAttemptDateTime, String lastError) {
+        this.handlerType = handlerType;
+        this.payload = payload;
+        this.attemptCount = attemptCount;
+        this.nextAttemptDateTime = nextAttemptDateTime;
+        this.lastError = truncate(lastError);
+        this.createdDateTime = LocalDateTime.now();
+    }
+
+    public static EventRetry create(EventHandlerType handlerType, String payload,
+                                    LocalDateTime nextAttemptDateTime, String lastError) {
+        return new EventRetry(handlerType, payload, 1, nextAttemptDateTime, lastError);
+    }
+
+    /**
+     * dead letter 재처리 - 시도 횟수를 초기화하고 바로 재시도
+     */
+    public static EventRetry replay(EventDeadLetter deadLetter) {
+        return new EventRetry(deadLetter.getHandlerType(), deadLetter.getPayload(), 0,
+                LocalDateTime.now(), deadLetter.getLastError());
+    }
+
+    public void recordFailure(String error, LocalDateTime nextAttemptDateTime) {
+        this.attemptCount += 1;
+        this.lastError = truncate(error);
+        this.nextAttemptDateTime = nextAttemptDateTime;
+    }
+
+    public boolean isExhausted(int maxAttempts) {
+        return this.attemptCount >= maxAttempts;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
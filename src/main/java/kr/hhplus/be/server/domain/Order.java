@@ -8,7 +8,11 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ORDERS")
+@Table(name = "ORDERS", indexes = {
+        // 사용자 주문 목록 키셋 페이징 + 목록 컬럼을 포함한 커버링 인덱스
+        @Index(name = "IDX_ORDERS_USER_DATETIME",
+                columnList = "USER_ID, ORDER_DATETIME, ORDER_NO, PRODUCT_ID, ORDER_STATUS, REQUEST_QUANTITY, DISCOUNTED_PRICE")
+})
 @Getter
 public class Order {
 
@@ -36,6 +40,10 @@ public class Order {
     @Column(name = "SOLD_DATETIME")
     private LocalDateTime soldDateTime;
 
+    // 결제 전에 차감한 포인트 (단계별 처리 모드) - 결제 전에 만료 취소되면 환불 기준
+    @Column(name = "POINT_DEDUCTED_AMOUNT")
+    private Long pointDeductedAmount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID", nullable = false
             ,foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
@@ -68,6 +76,25 @@ public class Order {
         return new Order(user, product, coupon, product.getPrice(), discountedPrice, requestQuantity, orderStatus);
     }
 
+    /**
+     * JDBC 배치 INSERT로 저장한 주문에 생성된 주문번호를 채운다
+     */
+    public void assignId(Long id) {
+        if (this.id != null) {
+            throw new CustomException("이미 저장된 주문입니다.");
+        }
+        this.id = id;
+    }
+
+    public void complete() {
+        if (this.status != OrderStatus.IN_PROGRESS) {
+            throw new CustomException("진행중인 주문만 완료할 수 있습니다.");
+        }
+
+        this.status = OrderStatus.COMPLETED;
+        this.soldDateTime = LocalDateTime.now();
+    }
+
     public void cancel() {
         if (this.status == OrderStatus.CANCELLED) {
             throw new CustomException("이미 취소된 주문입니다.");
@@ -0,0 +1,46 @@
+package kr.hhplus.be.server.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+@Entity
+@Table(name = "ORDER_LINE", indexes = {
+        @Index(name = "IDX_ORDER_LINE_ORDER", columnList = "ORDER_NO")
+})
+@Getter
+public class OrderLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ORDER_LINE_ID")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ORDER_NO", nullable = false
+            ,foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Order order;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "PRODUCT_ID", nullable = false
+            ,foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Product product;
+
+    @Column(name = "REQUEST_QUANTITY", nullable = false)
+    private int requestQuantity;
+
+    @Column(name = "UNIT_PRICE", nullable = false)
+    private long unitPrice;
+
+    @Column(name = "LINE_PRICE", nullable = false)
+    private long linePrice;
+
+    protected OrderLine() {}
+
+    public OrderLine(Order order, Product product, int requestQuantity) {
+        this.order = order;
+        this.product = product;
+        this.requestQuantity = requestQuantity;
+        this.unitPrice = product.getPrice();
+        this.linePrice = product.getPrice() * requestQuantity;
+    }
+}
@@ -0,0 +1,72 @@
+package kr.hhplus.be.server.domain;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.enums.OutboxEventType;
+import kr.hhplus.be.server.enums.OutboxStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "OUTBOX_EVENT",
+        indexes = @Index(name = "IDX_OUTBOX_STATUS_ID", columnList = "OUTBOX_STATUS, OUTBOX_ID"))
+@Getter
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "OUTBOX_ID")
+    private Long id;
+
+    @Column(name = "EVENT_TYPE", length = 30, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    @Column(name = "PAYLOAD", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "OUTBOX_STATUS", length = 20, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    @Column(name = "ATTEMPT_COUNT", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "CREATED_DATETIME", nullable = false)
+    private LocalDateTime createdDateTime;
+
+    @Column(name = "DISPATCHED_DATETIME")
+    private LocalDateTime dispatchedDateTime;
+
+    @Column(name = "PUBLISHED_DATETIME")
+    private LocalDateTime publishedDateTime;
+
+    protected OutboxEvent() {}
+
+    public OutboxEvent(OutboxEventType eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.createdDateTime = LocalDateTime.now();
+    }
+
+    public static OutboxEvent create(OutboxEventType eventType, String payload) {
+        return new OutboxEvent(eventType, payload);
+    }
+
+    /**
+     * 핸들러로 전달 시작 - 처리 핸들러가 ack하기 전까지 DISPATCHED로 두고, ack 대기 시간이 지나면 다시 전달한다
+     * @return 최대 전달 횟수를 넘겨 FAILED로 바뀌면 false
+     */
+    public boolean dispatch(int maxAttempts, LocalDateTime now) {
+        if (this.attemptCount >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return false;
+        }
+        this.attemptCount += 1;
+        this.status = OutboxStatus.DISPATCHED;
+        this.dispatchedDateTime = now;
+        return true;
+    }
+
+}
@@ -7,8 +7,16 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+/**
+ * 포인트 이력 - 운영 DB에서는 거래일시 기준 월별 RANGE 파티션 테이블 (db/point_hist_partition.sql)
+ * 파티션 키가 PK에 포함되어야 하므로 실제 PK는 (POINT_HIST_ID, TRANSACTION_DATETIME)이고, 파티션 테이블은 FK를 지원하지 않는다.
+ */
 @Entity
-@Table(name = "POINT_HIST")
+@Table(name = "POINT_HIST", indexes = {
+        // 사용자 이력 키셋 페이징 + 목록 컬럼을 포함한 커버링 인덱스
+        @Index(name = "IDX_POINT_HIST_USER_DATETIME",
+                columnList = "USER_ID, TRANSACTION_DATETIME, POINT_HIST_ID, TRANSACTION_TYPE, AMOUNT, CURRENT_BALANCE, PAYMENT_ID")
+})
 @Getter
 @AllArgsConstructor
 public class PointHist {
@@ -49,7 +57,7 @@ public class PointHist {
         this.transactionDateTime = LocalDateTime.now();
     }
 
-    public PointHist(User user, TransactionType transactionType, long amount, long currentBalance, long paymentNo) {
+    public PointHist(User user, TransactionType transactionType, long amount, long currentBalance, Long paymentNo) {
         this.user = user;
         this.transactionType = transactionType;
         this.amount = amount;
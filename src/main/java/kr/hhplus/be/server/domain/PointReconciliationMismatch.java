@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.domain;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.dto.point.PointBalanceCheck;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 정합성 검사 불일치 보고 - USERS.USER_POINT와 마지막 POINT_HIST 거래 후 잔액이 다른 사용자
+ */
+@Entity
+@Table(name = "POINT_RECONCILIATION_MISMATCH", indexes = {
+        @Index(name = "IDX_POINT_RECONCILIATION_MISMATCH_RUN", columnList = "RUN_ID, USER_ID")
+})
+@Getter
+public class PointReconciliationMismatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "MISMATCH_ID")
+    private Long id;
+
+    @Column(name = "RUN_ID", nullable = false)
+    private Long runId;
+
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+
+    @Column(name = "USER_POINT", nullable = false)
+    private long userPoint;
+
+    @Column(name = "HIST_BALANCE", nullable = false)
+    private long histBalance;
+
+    @Column(name = "LAST_POINT_HIST_ID", nullable = false)
+    private Long lastPointHistId;
+
+    @Column(name = "DETECTED_DATETIME", nullable = false)
+    private LocalDateTime detectedDateTime;
+
+    protected PointReconciliationMismatch() {}
+
+    public PointReconciliationMismatch(Long runId, PointBalanceCheck check) {
+        this.runId = runId;
+        this.userId = check.userId();
+        this.userPoint = check.userPoint();
+        this.histBalance = check.histBalance();
+        this.lastPointHistId = check.lastPointHistId();
+        this.detectedDateTime = LocalDateTime.now();
+    }
+}
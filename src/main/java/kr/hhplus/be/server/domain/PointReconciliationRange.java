@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 정합성 검사 체크포인트 - 검사를 마친 사용자 ID 범위 (불일치 저장과 같은 트랜잭션에서 기록)
+ */
+@Entity
+@Table(name = "POINT_RECONCILIATION_RANGE", uniqueConstraints = {
+        @UniqueConstraint(name = "UK_POINT_RECONCILIATION_RANGE", columnNames = {"RUN_ID", "START_USER_ID"})
+})
+@Getter
+public class PointReconciliationRange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "RANGE_ID")
+    private Long id;
+
+    @Column(name = "RUN_ID", nullable = false)
+    private Long runId;
+
+    @Column(name = "START_USER_ID", nullable = false)
+    private long startUserId;
+
+    @Column(name = "END_USER_ID", nullable = false)
+    private long endUserId;
+
+    @Column(name = "CHECKED_COUNT", nullable = false)
+    private long checkedCount;
+
+    @Column(name = "MISMATCH_COUNT", nullable = false)
+    private long mismatchCount;
+
+    @Column(name = "COMPLETED_DATETIME", nullable = false)
+    private LocalDateTime completedDateTime;
+
+    protected PointReconciliationRange() {}
+
+    public PointReconciliationRange(Long runId, long startUserId, long endUserId, long checkedCount, long mismatchCount) {
+        this.runId = runId;
+        this.startUserId = startUserId;
+        this.endUserId = endUserId;
+        this.checkedCount = checkedCount;
+        this.mismatchCount = mismatchCount;
+        this.completedDateTime = LocalDateTime.now();
+    }
+}
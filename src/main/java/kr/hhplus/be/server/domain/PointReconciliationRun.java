@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.domain;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.enums.ReconciliationStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 정합성 검사 실행 - 시작 시점의 사용자 ID 구간과 범위 크기를 고정해 두고 재개 시 같은 범위로 나눈다
+ */
+@Entity
+@Table(name = "POINT_RECONCILIATION_RUN")
+@Getter
+public class PointReconciliationRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "RUN_ID")
+    private Long id;
+
+    @Column(name = "STATUS", length = 20, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ReconciliationStatus status;
+
+    @Column(name = "MIN_USER_ID", nullable = false)
+    private long minUserId;
+
+    @Column(name = "MAX_USER_ID", nullable = false)
+    private long maxUserId;
+
+    @Column(name = "RANGE_SIZE", nullable = false)
+    private long rangeSize;
+
+    @Column(name = "CHECKED_COUNT", nullable = false)
+    private long checkedCount;
+
+    @Column(name = "MISMATCH_COUNT", nullable = false)
+    private long mismatchCount;
+
+    @Column(name = "STARTED_DATETIME", nullable = false)
+    private LocalDateTime startedDateTime;
+
+    @Column(name = "FINISHED_DATETIME")
+    private LocalDateTime finishedDateTime;
+
+    protected PointReconciliationRun() {}
+
+    public PointReconciliationRun(long minUserId, long maxUserId, long rangeSize) {
+        this.status = ReconciliationStatus.RUNNING;
+        this.minUserId = minUserId;
+        this.maxUserId = maxUserId;
+        this.rangeSize = rangeSize;
+        this.startedDateTime = LocalDateTime.now();
+    }
+
+    public void complete(long checkedCount, long mismatchCount) {
+        this.status = ReconciliationStatus.COMPLETED;
+        this.checkedCount = checkedCount;
+        this.mismatchCount = mismatchCount;
+        this.finishedDateTime = LocalDateTime.now();
+    }
+}
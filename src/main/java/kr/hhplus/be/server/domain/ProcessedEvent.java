@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료된 이벤트 - (이벤트ID, 소비자) 유니크 키로 중복 처리를 막는다
+ * 행은 ProcessedEventJdbcRepository가 핸들러 트랜잭션 안에서 INSERT IGNORE로 기록하고,
+ * Redis 표시와 같은 보관 기간이 지나면 ProcessedEventPurgeBatch가 지운다.
+ */
+@Entity
+@Table(name = "PROCESSED_EVENT",
+        uniqueConstraints = @UniqueConstraint(name = "UK_PROCESSED_EVENT", columnNames = {"EVENT_ID", "CONSUMER"}),
+        indexes = @Index(name = "IDX_PROCESSED_EVENT_DATETIME", columnList = "PROCESSED_DATETIME"))
+@Getter
+public class ProcessedEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "PROCESSED_EVENT_ID")
+    private Long id;
+
+    @Column(name = "EVENT_ID", length = 36, nullable = false)
+    private String eventId;
+
+    @Column(name = "CONSUMER", length = 30, nullable = false)
+    private String consumer;
+
+    @Column(name = "PROCESSED_DATETIME", nullable = false)
+    private LocalDateTime processedDateTime;
+
+    protected ProcessedEvent() {}
+}
@@ -34,6 +34,14 @@ public class Product {
     @Column(name = "PRODUCT_TYPE", length = 20)
     private String type;
 
+    @Column(name = "STOCK_SLOT_COUNT")
+    private int stockSlotCount;
+
+    // 기존 행은 db/version_columns.sql로 0을 채운 뒤 배포
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version = 0L;
+
     protected Product() {}
 
     public Product(long id, String name, ProductStatus status, int quantity, int sellQuantity,long price, String type) {
@@ -71,6 +79,20 @@ public class Product {
         this.quantity += quantity;
     }
 
+    public boolean isStockSharded() {
+        return stockSlotCount > 1;
+    }
+
+    /**
+     * 재고를 슬롯으로 이관하고 이관한 수량을 반환
+     */
+    public int moveStockToSlots(int slotCount) {
+        int movedQuantity = this.quantity;
+        this.stockSlotCount = slotCount;
+        this.quantity = 0;
+        return movedQuantity;
+    }
+
     public void checkPrice(long requestPrice, long productPrice) {
         if(requestPrice != productPrice) {
             throw new CustomException("요청하신 상품 금액이 다릅니다.");
@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 상품 재고 분할 슬롯
+ * 인기 상품의 재고를 N개 행으로 나누어 단일 행 경합을 분산한다.
+ */
+@Entity
+@Getter
+@Table(name = "PRODUCT_STOCK_SLOT",
+        uniqueConstraints = @UniqueConstraint(name = "UK_PRODUCT_STOCK_SLOT", columnNames = {"PRODUCT_ID", "SLOT_NO"}))
+public class ProductStockSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "SLOT_ID")
+    private Long id;
+
+    @Column(name = "PRODUCT_ID", nullable = false)
+    private Long productId;
+
+    @Column(name = "SLOT_NO", nullable = false)
+    private int slotNo;
+
+    @Column(name = "QUANTITY", nullable = false)
+    private int quantity;
+
+    @Column(name = "SELL_QUANTITY", nullable = false)
+    private int sellQuantity;
+
+    protected ProductStockSlot() {}
+
+    public ProductStockSlot(Long productId, int slotNo, int quantity) {
+        this.productId = productId;
+        this.slotNo = slotNo;
+        this.quantity = quantity;
+    }
+
+    public int take(int amount) {
+        int taken = Math.min(quantity, amount);
+        this.quantity -= taken;
+        this.sellQuantity += taken;
+        return taken;
+    }
+
+}
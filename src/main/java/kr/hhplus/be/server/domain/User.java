@@ -30,6 +30,11 @@ public class User {
     @Column(name = "REG_DATETIME", nullable = false)
     private LocalDateTime registeredAt;
 
+    // 기존 행은 db/version_columns.sql로 0을 채운 뒤 배포
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version = 0L;
+
     protected User() { }
 
     public User(long id, String name, UserStatus status, Long point) {
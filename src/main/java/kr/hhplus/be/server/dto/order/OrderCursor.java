@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.dto.order;
+
+import kr.hhplus.be.server.exception.custom.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서 - 마지막으로 내려준 주문의 (주문일시, 주문번호)
+ */
+public record OrderCursor(
+        LocalDateTime orderDateTime,
+        Long orderId
+) {
+    public static OrderCursor from(OrderSummary summary) {
+        return new OrderCursor(summary.orderDateTime(), summary.orderId());
+    }
+
+    public String encode() {
+        String raw = orderDateTime + "|" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new OrderCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CustomException("잘못된 커서입니다.");
+        }
+    }
+}
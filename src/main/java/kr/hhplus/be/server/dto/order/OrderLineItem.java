@@ -0,0 +1,6 @@
+package kr.hhplus.be.server.dto.order;
+
+public record OrderLineItem(
+        Long productId,
+        int requestQuantity
+) {}
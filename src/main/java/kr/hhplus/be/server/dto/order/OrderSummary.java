@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.dto.order;
+
+import kr.hhplus.be.server.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 프로젝션 - 연관 엔티티를 로딩하지 않고 커버링 인덱스 컬럼만 읽는다
+ */
+public record OrderSummary(
+        Long orderId,
+        Long productId,
+        OrderStatus status,
+        int requestQuantity,
+        long discountedPrice,
+        LocalDateTime orderDateTime
+) {}
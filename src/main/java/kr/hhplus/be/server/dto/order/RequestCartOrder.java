@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.dto.order;
+
+import java.util.List;
+
+public record RequestCartOrder(
+        Long userId,
+        List<OrderLineItem> lines,
+        long requestPrice
+) {}
@@ -25,5 +25,19 @@ public record ResponseOrder(
         );
     }
 
+    public static ResponseOrder fromCart(Order order, int lineCount) {
 
+        String productName = lineCount > 1
+                ? order.getProduct().getName() + " 외 " + (lineCount - 1) + "건"
+                : order.getProduct().getName();
+
+        return new ResponseOrder(
+                order.getUser().getName(),
+                productName,
+                "쿠폰을 찾을 수 없음",
+                false,
+                order.getOriginalPrice(),
+                order.getDiscountedPrice()
+        );
+    }
 }
@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.dto.order;
+
+import java.util.List;
+
+public record ResponseOrderHistory(
+        List<OrderSummary> orders,
+        String nextCursor
+) {}
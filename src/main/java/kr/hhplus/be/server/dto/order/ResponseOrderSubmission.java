@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.dto.order;
+
+import kr.hhplus.be.server.enums.OrderSubmissionStatus;
+
+public record ResponseOrderSubmission(
+        String submissionId,
+        OrderSubmissionStatus status,
+        Long orderId,
+        String message
+) {}
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.dto.order;
+
+import kr.hhplus.be.server.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+public record ResponseOrderSummary(
+        Long orderId,
+        Long userId,
+        String userName,
+        Long productId,
+        String productName,
+        int requestQuantity,
+        long originalPrice,
+        long requestPrice,
+        OrderStatus status,
+        Long paymentId,
+        LocalDateTime orderDateTime
+) {}
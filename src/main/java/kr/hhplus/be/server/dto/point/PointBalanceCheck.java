@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.dto.point;
+
+/**
+ * 정합성 검사용 행 - 사용자 잔액과 마지막 포인트 이력의 거래 후 잔액
+ * 보관기간 안에 이력이 없으면 histBalance, lastPointHistId는 null
+ */
+public record PointBalanceCheck(
+        Long userId,
+        long userPoint,
+        Long histBalance,
+        Long lastPointHistId
+) {
+
+    public boolean hasHistory() {
+        return histBalance != null;
+    }
+
+    /**
+     * 이력이 없으면 비교할 기준이 없으므로 일치로 본다
+     */
+    public boolean isMatched() {
+        return !hasHistory() || userPoint == histBalance;
+    }
+}
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.dto.point;
+
+import kr.hhplus.be.server.exception.custom.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 포인트 이력 커서 - 마지막으로 내려준 이력의 (거래일시, 이력번호)
+ */
+public record PointHistCursor(
+        LocalDateTime transactionDateTime,
+        Long pointHistId
+) {
+    public static PointHistCursor from(PointHistSummary summary) {
+        return new PointHistCursor(summary.transactionDateTime(), summary.pointHistId());
+    }
+
+    public String encode() {
+        String raw = transactionDateTime + "|" + pointHistId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PointHistCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new PointHistCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CustomException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.dto.point;
+
+import kr.hhplus.be.server.enums.TransactionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 이력 조회용 프로젝션 - 사용자 엔티티를 로딩하지 않고 커버링 인덱스 컬럼만 읽는다
+ */
+public record PointHistSummary(
+        Long pointHistId,
+        TransactionType transactionType,
+        long amount,
+        long currentBalance,
+        Long paymentId,
+        LocalDateTime transactionDateTime
+) {}
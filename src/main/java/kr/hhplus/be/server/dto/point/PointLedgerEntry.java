@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.dto.point;
+
+import kr.hhplus.be.server.enums.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 포인트 원장 스트림 항목 - 변경 후 잔액을 함께 기록해 USERS에는 사용자별 마지막 잔액만 반영한다
+ */
+public record PointLedgerEntry(
+        Long userId,
+        TransactionType transactionType,
+        long amount,
+        long balance,
+        Long paymentId,
+        LocalDateTime transactionDateTime
+) {
+    public static PointLedgerEntry from(Map<?, ?> fields) {
+        String paymentId = String.valueOf(fields.get("paymentId"));
+
+        return new PointLedgerEntry(
+                Long.valueOf(String.valueOf(fields.get("userId"))),
+                TransactionType.valueOf(String.valueOf(fields.get("type"))),
+                Long.parseLong(String.valueOf(fields.get("amount"))),
+                Long.parseLong(String.valueOf(fields.get("balance"))),
+                paymentId.isEmpty() ? null : Long.valueOf(paymentId),
+                LocalDateTime.parse(String.valueOf(fields.get("at")))
+        );
+    }
+}
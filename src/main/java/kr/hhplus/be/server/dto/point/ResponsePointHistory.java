@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.dto.point;
+
+import java.util.List;
+
+public record ResponsePointHistory(
+        List<PointHistSummary> histories,
+        String nextCursor
+) {}
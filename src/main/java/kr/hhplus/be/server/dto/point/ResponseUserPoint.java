@@ -15,5 +15,13 @@ public record ResponseUserPoint(
         );
     }
 
+    public static ResponseUserPoint of(User user, long userPoint) {
+        return new ResponseUserPoint(
+                user.getId(),
+                user.getName(),
+                userPoint
+        );
+    }
+
 
 }
@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.dto.product;
+
+/**
+ * 슬롯 재고 합계 projection
+ */
+public interface ProductStockSummary {
+    Long getProductId();
+    Long getQuantity();
+    Long getSellQuantity();
+}
@@ -11,6 +11,24 @@ public record ResponseProduct(
         long price,
         String productType
 ) {
+    /**
+     * 분할 재고 상품은 슬롯 합계를 더해 응답
+     */
+    public static ResponseProduct from(Product product, ProductStockSummary summary) {
+        if (summary == null) {
+            return from(product);
+        }
+
+        return new ResponseProduct(
+                product.getId(),
+                product.getName(),
+                product.getQuantity() + summary.getQuantity().intValue(),
+                product.getSellQuantity() + summary.getSellQuantity().intValue(),
+                product.getPrice(),
+                product.getType()
+        );
+    }
+
     public static ResponseProduct from(Product product) {
         return new ResponseProduct(
                 product.getId(),
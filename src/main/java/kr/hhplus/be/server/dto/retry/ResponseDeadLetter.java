@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.dto.retry;
+
+import kr.hhplus.be.server.domain.EventDeadLetter;
+import kr.hhplus.be.server.enums.EventHandlerType;
+
+import java.time.LocalDateTime;
+
+public record ResponseDeadLetter(
+        Long deadLetterId,
+        EventHandlerType handlerType,
+        String payload,
+        int attemptCount,
+        String lastError,
+        LocalDateTime firstFailedDateTime,
+        LocalDateTime deadDateTime
+) {
+    public static ResponseDeadLetter from(EventDeadLetter deadLetter) {
+        return new ResponseDeadLetter(
+                deadLetter.getId(),
+                deadLetter.getHandlerType(),
+                deadLetter.getPayload(),
+                deadLetter.getAttemptCount(),
+                deadLetter.getLastError(),
+                deadLetter.getFirstFailedDateTime(),
+                deadLetter.getDeadDateTime()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.dto.waiting;
+
+import kr.hhplus.be.server.enums.WaitingStatus;
+
+public record ResponseWaitingPosition(
+        Long productId,
+        Long userId,
+        WaitingStatus status,
+        long position,
+        long expectedWaitSeconds,
+        String token
+) {
+    public static ResponseWaitingPosition waiting(Long productId, Long userId, long position, long expectedWaitSeconds) {
+        return new ResponseWaitingPosition(productId, userId, WaitingStatus.WAITING, position, expectedWaitSeconds, null);
+    }
+
+    public static ResponseWaitingPosition admitted(Long productId, Long userId, String token) {
+        return new ResponseWaitingPosition(productId, userId, WaitingStatus.ADMITTED, 0, 0, token);
+    }
+}
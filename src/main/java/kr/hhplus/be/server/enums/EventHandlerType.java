@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.enums;
+
+import kr.hhplus.be.server.eventHandler.OrderCreatedEvent;
+import kr.hhplus.be.server.eventHandler.PointDeductedEvent;
+
+/**
+ * 재시도 대상 이벤트 핸들러
+ */
+public enum EventHandlerType {
+    POINT_DEDUCTION("포인트차감", OrderCreatedEvent.class),
+    PAYMENT("결제", PointDeductedEvent.class);
+
+    private final String description;
+    private final Class<?> eventClass;
+
+    EventHandlerType(String description, Class<?> eventClass) {
+        this.description = description;
+        this.eventClass = eventClass;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Class<?> getEventClass() {
+        return eventClass;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.enums;
+
+public enum OrderSubmissionStatus {
+    QUEUED("접수"),
+    PROCESSING("주문생성중"),
+    IN_PROGRESS("진행중"),
+    COMPLETED("완료"),
+    CANCELLED("취소됨"),
+    FAILED("주문실패");
+
+    private final String description;
+
+    OrderSubmissionStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == CANCELLED || this == FAILED;
+    }
+
+    public static OrderSubmissionStatus from(OrderStatus orderStatus) {
+        return switch (orderStatus) {
+            case IN_PROGRESS -> IN_PROGRESS;
+            case COMPLETED -> COMPLETED;
+            case CANCELLED -> CANCELLED;
+        };
+    }
+}
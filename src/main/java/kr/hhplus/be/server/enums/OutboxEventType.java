@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.enums;
+
+import kr.hhplus.be.server.eventHandler.OrderCreatedEvent;
+import kr.hhplus.be.server.eventHandler.PaymentCompletedEvent;
+import kr.hhplus.be.server.eventHandler.PointDeductedEvent;
+
+public enum OutboxEventType {
+    ORDER_CREATED("주문생성", OrderCreatedEvent.class),
+    POINT_DEDUCTED("포인트차감", PointDeductedEvent.class),
+    PAYMENT_COMPLETED("결제완료", PaymentCompletedEvent.class);
+
+    private final String description;
+    private final Class<?> eventClass;
+
+    OutboxEventType(String description, Class<?> eventClass) {
+        this.description = description;
+        this.eventClass = eventClass;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Class<?> getEventClass() {
+        return eventClass;
+    }
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.enums;
+
+public enum OutboxStatus {
+    PENDING("발행대기"),
+    DISPATCHED("전달중"),
+    PUBLISHED("발행완료"),
+    FAILED("발행실패");
+
+    private final String description;
+
+    OutboxStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.enums;
+
+public enum PointDeductMode {
+    PESSIMISTIC_LOCK("비관적 락"),
+    OPTIMISTIC_LOCK("낙관적 락");
+
+    private final String description;
+
+    PointDeductMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
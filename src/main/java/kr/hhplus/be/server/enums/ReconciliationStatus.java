@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.enums;
+
+public enum ReconciliationStatus {
+    RUNNING("진행중"),
+    COMPLETED("완료");
+
+    private final String description;
+
+    ReconciliationStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
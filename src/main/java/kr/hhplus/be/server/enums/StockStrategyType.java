@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.enums;
+
+public enum StockStrategyType {
+    DISTRIBUTED_LOCK("분산락"),
+    PESSIMISTIC_LOCK("비관적 락"),
+    OPTIMISTIC_LOCK("낙관적 락"),
+    ATOMIC_UPDATE("조건부 UPDATE"),
+    REDIS_LUA("Redis Lua 예약"),
+    SHARDED_SLOT("분할 슬롯");
+
+    private final String description;
+
+    StockStrategyType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.enums;
+
+public enum WaitingStatus {
+    WAITING("대기중"),
+    ADMITTED("입장허용");
+
+    private final String description;
+
+    WaitingStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -1,7 +1,10 @@
 package kr.hhplus.be.server.eventHandler;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -10,8 +13,24 @@ import java.util.concurrent.ThreadPoolExecutor;
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    // 가상 스레드 모드에서 동시에 실행되는 주문 이벤트 수 (커넥션 풀을 넘지 않도록 제한)
+    @Value("${order.executor.virtual-concurrency-limit:${spring.datasource.hikari.maximum-pool-size:3}}")
+    private int virtualConcurrencyLimit;
+
     @Bean(name = "orderTaskExecutor")
-    public ThreadPoolTaskExecutor orderTaskExecutor() {
+    public AsyncTaskExecutor orderTaskExecutor() {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Order-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit); // 초과 시 제출 스레드가 대기
+            executor.setTaskTerminationTimeout(60_000);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);        // 기본 스레드 수
         executor.setMaxPoolSize(50);         // 최대 스레드 수
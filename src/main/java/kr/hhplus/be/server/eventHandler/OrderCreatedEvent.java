@@ -1,14 +1,19 @@
 package kr.hhplus.be.server.eventHandler;
 
 import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.dto.order.OrderLineItem;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 @Getter
 @AllArgsConstructor
 public class OrderCreatedEvent {
+    // 재전달 시 중복 처리 방지용 이벤트 ID
+    private final String eventId;
     private final Long orderId;
     private final Long userId;
     private final Long productId;
@@ -18,19 +23,43 @@ public class OrderCreatedEvent {
     private final LocalDateTime createdAt;
     private final String productName;
     private final String userName;
+    // 장바구니 주문 라인 (단건 주문은 비어있음)
+    private final List<OrderLineItem> lines;
 
     public static OrderCreatedEvent of(Order order) {
+        return ofCart(order, List.of());
+    }
+
+    public static OrderCreatedEvent ofCart(Order order, List<OrderLineItem> lines) {
+        return of(order, order.getId(), lines);
+    }
+
+    /**
+     * JDBC로 일괄 저장해 엔티티에 ID가 없는 주문
+     */
+    public static OrderCreatedEvent of(Order order, Long orderId, List<OrderLineItem> lines) {
         return new OrderCreatedEvent(
-                order.getId(),
+                UUID.randomUUID().toString(),
+                orderId,
                 order.getUser().getId(),
                 order.getProduct().getId(),
                 order.getRequestQuantity(),
                 order.getOriginalPrice(),
                 order.getDiscountedPrice(),
                 order.getOrderDateTime(),
+                order.getProduct().getName(),
                 order.getUser().getName(),
-                order.getProduct().getName()
-
+                lines
         );
     }
+
+    /**
+     * 재고/인기도 반영 대상 라인 - 단건 주문은 주문 상품 한 줄
+     */
+    public List<OrderLineItem> stockLines() {
+        if (lines == null || lines.isEmpty()) {
+            return List.of(new OrderLineItem(productId, requestQuantity));
+        }
+        return lines;
+    }
 }
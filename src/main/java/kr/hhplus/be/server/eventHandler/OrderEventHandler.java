@@ -1,18 +1,24 @@
 package kr.hhplus.be.server.eventHandler;
 
 import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.config.UserKeyedExecutor;
 import kr.hhplus.be.server.enums.TransactionType;
 import kr.hhplus.be.server.domain.Payment;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.enums.EventHandlerType;
+import kr.hhplus.be.server.enums.OrderStatus;
+import kr.hhplus.be.server.enums.OrderSubmissionStatus;
 import kr.hhplus.be.server.enums.UserStatus;
 import kr.hhplus.be.server.exception.custom.CustomException;
 import kr.hhplus.be.server.service.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -36,78 +42,354 @@ public class OrderEventHandler {
     private final OrderEventPublisher orderEventPublisher;
     private final PointHistService pointHistService;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderSubmissionService orderSubmissionService;
+    private final OrderSummaryService orderSummaryService;
+    private final ReservationExpiryService reservationExpiryService;
+    private final EventRetryService eventRetryService;
+    private final EventDeduplicator eventDeduplicator;
+    private final UserKeyedExecutor userKeyedExecutor;
+    private final PointLedgerService pointLedgerService;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
     private final ExecutorService stockDecreaseExecutor = Executors.newSingleThreadExecutor();
 
+    // 중복 처리 방지 기록의 소비자 구분
+    private static final String POINT_DEDUCTION_CONSUMER = "point-deduction";
+    private static final String PAYMENT_CONSUMER = "payment";
+    private static final String ORDER_INFO_CONSUMER = "order-info";
+
+    @Value("${order.pipeline.enabled:true}")
+    private boolean pipelineEnabled;
+
+    /**
+     * 주문 생성 이후 처리
+     * 일시적인 장애는 재시도 대기열로 보내고, 그 외 실패는 보상 트랜잭션으로 주문을 취소한다.
+     * 포인트를 변경하므로 사용자별 직렬 실행기에서 실행한다 (비활성화 시 orderTaskExecutor).
+     * outbox 이벤트는 처리/재시도 등록/취소를 커밋하는 트랜잭션에서 ack한다.
+     */
     @EventListener
-    @Async("orderTaskExecutor")
-    @Transactional
     public void handlePointDeduction(OrderCreatedEvent event) {
-        try {
-            pointService.deductPointsWithLock(
-                    event.getUserId(),
-                    event.getRequestPrice()
-            );
-            orderEventPublisher.publishPointDeducted(
-                    PointDeductedEvent.of(event)
-            );
+        Long outboxId = OutboxDelivery.claim();
+        userKeyedExecutor.execute(event.getUserId(), () -> {
+            try {
+                executePointDeduction(event, outboxId);
+            } catch (Exception e) {
+                log.error("주문 처리 실패 - 주문ID: {}", event.getOrderId(), e);
+                handleOrderFailure(event, e, outboxId);
+            }
+        });
+    }
 
-        } catch (Exception e) {
-            productService.increaseStock(event.getProductId(), event.getRequestQuantity());
-            orderService.cancelOrder(event.getOrderId());
+    /**
+     * 결제 실패 시 포인트를 환불하므로 같은 사용자 줄에서 실행한다
+     */
+    @EventListener(condition = "!#root.event.pipelined")
+    public void handlePayment(PointDeductedEvent event) {
+        Long outboxId = OutboxDelivery.claim();
+        userKeyedExecutor.execute(event.getUserId(), () -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    orderEventPublisher.acknowledge(outboxId);
+                    processPayment(event);
+                });
+            } catch (Exception e) {
+                log.error("결제 처리 실패 - 주문ID: {}", event.getOrderId(), e);
+                recordRetry(EventHandlerType.PAYMENT, event, e, outboxId);
+            }
+        });
+    }
+
+    /**
+     * 재시도 스케줄러에서 호출 - 실패하면 예외를 던져 다음 재시도로 넘긴다
+     * 그 사이 만료/취소된 주문은 건너뛴다.
+     */
+    public void retryPointDeduction(OrderCreatedEvent event) {
+        if (!isInProgress(event.getOrderId())) {
+            return;
         }
+
+        userKeyedExecutor.call(event.getUserId(), () -> {
+            try {
+                executePointDeduction(event, null);
+            } catch (RuntimeException e) {
+                if (EventRetryService.isRetryable(e)) {
+                    throw e;
+                }
+                cancelOrder(event, null);
+            }
+            return null;
+        });
+    }
+
+    public void retryPayment(PointDeductedEvent event) {
+        if (!isInProgress(event.getOrderId())) {
+            return;
+        }
+
+        userKeyedExecutor.call(event.getUserId(), () -> {
+            transactionTemplate.executeWithoutResult(status -> processPayment(event));
+            return null;
+        });
     }
 
+    /**
+     * 주문 조회 모델 갱신 - Redis 쓰기 한 번이라 발행 스레드에서 바로 처리
+     */
     @EventListener
-    @Async("orderTaskExecutor")
-    @Transactional
-    public void handlePayment(PointDeductedEvent event) {
-        try {
+    public void projectOrderCreated(OrderCreatedEvent event) {
+        orderSummaryService.onCreated(event);
+    }
 
-            Payment result = paymentService.processPayment(
-                    event.getOrderId(),
-                    event.getRequestPrice()
-            );
+    @EventListener
+    public void projectPaymentCompleted(PaymentCompletedEvent event) {
+        orderSummaryService.onPaymentCompleted(event);
+    }
 
-            if (result.getStatus().isCompleted()) {
-                orderService.completeOrder(event.getOrderId());
+    /**
+     * outbox 전달 여부를 발행 스레드에서 확인해야 하므로 @Async 대신 직접 실행기로 넘긴다
+     * 처리 표시와 전송을 한 트랜잭션으로 묶어 전송이 실패하면 표시도 롤백되고 ack 없이 다시 전달된다.
+     */
+    @EventListener
+    public void sendOrderInfo(PaymentCompletedEvent event) {
+        Long outboxId = OutboxDelivery.claim();
+        userKeyedExecutor.execute(event.getUserId(), () -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    orderEventPublisher.acknowledge(outboxId);
 
-                pointHistService.createPointHist(
-                        userService.getUserInfo(event.getUserId(), UserStatus.ACTIVE),
-                        TransactionType.USE,
-                        event.getRequestPrice(),
-                        userService.getUserInfo(event.getUserId(), UserStatus.ACTIVE).getPoint(),
-                        result.getId()
-                );
+                    if (!eventDeduplicator.markProcessed(event.getEventId(), ORDER_INFO_CONSUMER)) {
+                        return;
+                    }
 
-                updatePopularityScore(event.getProductId(), event.getRequestQuantity());
+                    log.info("주문정보 전송 시작 - 주문ID: {}", event.getOrderId());
 
-                orderEventPublisher.publishPaymentCompleted(
-                        PaymentCompletedEvent.of(event, result.getId(),true)
-                );
+                    OrderTransferData orderData = createOrderTransferData(event);
+
+                    sendOrderData(orderData);
+                    log.info("주문정보 전송 완료 - 주문ID: {}", event.getOrderId());
+                });
+            } catch (Exception e) {
+                log.error("주문정보 전송 실패 - 주문ID: {}", event.getOrderId(), e);
+            }
+        });
+    }
+
+    /**
+     * 파이프라인 모드에서는 포인트 차감/결제/이력/인기도 갱신을 한 트랜잭션에서 처리하고,
+     * 그렇지 않으면 포인트 차감 후 PointDeductedEvent로 결제 단계를 이어간다.
+     */
+    private void executePointDeduction(OrderCreatedEvent event, Long outboxId) {
+        if (pipelineEnabled) {
+            processOrderPipeline(event, outboxId);
+            return;
+        }
+
+        inPointTransaction(status -> {
+            orderEventPublisher.acknowledge(outboxId);
+
+            if (!eventDeduplicator.markProcessed(event.getEventId(), POINT_DEDUCTION_CONSUMER)) {
+                return null;
+            }
+
+            orderService.markPointDeducted(event.getOrderId(), event.getRequestPrice());
+
+            if (pointLedgerService.isEnabled()) {
+                pointLedgerService.deduct(event.getUserId(), event.getRequestPrice(), null);
             } else {
-                handlePaymentFailure(event);
+                deductPoints(
+                        event.getUserId(),
+                        event.getRequestPrice()
+                );
             }
+            orderEventPublisher.publishPointDeducted(
+                    PointDeductedEvent.of(event)
+            );
+            return null;
+        });
+    }
 
-        } catch (Exception e) {
+    /**
+     * 파이프라인 모드 - 주문 1건을 하나의 트랜잭션으로 처리
+     * 사용자는 잠금 조회 한 번으로 차감과 이력 기록에 함께 사용하고,
+     * 확장용 PointDeductedEvent/PaymentCompletedEvent는 그대로 발행한다.
+     */
+    private void processOrderPipeline(OrderCreatedEvent event, Long outboxId) {
+        Boolean processed = inPointTransaction(status -> {
+            orderEventPublisher.acknowledge(outboxId);
+
+            if (!eventDeduplicator.markProcessed(event.getEventId(), POINT_DEDUCTION_CONSUMER)) {
+                return false;
+            }
+
+            Payment payment = pointLedgerService.isEnabled()
+                    ? completeWithLedger(event)
+                    : completeWithUserRow(event);
+
+            PointDeductedEvent pointDeductedEvent = PointDeductedEvent.pipelined(event);
+            orderEventPublisher.publishPointDeducted(pointDeductedEvent);
+            orderEventPublisher.publishPaymentCompleted(
+                    PaymentCompletedEvent.success(pointDeductedEvent, payment.getId())
+            );
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(processed)) {
+            return;
+        }
+
+        event.stockLines().forEach(line -> updatePopularityScore(line.productId(), line.requestQuantity()));
+
+        reservationExpiryService.clear(event.getOrderId());
+        orderSubmissionService.onOrderFinished(event.getOrderId(), OrderSubmissionStatus.COMPLETED);
+    }
+
+    private Payment completeWithUserRow(OrderCreatedEvent event) {
+        User user = deductPoints(event.getUserId(), event.getRequestPrice());
+
+        Payment payment = paymentService.processPayment(event.getOrderId(), event.getRequestPrice());
+
+        if (!payment.getStatus().isCompleted()) {
             throw new CustomException("결제실패");
         }
+
+        orderService.completeOrder(event.getOrderId());
+
+        pointHistService.createPointHist(
+                user,
+                TransactionType.USE,
+                event.getRequestPrice(),
+                user.getPoint(),
+                payment.getId()
+        );
+        return payment;
     }
 
-    @EventListener
-    @Async("orderTaskExecutor")
-    public void sendOrderInfo(PaymentCompletedEvent event) {
+    /**
+     * 포인트 원장 모드 - 결제/주문 완료 후 마지막에 Redis 원장에서 차감 (이력은 원장 기록기가 저장)
+     * 잔액이 부족하면 트랜잭션 전체가 롤백되고, 차감 이후 롤백되면 원장이 환불 기록으로 되돌린다.
+     */
+    private Payment completeWithLedger(OrderCreatedEvent event) {
+        Payment payment = paymentService.processPayment(event.getOrderId(), event.getRequestPrice());
 
-        try {
-            log.info("주문정보 전송 시작 - 주문ID: {}", event.getOrderId());
+        if (!payment.getStatus().isCompleted()) {
+            throw new CustomException("결제실패");
+        }
 
-            OrderTransferData orderData = createOrderTransferData(event);
+        orderService.completeOrder(event.getOrderId());
 
-            sendOrderData(orderData);
-            log.info("주문정보 전송 완료 - 주문ID: {}", event.getOrderId());
-        } catch (Exception e) {
-            log.error("주문정보 전송 실패 - 주문ID: {}", event.getOrderId(), e);
+        pointLedgerService.deduct(event.getUserId(), event.getRequestPrice(), payment.getId());
+        return payment;
+    }
+
+    /**
+     * 낙관적 락 모드에서는 버전 충돌 시 트랜잭션 전체를 다시 실행한다
+     */
+    private <T> T inPointTransaction(TransactionCallback<T> action) {
+        if (pointService.isOptimisticMode()) {
+            return optimisticRetryExecutor.execute(() -> transactionTemplate.execute(action));
         }
+        return transactionTemplate.execute(action);
+    }
 
+    /**
+     * 사용자별 직렬 실행 중이면 같은 사용자의 포인트 변경이 겹치지 않으므로 행 잠금을 생략할 수 있다
+     */
+    private User deductPoints(Long userId, long amount) {
+        if (userKeyedExecutor.isRowLockSkippable()) {
+            return pointService.deductPoints(userId, amount);
+        }
+        if (pointService.isOptimisticMode()) {
+            return pointService.deductPointsOptimistic(userId, amount);
+        }
+        return pointService.deductPointsWithLock(userId, amount);
+    }
+
+    private void processPayment(PointDeductedEvent event) {
+        if (!eventDeduplicator.markProcessed(event.getEventId(), PAYMENT_CONSUMER)) {
+            return;
+        }
+
+        Payment result = paymentService.processPayment(
+                event.getOrderId(),
+                event.getRequestPrice()
+        );
+
+        if (!result.getStatus().isCompleted()) {
+            handlePaymentFailure(event);
+            return;
+        }
+
+        orderService.completeOrder(event.getOrderId());
+
+        // 원장 모드에서는 차감 시점에 원장에 기록되어 기록기가 이력을 저장한다
+        if (!pointLedgerService.isEnabled()) {
+            pointHistService.createPointHist(
+                    userService.getUserInfo(event.getUserId(), UserStatus.ACTIVE),
+                    TransactionType.USE,
+                    event.getRequestPrice(),
+                    userService.getUserInfo(event.getUserId(), UserStatus.ACTIVE).getPoint(),
+                    result.getId()
+            );
+        }
+
+        orderService.getStockLines(event.getOrderId(), event.getProductId(), event.getRequestQuantity())
+                .forEach(line -> updatePopularityScore(line.productId(), line.requestQuantity()));
+
+        orderEventPublisher.publishPaymentCompleted(
+                PaymentCompletedEvent.of(event, result.getId(),true)
+        );
+
+        reservationExpiryService.clear(event.getOrderId());
+        orderSubmissionService.onOrderFinished(event.getOrderId(), OrderSubmissionStatus.COMPLETED);
+    }
+
+    /**
+     * 일시적인 DB/Redis 장애는 주문을 취소하지 않고 재시도 대기열로 보낸다
+     * 재시도가 모두 실패한 주문은 재고 점유 만료 시 취소된다.
+     */
+    private void handleOrderFailure(OrderCreatedEvent event, Exception e, Long outboxId) {
+        if (EventRetryService.isRetryable(e)) {
+            recordRetry(EventHandlerType.POINT_DEDUCTION, event, e, outboxId);
+            return;
+        }
+        cancelOrder(event, outboxId);
+    }
+
+    /**
+     * 재시도 등록과 outbox ack를 한 트랜잭션으로 - 등록에 실패하면 ack하지 않아 릴레이가 다시 전달한다
+     */
+    private void recordRetry(EventHandlerType handlerType, Object event, Exception e, Long outboxId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventRetryService.record(handlerType, event, e);
+            orderEventPublisher.acknowledge(outboxId);
+        });
+    }
+
+    private boolean isInProgress(Long orderId) {
+        OrderStatus status = orderService.getOrderStatus(orderId);
+        if (status != OrderStatus.IN_PROGRESS) {
+            log.info("진행중이 아닌 주문은 재시도하지 않음 - 주문ID: {}, 상태: {}", orderId, status);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 보상 트랜잭션 - 재고 복원 및 주문 취소
+     * 실패한 트랜잭션과 분리해 새 트랜잭션에서 실행한다.
+     */
+    private void cancelOrder(OrderCreatedEvent event, Long outboxId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderEventPublisher.acknowledge(outboxId);
+            // 주문을 먼저 잠가 예약 만료와 같은 순서(주문 -> 상품)로 잠그고, 이미 만료 취소된 주문이면 재고를 두 번 돌려놓지 않는다
+            if (orderService.cancelIfInProgress(event.getOrderId())) {
+                event.stockLines().forEach(line -> restoreStock(line.productId(), line.requestQuantity()));
+            }
+        });
+
+        reservationExpiryService.clear(event.getOrderId());
+        orderSummaryService.onCancelled(event.getOrderId());
+        orderSubmissionService.onOrderFinished(event.getOrderId(), OrderSubmissionStatus.CANCELLED);
     }
 
     private void updatePopularityScore(Long productId, int quantity) {
@@ -137,11 +419,24 @@ public class OrderEventHandler {
     }
 
     private void handlePaymentFailure(PointDeductedEvent event) {
+        // 이미 만료 취소된 주문이면 만료 처리에서 환불/재고 복원을 마쳤다
+        if (!orderService.cancelIfInProgress(event.getOrderId())) {
+            log.info("이미 취소된 주문 결제 실패 처리 생략 - 주문ID: {}", event.getOrderId());
+            return;
+        }
+
         pointService.refundPoints(event.getUserId(), event.getRequestPrice());
 
-        productService.increaseStock(event.getProductId(), event.getRequestQuantity());
+        orderService.getStockLines(event.getOrderId(), event.getProductId(), event.getRequestQuantity())
+                .forEach(line -> restoreStock(line.productId(), line.requestQuantity()));
+
+        reservationExpiryService.clear(event.getOrderId());
+        orderSummaryService.onCancelled(event.getOrderId());
+        orderSubmissionService.onOrderFinished(event.getOrderId(), OrderSubmissionStatus.CANCELLED);
+    }
 
-        orderService.cancelOrder(event.getOrderId());
+    private void restoreStock(Long productId, int quantity) {
+        productService.increaseStock(productId, quantity);
     }
 
     @PreDestroy
@@ -1,25 +1,85 @@
 package kr.hhplus.be.server.eventHandler;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.domain.OutboxEvent;
+import kr.hhplus.be.server.enums.OutboxEventType;
+import kr.hhplus.be.server.enums.OutboxStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 이벤트 발행
+ * outbox 모드에서는 호출한 트랜잭션 안에서 OUTBOX_EVENT에 기록하고, 실제 전달은 OutboxRelay가 담당한다.
+ * outbox를 끄면 기존처럼 JVM 내부로 발행하되, 트랜잭션 안이라면 커밋 이후에 발행한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class OrderEventPublisher {
 
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.outbox.enabled:true}")
+    private boolean outboxEnabled;
 
     public void publishOrderCreated(OrderCreatedEvent event) {
-        eventPublisher.publishEvent(event);
+        publish(OutboxEventType.ORDER_CREATED, event);
     }
 
     public void publishPointDeducted(PointDeductedEvent event) {
-        eventPublisher.publishEvent(event);
+        publish(OutboxEventType.POINT_DEDUCTED, event);
     }
 
     public void publishPaymentCompleted(PaymentCompletedEvent event) {
+        publish(OutboxEventType.PAYMENT_COMPLETED, event);
+    }
+
+    /**
+     * outbox 이벤트 처리 완료 - 핸들러가 처리 결과를 커밋하는 트랜잭션 안에서 호출한다 (릴레이 전달이 아니면 무시)
+     */
+    public void acknowledge(Long outboxId) {
+        if (outboxId == null) {
+            return;
+        }
+        outboxEventRepository.updateStatus(List.of(outboxId), OutboxStatus.PUBLISHED, LocalDateTime.now());
+    }
+
+    private void publish(OutboxEventType type, Object event) {
+        if (outboxEnabled) {
+            outboxEventRepository.save(OutboxEvent.create(type, toJson(event)));
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(event);
+                }
+            });
+            return;
+        }
+
         eventPublisher.publishEvent(event);
     }
 
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new CustomException("이벤트 직렬화 실패: " + event.getClass().getSimpleName());
+        }
+    }
+
 }
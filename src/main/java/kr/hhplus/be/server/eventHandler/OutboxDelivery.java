@@ -0,0 +1,47 @@
+package kr.hhplus.be.server.eventHandler;
+
+/**
+ * 릴레이가 전달 중인 outbox 이벤트
+ * 처리를 다른 스레드로 넘기는 핸들러는 발행 스레드에서 claim()으로 outbox ID를 받아 두고,
+ * 처리 결과를 커밋하는 트랜잭션에서 OrderEventPublisher.acknowledge로 PUBLISHED 처리한다.
+ * 가져간 핸들러가 없는 이벤트(동기 리스너만 있는 경우)는 발행이 끝나면 릴레이가 바로 PUBLISHED 처리한다.
+ * 이벤트 유형마다 ack하는 핸들러는 하나만 둔다.
+ */
+public final class OutboxDelivery {
+
+    private static final ThreadLocal<OutboxDelivery> CURRENT = new ThreadLocal<>();
+
+    private final Long outboxId;
+    private boolean claimed;
+
+    private OutboxDelivery(Long outboxId) {
+        this.outboxId = outboxId;
+    }
+
+    /**
+     * @return 핸들러가 ack를 맡았으면 true
+     */
+    static boolean publish(Long outboxId, Runnable publisher) {
+        OutboxDelivery delivery = new OutboxDelivery(outboxId);
+        CURRENT.set(delivery);
+        try {
+            publisher.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return delivery.claimed;
+    }
+
+    /**
+     * 리스너 진입 시(발행 스레드) 호출
+     * @return 릴레이가 전달 중이면 outbox ID, 아니면 null (JVM 내부 발행, 재시도 등)
+     */
+    public static Long claim() {
+        OutboxDelivery delivery = CURRENT.get();
+        if (delivery == null) {
+            return null;
+        }
+        delivery.claimed = true;
+        return delivery.outboxId;
+    }
+}
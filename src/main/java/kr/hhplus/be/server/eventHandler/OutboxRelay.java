@@ -0,0 +1,134 @@
+package kr.hhplus.be.server.eventHandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.domain.OutboxEvent;
+import kr.hhplus.be.server.enums.OutboxStatus;
+import kr.hhplus.be.server.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outbox 릴레이
+ * 발행 대기 이벤트를 배치 단위(FOR UPDATE SKIP LOCKED)로 가져와 DISPATCHED로 바꿔 커밋한 뒤 핸들러로 전달한다.
+ * 여러 노드에서 동시에 실행해도 같은 행을 중복으로 가져가지 않는다.
+ * 핸들러는 다른 스레드에서 처리하므로 전달만으로는 PUBLISHED로 두지 않는다. 처리 핸들러가 자기 트랜잭션에서 ack하고,
+ * ack 대기 시간(ack-timeout-ms)이 지나도록 ack가 없으면(노드 종료, 실행기 거부) 다시 전달한다. 재전달은 이벤트 ID 중복 방지로 한 번만 처리된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.outbox.enabled:true}")
+    private boolean outboxEnabled;
+
+    @Value("${order.outbox.relay-enabled:true}")
+    private boolean relayEnabled;
+
+    @Value("${order.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${order.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${order.outbox.ack-timeout-ms:60000}")
+    private long ackTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:100}")
+    public void relay() {
+        if (!outboxEnabled || !relayEnabled) {
+            return;
+        }
+
+        try {
+            int fetched;
+            do {
+                fetched = relayBatch();
+            } while (fetched == batchSize);
+        } catch (Exception e) {
+            log.error("Outbox 릴레이 실패", e);
+        }
+    }
+
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<OutboxEvent> events = transactionTemplate.execute(status -> claim(now));
+
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        int dispatched = 0;
+
+        for (OutboxEvent event : events) {
+            if (event.getStatus() != OutboxStatus.DISPATCHED) {
+                log.error("Outbox 이벤트 최대 전달 횟수 초과 - ID: {}, 타입: {}", event.getId(), event.getEventType());
+                continue;
+            }
+
+            try {
+                Object payload = objectMapper.readValue(event.getPayload(), event.getEventType().getEventClass());
+                boolean claimed = OutboxDelivery.publish(event.getId(), () -> eventPublisher.publishEvent(payload));
+                if (!claimed) {
+                    publishedIds.add(event.getId());
+                }
+                dispatched++;
+            } catch (Exception e) {
+                log.error("Outbox 이벤트 전달 실패 - ID: {}, 타입: {}", event.getId(), event.getEventType(), e);
+                failedIds.add(event.getId());
+            }
+        }
+
+        if (!publishedIds.isEmpty() || !failedIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!publishedIds.isEmpty()) {
+                    outboxEventRepository.updateStatus(publishedIds, OutboxStatus.PUBLISHED, now);
+                }
+                if (!failedIds.isEmpty()) {
+                    outboxEventRepository.updateStatus(failedIds, OutboxStatus.PENDING, null);
+                }
+            });
+        }
+
+        log.debug("Outbox 배치 전달 - 조회: {}건, 전달: {}건", events.size(), dispatched);
+        return events.size();
+    }
+
+    /**
+     * 발행 대기 + ack 대기 시간이 지난 전달중 이벤트를 잡아 DISPATCHED로 바꾼다 (커밋 후 잠금 해제)
+     */
+    private List<OutboxEvent> claim(LocalDateTime now) {
+        List<OutboxEvent> events = new ArrayList<>(outboxEventRepository.findPendingForUpdate(batchSize));
+
+        if (events.size() < batchSize) {
+            List<OutboxEvent> unacknowledged = outboxEventRepository.findUnacknowledgedForUpdate(
+                    now.minus(Duration.ofMillis(ackTimeoutMs)), batchSize - events.size());
+            if (!unacknowledged.isEmpty()) {
+                log.warn("Outbox 이벤트 ack 대기 시간 초과, 다시 전달 - ID: {}",
+                        unacknowledged.stream().map(OutboxEvent::getId).toList());
+            }
+            events.addAll(unacknowledged);
+        }
+
+        events.forEach(event -> event.dispatch(maxAttempts, now));
+        return events;
+    }
+}
@@ -4,11 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Getter
 @AllArgsConstructor
 public class PaymentCompletedEvent {
 
+    private final String eventId;
     private final long paymentId;
     private final boolean paymentSuccess;
     private final Long orderId;
@@ -23,6 +25,7 @@ public class PaymentCompletedEvent {
 
     public static PaymentCompletedEvent of(PointDeductedEvent event, long paymentId, boolean success) {
         return new PaymentCompletedEvent(
+                UUID.randomUUID().toString(),
                 paymentId,
                 success,
                 event.getOrderId(),
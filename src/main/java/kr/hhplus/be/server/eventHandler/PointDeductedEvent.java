@@ -4,10 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Getter
 @AllArgsConstructor
 public class PointDeductedEvent {
+    private final String eventId;
     private final Long orderId;
     private final Long userId;
     private final Long productId;
@@ -17,10 +19,28 @@ public class PointDeductedEvent {
     private final LocalDateTime createdAt;
     private final String productName;
     private final String userName;
-
+    // 파이프라인 모드에서 이미 결제까지 처리된 이벤트 (확장용 훅으로만 발행)
+    private final boolean pipelined;
 
     public static PointDeductedEvent of(OrderCreatedEvent event) {
         return new PointDeductedEvent(
+                UUID.randomUUID().toString(),
+                event.getOrderId(),
+                event.getUserId(),
+                event.getProductId(),
+                event.getRequestQuantity(),
+                event.getOriginalPrice(),
+                event.getRequestPrice(),
+                event.getCreatedAt(),
+                event.getProductName(),
+                event.getUserName(),
+                false
+        );
+    }
+
+    public static PointDeductedEvent pipelined(OrderCreatedEvent event) {
+        return new PointDeductedEvent(
+                UUID.randomUUID().toString(),
                 event.getOrderId(),
                 event.getUserId(),
                 event.getProductId(),
@@ -28,8 +48,9 @@ public class PointDeductedEvent {
                 event.getOriginalPrice(),
                 event.getRequestPrice(),
                 event.getCreatedAt(),
+                event.getProductName(),
                 event.getUserName(),
-                event.getProductName()
+                true
         );
     }
 }
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.exception.custom;
+
+public class IdempotencyConflictException extends CustomException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
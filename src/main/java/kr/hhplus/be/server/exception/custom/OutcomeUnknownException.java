@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.exception.custom;
+
+/**
+ * 커밋 여부를 알 수 없는 실패 - 같은 요청을 다시 실행하면 중복 반영될 수 있다
+ */
+public class OutcomeUnknownException extends CustomException {
+    public OutcomeUnknownException(String message) {
+        super(message);
+    }
+}
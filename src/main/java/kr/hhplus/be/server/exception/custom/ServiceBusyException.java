@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.exception.custom;
+
+public class ServiceBusyException extends CustomException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.domain.EventDeadLetter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EventDeadLetterRepository extends JpaRepository<EventDeadLetter, Long> {
+
+    @Query("SELECT d FROM EventDeadLetter d WHERE d.replayedDateTime IS NULL ORDER BY d.id DESC")
+    List<EventDeadLetter> findUnreplayed(Pageable pageable);
+}
@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.domain.EventRetry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EventRetryRepository extends JpaRepository<EventRetry, Long> {
+
+    /**
+     * 재시도 시각이 된 건 배치 조회
+     * SKIP LOCKED로 다른 노드가 잡고 있는 행은 건너뛴다
+     */
+    @Query(value = "SELECT * FROM EVENT_RETRY WHERE NEXT_ATTEMPT_DATETIME <= :now " +
+            "ORDER BY NEXT_ATTEMPT_DATETIME LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EventRetry> findDueForUpdate(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    /**
+     * 처리 중인 건은 재시도 시각을 임대 만료시각으로 미뤄 다른 노드가 가져가지 않게 한다
+     */
+    @Modifying
+    @Query("UPDATE EventRetry r SET r.nextAttemptDateTime = :leaseUntil WHERE r.id IN :ids")
+    int lease(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
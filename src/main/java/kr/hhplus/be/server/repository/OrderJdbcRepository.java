@@ -0,0 +1,70 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.domain.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 주문 일괄 저장 - IDENTITY 키는 JPA 배치 INSERT가 되지 않으므로 JDBC 배치로 저장하고 생성키를 돌려받는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO ORDERS (ORDER_STATUS, ORIGINAL_PRICE, DISCOUNTED_PRICE, REQUEST_QUANTITY, ORDER_DATETIME, " +
+            "USER_ID, PRODUCT_ID, COUPON_ID) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * @return 저장 순서대로의 주문번호
+     */
+    public List<Long> insertAll(List<Order> orders) {
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_ORDER_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Order order = orders.get(i);
+                        ps.setString(1, order.getStatus().name());
+                        ps.setLong(2, order.getOriginalPrice());
+                        ps.setLong(3, order.getDiscountedPrice());
+                        ps.setInt(4, order.getRequestQuantity());
+                        ps.setTimestamp(5, Timestamp.valueOf(order.getOrderDateTime()));
+                        ps.setLong(6, order.getUser().getId());
+                        ps.setLong(7, order.getProduct().getId());
+                        if (order.getCoupon() != null) {
+                            ps.setLong(8, order.getCoupon().getId());
+                        } else {
+                            ps.setNull(8, Types.BIGINT);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return orders.size();
+                    }
+                },
+                keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+}
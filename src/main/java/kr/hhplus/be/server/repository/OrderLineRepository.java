@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.domain.OrderLine;
+import kr.hhplus.be.server.dto.order.OrderLineItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderLineRepository extends JpaRepository<OrderLine, Long> {
+
+    @Query("SELECT new kr.hhplus.be.server.dto.order.OrderLineItem(l.product.id, l.requestQuantity) " +
+            "FROM OrderLine l WHERE l.order.id = :orderId ORDER BY l.product.id")
+    List<OrderLineItem> findLineItemsByOrderId(@Param("orderId") Long orderId);
+}
@@ -1,10 +1,58 @@
 package kr.hhplus.be.server.repository;
 
+import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.dto.order.OrderSummary;
+import kr.hhplus.be.server.enums.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.pointDeductedAmount = :amount WHERE o.id = :orderId AND o.status = :status")
+    int updatePointDeductedAmount(@Param("orderId") Long orderId, @Param("amount") long amount, @Param("status") OrderStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :orderId")
+    Optional<Order> findByIdWithLock(@Param("orderId") Long orderId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :orderIds AND o.status = :status ORDER BY o.id")
+    List<Order> findAllByIdInAndStatusWithLock(@Param("orderIds") List<Long> orderIds, @Param("status") OrderStatus status);
+
+    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.product LEFT JOIN FETCH o.coupon WHERE o.id = :orderId")
+    Optional<Order> findWithDetailsById(@Param("orderId") Long orderId);
+
+    /**
+     * 사용자 주문 목록 첫 페이지 (최신순)
+     */
+    @Query("SELECT new kr.hhplus.be.server.dto.order.OrderSummary(" +
+            "o.id, o.product.id, o.status, o.requestQuantity, o.discountedPrice, o.orderDateTime) " +
+            "FROM Order o WHERE o.user.id = :userId " +
+            "ORDER BY o.orderDateTime DESC, o.id DESC")
+    List<OrderSummary> findOrderSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 주문 목록 다음 페이지 - 커서 (주문일시, 주문번호) 이후부터 인덱스 범위 탐색
+     */
+    @Query("SELECT new kr.hhplus.be.server.dto.order.OrderSummary(" +
+            "o.id, o.product.id, o.status, o.requestQuantity, o.discountedPrice, o.orderDateTime) " +
+            "FROM Order o WHERE o.user.id = :userId " +
+            "AND (o.orderDateTime < :cursorDateTime OR (o.orderDateTime = :cursorDateTime AND o.id < :cursorId)) " +
+            "ORDER BY o.orderDateTime DESC, o.id DESC")
+    List<OrderSummary> findOrderSummariesAfter(@Param("userId") Long userId,
+                                               @Param("cursorDateTime") LocalDateTime cursorDateTime,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
 }
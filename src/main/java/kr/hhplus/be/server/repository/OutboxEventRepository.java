@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.domain.OutboxEvent;
+import kr.hhplus.be.server.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 발행 대기 이벤트 배치 조회
+     * SKIP LOCKED로 다른 노드가 잡고 있는 행은 건너뛴다
+     */
+    @Query(value = "SELECT * FROM OUTBOX_EVENT WHERE OUTBOX_STATUS = 'PENDING' " +
+            "ORDER BY OUTBOX_ID LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findPendingForUpdate(@Param("batchSize") int batchSize);
+
+    /**
+     * ack 대기 시간이 지난 전달중 이벤트 (핸들러 유실/노드 종료) - 다시 전달한다
+     */
+    @Query(value = "SELECT * FROM OUTBOX_EVENT WHERE OUTBOX_STATUS = 'DISPATCHED' AND DISPATCHED_DATETIME < :staleBefore " +
+            "ORDER BY OUTBOX_ID LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findUnacknowledgedForUpdate(@Param("staleBefore") LocalDateTime staleBefore,
+                                                  @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = :status, o.publishedDateTime = :publishedDateTime WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") List<Long> ids,
+                     @Param("status") OutboxStatus status,
+                     @Param("publishedDateTime") LocalDateTime publishedDateTime);
+}
@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.domain.Payment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 결제 일괄 저장 - IDENTITY 키는 JPA 배치 INSERT가 되지 않으므로 JDBC 배치로 저장하고 생성키를 돌려받는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_PAYMENT_SQL =
+            "INSERT INTO PAYMENT (PAYMENT_STATUS, PAYMENT_PRICE, PAYMENT_TYPE, PAYMENT_DATE, ORDER_NO) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * @return 저장 순서대로의 결제번호
+     */
+    public List<Long> insertAll(List<Payment> payments) {
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_PAYMENT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Payment payment = payments.get(i);
+                        ps.setString(1, payment.getStatus().name());
+                        ps.setLong(2, payment.getPrice());
+                        ps.setString(3, payment.getType().name());
+                        ps.setTimestamp(4, Timestamp.valueOf(payment.getPaymentDate()));
+                        if (payment.getOrderNo() != null) {
+                            ps.setLong(5, payment.getOrderNo());
+                        } else {
+                            ps.setNull(5, Types.BIGINT);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return payments.size();
+                    }
+                },
+                keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+}
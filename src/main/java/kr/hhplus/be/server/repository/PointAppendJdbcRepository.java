@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.dto.point.PointLedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 포인트 이력 다중 행 INSERT
+ * INSERT ... VALUES (...), (...) 한 문장으로 저장해 드라이버 설정(rewriteBatchedStatements)과 무관하게 왕복 1회로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointAppendJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_HIST_SQL =
+            "INSERT INTO POINT_HIST (TRANSACTION_TYPE, AMOUNT, CURRENT_BALANCE, TRANSACTION_DATETIME, USER_ID, PAYMENT_ID) VALUES ";
+    private static final String HIST_ROW = "(?, ?, ?, ?, ?, ?)";
+
+    public void insertHistories(List<PointLedgerEntry> entries) {
+
+        String sql = INSERT_HIST_SQL + String.join(", ", Collections.nCopies(entries.size(), HIST_ROW));
+
+        List<Object> args = new ArrayList<>(entries.size() * 6);
+        for (PointLedgerEntry entry : entries) {
+            args.add(entry.transactionType().name());
+            args.add(entry.amount());
+            args.add(entry.balance());
+            args.add(Timestamp.valueOf(entry.transactionDateTime()));
+            args.add(entry.userId());
+            args.add(entry.paymentId());
+        }
+
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -0,0 +1,68 @@
+package kr.hhplus.be.server.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * POINT_HIST 월별 파티션 관리
+ * 월 파티션 이름은 pYYYYMM, 상한은 다음 달 1일이며 마지막에 pmax(MAXVALUE) 파티션을 둔다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointHistPartitionJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static final String MAX_PARTITION = "pmax";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String FIND_PARTITIONS_SQL =
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'POINT_HIST' AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    /**
+     * @return 파티션 이름 (파티션 순서), 파티션 테이블이 아니면 빈 목록
+     */
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class);
+    }
+
+    /**
+     * 비어 있는 pmax를 나눠 월 파티션 추가 - 데이터 이동이 없으므로 메타데이터만 바뀐다
+     */
+    public void addMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute(
+                "ALTER TABLE POINT_HIST REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                "PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + " 00:00:00'), " +
+                "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))"
+        );
+    }
+
+    /**
+     * 파티션 삭제 - 행 단위 DELETE 없이 파일째 제거
+     */
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE POINT_HIST DROP PARTITION " + partitionName);
+    }
+
+    public static String partitionName(YearMonth month) {
+        return month.format(PARTITION_NAME);
+    }
+
+    /**
+     * @return 월 파티션이면 해당 월, 아니면 null
+     */
+    public static YearMonth monthOf(String partitionName) {
+        if (partitionName == null || !partitionName.matches("p\\d{6}")) {
+            return null;
+        }
+        return YearMonth.parse(partitionName.substring(1), DateTimeFormatter.ofPattern("yyyyMM"));
+    }
+}
@@ -1,10 +1,48 @@
 package kr.hhplus.be.server.repository;
 
 import kr.hhplus.be.server.domain.PointHist;
+import kr.hhplus.be.server.dto.point.PointHistSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface PointHistRepository extends JpaRepository<PointHist, Long> {
 
+    /**
+     * 사용자 포인트 이력 첫 페이지 (최신순)
+     * 거래일시 범위 조건은 월별 파티션 프루닝에도 쓰이므로 항상 함께 넘긴다.
+     */
+    @Query("SELECT new kr.hhplus.be.server.dto.point.PointHistSummary(" +
+            "h.id, h.transactionType, h.amount, h.currentBalance, h.paymentNo, h.transactionDateTime) " +
+            "FROM PointHist h WHERE h.user.id = :userId " +
+            "AND h.transactionDateTime >= :from AND h.transactionDateTime < :to " +
+            "ORDER BY h.transactionDateTime DESC, h.id DESC")
+    List<PointHistSummary> findHistories(@Param("userId") Long userId,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to,
+                                         Pageable pageable);
+
+    /**
+     * 사용자 포인트 이력 다음 페이지 - 커서 (거래일시, 이력번호) 이후부터 인덱스 범위 탐색
+     * 커서 일시 상한을 AND 조건으로 한 번 더 걸어 커서보다 새로운 파티션은 읽지 않는다.
+     */
+    @Query("SELECT new kr.hhplus.be.server.dto.point.PointHistSummary(" +
+            "h.id, h.transactionType, h.amount, h.currentBalance, h.paymentNo, h.transactionDateTime) " +
+            "FROM PointHist h WHERE h.user.id = :userId " +
+            "AND h.transactionDateTime >= :from AND h.transactionDateTime < :to " +
+            "AND h.transactionDateTime <= :cursorDateTime " +
+            "AND (h.transactionDateTime < :cursorDateTime OR (h.transactionDateTime = :cursorDateTime AND h.id < :cursorId)) " +
+            "ORDER BY h.transactionDateTime DESC, h.id DESC")
+    List<PointHistSummary> findHistoriesAfter(@Param("userId") Long userId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("cursorDateTime") LocalDateTime cursorDateTime,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
 }
@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.dto.point.PointLedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 원장 일괄 반영
+ * 잔액은 배치 내 사용자별 마지막 값으로 덮어쓰므로 같은 항목을 다시 반영해도 결과가 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String UPDATE_BALANCE_SQL =
+            "UPDATE USERS SET USER_POINT = ?, version = version + 1 WHERE USER_ID = ?";
+
+    private static final String INSERT_HIST_SQL =
+            "INSERT INTO POINT_HIST (TRANSACTION_TYPE, AMOUNT, CURRENT_BALANCE, TRANSACTION_DATETIME, USER_ID, PAYMENT_ID) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    public void updateBalances(Map<Long, Long> balances) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(balances.entrySet());
+
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    public void insertHistories(List<PointLedgerEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_HIST_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.transactionType().name());
+            ps.setLong(2, entry.amount());
+            ps.setLong(3, entry.balance());
+            ps.setTimestamp(4, Timestamp.valueOf(entry.transactionDateTime()));
+            ps.setLong(5, entry.userId());
+            if (entry.paymentId() == null) {
+                ps.setNull(6, Types.BIGINT);
+            } else {
+                ps.setLong(6, entry.paymentId());
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package kr.hhplus.be.server.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.dto.point.PointBalanceCheck;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 정합성 검사 조회 전용
+ * 주문/포인트 API가 쓰는 Hikari 풀(3개)을 점유하지 않도록 검사 동시 실행 수만큼의 읽기 전용 풀을 따로 만든다.
+ * order.point.reconciliation.url을 지정하면 복제본에서 읽는다. 검사가 없을 때는 유휴 연결을 모두 닫는다.
+ */
+@Repository
+public class PointReconciliationJdbcRepository {
+
+    // 사용자별 마지막 이력 1건 - IDX_POINT_HIST_USER_DATETIME 역순 탐색 (테이블 접근 없음)
+    private static final String CHECK_SELECT =
+            "SELECT u.USER_ID, u.USER_POINT, h.CURRENT_BALANCE, h.POINT_HIST_ID " +
+            "FROM USERS u " +
+            "LEFT JOIN LATERAL (" +
+            "SELECT ph.CURRENT_BALANCE, ph.POINT_HIST_ID FROM POINT_HIST ph " +
+            "WHERE ph.USER_ID = u.USER_ID " +
+            "ORDER BY ph.TRANSACTION_DATETIME DESC, ph.POINT_HIST_ID DESC LIMIT 1" +
+            ") h ON TRUE ";
+
+    private static final String RANGE_SQL = CHECK_SELECT + "WHERE u.USER_ID BETWEEN ? AND ? ORDER BY u.USER_ID";
+
+    private static final RowMapper<PointBalanceCheck> CHECK_MAPPER = (rs, rowNum) -> toCheck(rs);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final String url;
+    private final int poolSize;
+
+    private volatile HikariDataSource dataSource;
+    private volatile JdbcTemplate jdbcTemplate;
+
+    public PointReconciliationJdbcRepository(DataSourceProperties dataSourceProperties,
+                                             @Value("${order.point.reconciliation.url:}") String url,
+                                             @Value("${order.point.reconciliation.db-concurrency:4}") int poolSize) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.url = url;
+        this.poolSize = poolSize;
+    }
+
+    public Long findMinUserId() {
+        return jdbcTemplate().queryForObject("SELECT MIN(USER_ID) FROM USERS", Long.class);
+    }
+
+    public Long findMaxUserId() {
+        return jdbcTemplate().queryForObject("SELECT MAX(USER_ID) FROM USERS", Long.class);
+    }
+
+    /**
+     * 사용자 ID 범위를 스트리밍으로 읽는다 - 범위 전체를 메모리에 올리지 않고 행마다 consumer 호출
+     */
+    public void streamRange(long startUserId, long endUserId, Consumer<PointBalanceCheck> consumer) {
+        jdbcTemplate().query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(RANGE_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL 드라이버는 Integer.MIN_VALUE일 때 한 행씩 받아온다
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, startUserId);
+            ps.setLong(2, endUserId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(toCheck(rs)));
+    }
+
+    /**
+     * 지정한 사용자만 다시 조회 (불일치 재확인)
+     */
+    public List<PointBalanceCheck> findChecks(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        return jdbcTemplate().query(CHECK_SELECT + "WHERE u.USER_ID IN (" + placeholders + ")",
+                CHECK_MAPPER, userIds.toArray());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (dataSource != null) {
+            dataSource.close();
+            dataSource = null;
+            jdbcTemplate = null;
+        }
+    }
+
+    private JdbcTemplate jdbcTemplate() {
+        JdbcTemplate template = jdbcTemplate;
+        if (template != null) {
+            return template;
+        }
+        synchronized (this) {
+            if (jdbcTemplate == null) {
+                dataSource = createDataSource();
+                jdbcTemplate = new JdbcTemplate(dataSource);
+            }
+            return jdbcTemplate;
+        }
+    }
+
+    private HikariDataSource createDataSource() {
+        HikariDataSource hikari = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (!url.isBlank()) {
+            hikari.setJdbcUrl(url);
+        }
+        hikari.setPoolName("point-reconciliation");
+        hikari.setMaximumPoolSize(poolSize);
+        hikari.setMinimumIdle(0);
+        hikari.setIdleTimeout(30000);
+        hikari.setReadOnly(true);
+        return hikari;
+    }
+
+    private static PointBalanceCheck toCheck(ResultSet rs) throws SQLException {
+        long histBalance = rs.getLong("CURRENT_BALANCE");
+        boolean noHistory = rs.wasNull();
+        return new PointBalanceCheck(
+                rs.getLong("USER_ID"),
+                rs.getLong("USER_POINT"),
+                noHistory ? null : histBalance,
+                noHistory ? null : rs.getLong("POINT_HIST_ID")
+        );
+    }
+}
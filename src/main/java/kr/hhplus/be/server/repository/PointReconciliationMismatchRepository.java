@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.domain.PointReconciliationMismatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PointReconciliationMismatchRepository extends JpaRepository<PointReconciliationMismatch, Long> {
+}
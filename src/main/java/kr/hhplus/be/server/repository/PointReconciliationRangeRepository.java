@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.domain.PointReconciliationRange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PointReconciliationRangeRepository extends JpaRepository<PointReconciliationRange, Long> {
+
+    List<PointReconciliationRange> findAllByRunId(Long runId);
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.domain.PointReconciliationRun;
+import kr.hhplus.be.server.enums.ReconciliationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PointReconciliationRunRepository extends JpaRepository<PointReconciliationRun, Long> {
+
+    Optional<PointReconciliationRun> findFirstByStatusOrderByIdDesc(ReconciliationStatus status);
+}
@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 처리 기록
+ * 유니크 키 충돌은 INSERT IGNORE로 0건 반영으로만 돌려받아 호출한 트랜잭션을 깨지 않는다.
+ * 같은 키를 동시에 넣으면 먼저 넣은 트랜잭션이 끝날 때까지 대기한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO PROCESSED_EVENT (EVENT_ID, CONSUMER, PROCESSED_DATETIME) VALUES (?, ?, ?)";
+
+    private static final String DELETE_BEFORE_SQL =
+            "DELETE FROM PROCESSED_EVENT WHERE PROCESSED_DATETIME < ? LIMIT ?";
+
+    /**
+     * @return 처음 기록했으면 true, 이미 처리된 이벤트면 false
+     */
+    public boolean insertIfAbsent(String eventId, String consumer) {
+        return jdbcTemplate.update(INSERT_IGNORE_SQL, eventId, consumer, Timestamp.valueOf(LocalDateTime.now())) == 1;
+    }
+
+    /**
+     * 보관 기간이 지난 기록 삭제 - 잠금을 짧게 잡도록 limit 건씩 나눠 지운다
+     * @return 삭제 건수
+     */
+    public int deleteProcessedBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_BEFORE_SQL, Timestamp.valueOf(before), limit);
+    }
+}
@@ -6,6 +6,7 @@ import kr.hhplus.be.server.domain.Product;
 import kr.hhplus.be.server.enums.ProductStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
@@ -25,4 +26,30 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findByIdAndStatus(@Param("productId") Long productId, ProductStatus status);
 
     List<Product> findByIdInAndStatus(List<Long> ids, ProductStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :productId AND p.status = :status")
+    Optional<Product> findByIdAndStatusWithLock(@Param("productId") Long productId, @Param("status") ProductStatus status);
+
+    /**
+     * 조건부 재고 차감 - 재고가 충분할 때만 갱신되며, 영향받은 행 수로 성공 여부를 판단한다
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :quantity, p.sellQuantity = p.sellQuantity + :quantity, " +
+            "p.version = p.version + 1 " +
+            "WHERE p.id = :productId AND p.status = :status AND p.quantity >= :quantity")
+    int decreaseStockIfAvailable(@Param("productId") Long productId,
+                                 @Param("quantity") int quantity,
+                                 @Param("status") ProductStatus status);
+
+    /**
+     * 재고 복원 (보상) - 엔티티를 읽지 않고 한 번의 UPDATE로 더하므로 동시 주문의 버전 증가와 충돌하지 않는다
+     * 보상은 주문 취소 등 다른 엔티티 변경과 같은 트랜잭션에서 실행되므로 영속성 컨텍스트를 비우지 않는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :quantity, p.version = p.version + 1 WHERE p.id = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Query("SELECT p.stockSlotCount FROM Product p WHERE p.id = :productId")
+    Optional<Integer> findStockSlotCount(@Param("productId") Long productId);
 }
\ No newline at end of file
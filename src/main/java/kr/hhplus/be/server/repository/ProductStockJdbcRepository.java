@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.repository;
+
+import kr.hhplus.be.server.dto.order.OrderLineItem;
+import kr.hhplus.be.server.enums.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 여러 상품 재고를 한 번의 배치로 차감
+ * 호출 순서(상품ID 오름차순)대로 행 잠금을 잡으므로 장바구니 주문끼리 교착이 생기지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE PRODUCT SET PRODUCT_QUANTITY = PRODUCT_QUANTITY - ?, SELL_QUANTITY = SELL_QUANTITY + ?, " +
+            "version = version + 1 " +
+            "WHERE PRODUCT_ID = ? AND PRD_STATUS = ? AND PRODUCT_QUANTITY >= ?";
+
+    /**
+     * @return 라인별 갱신 행 수 (0이면 재고 부족)
+     */
+    public int[] decreaseStocks(List<OrderLineItem> lines) {
+        return jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, lines, lines.size(), (ps, line) -> {
+            ps.setInt(1, line.requestQuantity());
+            ps.setInt(2, line.requestQuantity());
+            ps.setLong(3, line.productId());
+            ps.setString(4, ProductStatus.ACTIVE.name());
+            ps.setInt(5, line.requestQuantity());
+        })[0];
+    }
+}
@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.domain.ProductStockSlot;
+import kr.hhplus.be.server.dto.product.ProductStockSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductStockSlotRepository extends JpaRepository<ProductStockSlot, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockSlot s SET s.quantity = s.quantity - :quantity, s.sellQuantity = s.sellQuantity + :quantity " +
+            "WHERE s.productId = :productId AND s.slotNo = :slotNo AND s.quantity >= :quantity")
+    int decreaseIfAvailable(@Param("productId") Long productId,
+                            @Param("slotNo") int slotNo,
+                            @Param("quantity") int quantity);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockSlot s SET s.quantity = s.quantity + :quantity " +
+            "WHERE s.productId = :productId AND s.slotNo = :slotNo")
+    int increase(@Param("productId") Long productId,
+                 @Param("slotNo") int slotNo,
+                 @Param("quantity") int quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockSlot s WHERE s.productId = :productId ORDER BY s.slotNo")
+    List<ProductStockSlot> findByProductIdWithLock(@Param("productId") Long productId);
+
+    @Query("SELECT s.productId AS productId, SUM(s.quantity) AS quantity, SUM(s.sellQuantity) AS sellQuantity " +
+            "FROM ProductStockSlot s WHERE s.productId IN :productIds GROUP BY s.productId")
+    List<ProductStockSummary> summarizeByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    boolean existsByProductId(Long productId);
+}
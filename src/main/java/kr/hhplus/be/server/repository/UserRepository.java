@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,4 +20,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :userId")
     Optional<User> findByIdAndStatusWithLock(@Param("userId") Long userId, UserStatus status);
 
+    // 교착 방지를 위해 항상 USER_ID 순서로 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id IN :userIds AND u.status = :status ORDER BY u.id")
+    List<User> findAllByIdInAndStatusWithLock(@Param("userIds") List<Long> userIds, @Param("status") UserStatus status);
+
 }
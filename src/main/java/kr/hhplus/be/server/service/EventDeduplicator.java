@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.service;
+
+import kr.hhplus.be.server.repository.ProcessedEventJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 이벤트 중복 처리 방지
+ * Redis SET NX로 대부분의 재전달을 DB 접근 없이 걸러내고,
+ * 핸들러 트랜잭션 안에서 PROCESSED_EVENT 유니크 키로 한 번 더 확인해 Redis 장애/만료 시에도 한 번만 처리한다.
+ * 트랜잭션이 롤백되면 Redis 표시도 지워 재시도가 막히지 않게 한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EventDeduplicator {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProcessedEventJdbcRepository processedEventJdbcRepository;
+
+    private static final String PROCESSED_KEY = "event:processed:";
+
+    @Value("${order.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.dedup.ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * 핸들러 트랜잭션 안에서 호출
+     * @return 처음 처리하는 이벤트면 true, 이미 처리(또는 처리 중)된 이벤트면 false
+     */
+    public boolean markProcessed(String eventId, String consumer) {
+        if (!enabled || eventId == null) {
+            return true;
+        }
+
+        String key = PROCESSED_KEY + consumer + ":" + eventId;
+
+        if (!markInRedis(key)) {
+            log.info("중복 이벤트 무시 - 소비자: {}, 이벤트ID: {}", consumer, eventId);
+            return false;
+        }
+
+        registerRollbackCleanup(key);
+
+        if (!processedEventJdbcRepository.insertIfAbsent(eventId, consumer)) {
+            log.info("중복 이벤트 무시(DB) - 소비자: {}, 이벤트ID: {}", consumer, eventId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Redis 장애 시에는 통과시키고 DB 유니크 키에 맡긴다
+     */
+    private boolean markInRedis(String key) {
+        try {
+            Boolean marked = stringRedisTemplate.opsForValue().setIfAbsent(key, "1", Duration.ofHours(ttlHours));
+            return !Boolean.FALSE.equals(marked);
+        } catch (Exception e) {
+            log.warn("이벤트 처리 표시 실패, DB로 확인 - key: {}", key, e);
+            return true;
+        }
+    }
+
+    private void registerRollbackCleanup(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    stringRedisTemplate.delete(key);
+                } catch (Exception e) {
+                    log.warn("이벤트 처리 표시 삭제 실패 - key: {}", key, e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,209 @@
+package kr.hhplus.be.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.domain.EventDeadLetter;
+import kr.hhplus.be.server.domain.EventRetry;
+import kr.hhplus.be.server.dto.retry.ResponseDeadLetter;
+import kr.hhplus.be.server.enums.EventHandlerType;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.EventDeadLetterRepository;
+import kr.hhplus.be.server.repository.EventRetryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이벤트 핸들러 재시도
+ * 실패한 핸들러 호출을 EVENT_RETRY에 기록하고, 스케줄러가 지수 백오프로 배치 재시도한다.
+ * 최대 횟수를 넘기면 EVENT_DEAD_LETTER로 옮기고 관리자 재처리를 기다린다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EventRetryService {
+
+    private final EventRetryRepository eventRetryRepository;
+    private final EventDeadLetterRepository eventDeadLetterRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_DEAD_LETTER_PAGE_SIZE = 100;
+
+    @Value("${order.retry.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.retry.batch-size:50}")
+    private int batchSize;
+
+    @Value("${order.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${order.retry.base-delay-ms:1000}")
+    private long baseDelayMs;
+
+    @Value("${order.retry.max-delay-ms:60000}")
+    private long maxDelayMs;
+
+    @Value("${order.retry.lease-ms:30000}")
+    private long leaseMs;
+
+    /**
+     * 일시적인 DB/Redis 장애인지 판단 - 이 경우에만 주문을 취소하지 않고 재시도한다
+     */
+    public static boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof TransactionTimedOutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 실패한 핸들러 호출 기록 - 실패한 트랜잭션 밖에서 호출해야 한다
+     */
+    public void record(EventHandlerType handlerType, Object event, Throwable cause) {
+        try {
+            EventRetry retry = eventRetryRepository.save(EventRetry.create(
+                    handlerType,
+                    toJson(event),
+                    LocalDateTime.now().plus(backoff(1)),
+                    describe(cause)
+            ));
+            log.warn("핸들러 재시도 등록 - 유형: {}, 재시도ID: {}", handlerType, retry.getId());
+        } catch (Exception e) {
+            log.error("핸들러 재시도 등록 실패 - 유형: {}, 이벤트: {}", handlerType, event, e);
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 건을 가져오면서 임대를 걸어 다른 노드와 중복 처리하지 않는다
+     */
+    public List<EventRetry> claimDue() {
+        if (!enabled) {
+            return List.of();
+        }
+
+        List<EventRetry> due = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EventRetry> retries = eventRetryRepository.findDueForUpdate(now, batchSize);
+
+            if (!retries.isEmpty()) {
+                eventRetryRepository.lease(
+                        retries.stream().map(EventRetry::getId).toList(),
+                        now.plus(Duration.ofMillis(leaseMs))
+                );
+            }
+            return retries;
+        });
+
+        return due == null ? List.of() : due;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public Object readEvent(EventRetry retry) {
+        try {
+            return objectMapper.readValue(retry.getPayload(), retry.getHandlerType().getEventClass());
+        } catch (JsonProcessingException e) {
+            throw new CustomException("재시도 이벤트 역직렬화 실패 - 재시도ID: " + retry.getId());
+        }
+    }
+
+    public void succeed(EventRetry retry) {
+        eventRetryRepository.deleteById(retry.getId());
+        log.info("핸들러 재시도 성공 - 유형: {}, 재시도ID: {}, 시도: {}회",
+                retry.getHandlerType(), retry.getId(), retry.getAttemptCount() + 1);
+    }
+
+    /**
+     * 재시도 실패 - 다음 시각을 백오프로 미루고, 최대 횟수를 넘기면 dead letter로 옮긴다
+     */
+    public void fail(EventRetry retry, Throwable cause) {
+        transactionTemplate.executeWithoutResult(status -> {
+            EventRetry current = eventRetryRepository.findById(retry.getId()).orElse(null);
+            if (current == null) {
+                return;
+            }
+
+            int attempt = current.getAttemptCount() + 1;
+            current.recordFailure(describe(cause), LocalDateTime.now().plus(backoff(attempt)));
+
+            if (current.isExhausted(maxAttempts)) {
+                EventDeadLetter deadLetter = eventDeadLetterRepository.save(EventDeadLetter.from(current));
+                eventRetryRepository.delete(current);
+                log.error("핸들러 재시도 소진 - 유형: {}, 재시도ID: {}, dead letter ID: {}",
+                        current.getHandlerType(), current.getId(), deadLetter.getId());
+                return;
+            }
+
+            log.warn("핸들러 재시도 실패 - 유형: {}, 재시도ID: {}, 시도: {}회, 다음 시도: {}",
+                    current.getHandlerType(), current.getId(), attempt, current.getNextAttemptDateTime());
+        });
+    }
+
+    /**
+     * dead letter 재처리 - 재시도 대기열에 다시 넣어 다음 스케줄에 처리
+     * @return 재시도 ID
+     */
+    @Transactional
+    public Long replay(Long deadLetterId) {
+        EventDeadLetter deadLetter = eventDeadLetterRepository.findById(deadLetterId)
+                .orElseThrow(() -> new CustomException("존재하지 않는 dead letter입니다."));
+
+        deadLetter.markReplayed();
+
+        EventRetry retry = eventRetryRepository.save(EventRetry.replay(deadLetter));
+        log.info("dead letter 재처리 등록 - dead letter ID: {}, 재시도ID: {}", deadLetterId, retry.getId());
+        return retry.getId();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResponseDeadLetter> getDeadLetters(int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_DEAD_LETTER_PAGE_SIZE));
+
+        return eventDeadLetterRepository.findUnreplayed(PageRequest.of(0, pageSize)).stream()
+                .map(ResponseDeadLetter::from)
+                .toList();
+    }
+
+    /**
+     * attempt번째 실패 후 대기시간: base * 2^(attempt-1), 최대 maxDelay
+     */
+    private Duration backoff(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        return Duration.ofMillis(Math.min(maxDelayMs, baseDelayMs << shift));
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new CustomException("이벤트 직렬화 실패: " + event.getClass().getSimpleName());
+        }
+    }
+
+    private String describe(Throwable cause) {
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+}
@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 해시 타이밍 휠
+ * 만료시각을 tick 단위 버킷(wheelSize개, 순환)에 걸어두고, 한 tick마다 해당 버킷만 확인한다.
+ * 등록/취소는 O(1)이며 버킷은 advance를 호출하는 단일 스레드만 다룬다.
+ */
+public class HashedTimingWheel {
+
+    private final long tickMs;
+    private final int mask;
+    private final List<Timeout>[] buckets;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Timeout> timeouts = new ConcurrentHashMap<>();
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMs, int wheelSize, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize는 2의 거듭제곱이어야 합니다.");
+        }
+        this.tickMs = tickMs;
+        this.mask = wheelSize - 1;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.currentTick = startMillis / tickMs;
+    }
+
+    /**
+     * 만료 예약 - 같은 ID가 있으면 새 만료시각으로 교체
+     */
+    public void add(long id, long deadlineMillis) {
+        Timeout timeout = new Timeout(id, deadlineMillis / tickMs);
+        Timeout previous = timeouts.put(id, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        pendingTimeouts.add(timeout);
+    }
+
+    public void cancel(long id) {
+        Timeout timeout = timeouts.remove(id);
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    /**
+     * nowMillis까지 tick을 진행하고 만료된 ID를 돌려준다 (단일 스레드에서 호출)
+     */
+    public List<Long> advance(long nowMillis) {
+
+        List<Long> expired = new ArrayList<>();
+
+        transferPendingTimeouts(expired);
+
+        long nowTick = nowMillis / tickMs;
+
+        while (currentTick <= nowTick) {
+            expireBucket(buckets[(int) (currentTick & mask)], currentTick, expired);
+            currentTick++;
+        }
+
+        return expired;
+    }
+
+    private void transferPendingTimeouts(List<Long> expired) {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // 이미 지난 tick이면 바로 만료
+            if (timeout.deadlineTick < currentTick) {
+                expire(timeout, expired);
+                continue;
+            }
+            buckets[(int) (timeout.deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expireBucket(List<Timeout> bucket, long tick, List<Long> expired) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.deadlineTick <= tick) {
+                iterator.remove();
+                expire(timeout, expired);
+            }
+            // 그 외는 다음 바퀴에 만료
+        }
+    }
+
+    private void expire(Timeout timeout, List<Long> expired) {
+        if (timeouts.remove(timeout.id, timeout)) {
+            expired.add(timeout.id);
+        }
+    }
+
+    private static class Timeout {
+        private final long id;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(long id, long deadlineTick) {
+            this.id = id;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package kr.hhplus.be.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.exception.custom.IdempotencyConflictException;
+import kr.hhplus.be.server.exception.custom.OutcomeUnknownException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 멱등키 처리
+ * 처리 중 마커(SET NX)로 중복 요청을 막고, 완료된 응답은 TTL 동안 캐시해 재시도 시 그대로 돌려준다.
+ * 중복 요청은 락이나 DB를 거치지 않는다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final String IDEMPOTENCY_KEY = "idempotency:";
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+
+    @Value("${order.idempotency.in-progress-ttl-seconds:30}")
+    private long inProgressTtlSeconds;
+
+    @Value("${order.idempotency.response-ttl-seconds:86400}")
+    private long responseTtlSeconds;
+
+    /**
+     * @param scope 요청 종류 + 사용자 (키 충돌 방지)
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key, 없으면 그대로 실행
+     */
+    public <T> T execute(String scope, String idempotencyKey, Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = IDEMPOTENCY_KEY + scope + ":" + idempotencyKey;
+
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, IN_PROGRESS, Duration.ofSeconds(inProgressTtlSeconds));
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            return cachedResponse(key, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (OutcomeUnknownException e) {
+            // 반영되었을 수 있으므로 같은 키로 다시 실행하지 않도록 처리 중 표시를 응답 보관 기간만큼 유지한다
+            stringRedisTemplate.opsForValue().set(key, IN_PROGRESS, Duration.ofSeconds(responseTtlSeconds));
+            throw e;
+        } catch (RuntimeException e) {
+            stringRedisTemplate.delete(key);
+            throw e;
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), Duration.ofSeconds(responseTtlSeconds));
+        } catch (JsonProcessingException e) {
+            log.error("멱등 응답 저장 실패 - key: {}", key, e);
+            stringRedisTemplate.delete(key);
+        }
+
+        return response;
+    }
+
+    private <T> T cachedResponse(String key, Class<T> responseType) {
+        String cached = stringRedisTemplate.opsForValue().get(key);
+
+        if (cached == null || IN_PROGRESS.equals(cached)) {
+            throw new IdempotencyConflictException("동일한 요청이 처리 중입니다.");
+        }
+
+        try {
+            return objectMapper.readValue(cached, responseType);
+        } catch (JsonProcessingException e) {
+            throw new CustomException("멱등 응답 조회 실패");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 재시도
+ * 트랜잭션 전체를 감싸서 호출해야 한다 (같은 트랜잭션 안에서 다시 읽으면 MySQL 스냅샷 때문에 같은 버전을 읽는다).
+ * 충돌 시 지수 백오프(+지터)로 재시도하고, 최대 횟수를 넘기면 마지막 예외를 그대로 던진다.
+ */
+@Component
+@Slf4j
+public class OptimisticRetryExecutor {
+
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    private final Counter conflictCounter;
+    private final Counter exhaustedCounter;
+    private final DistributionSummary attemptSummary;
+
+    public OptimisticRetryExecutor(MeterRegistry meterRegistry,
+                                   @Value("${order.point.optimistic.max-attempts:5}") int maxAttempts,
+                                   @Value("${order.point.optimistic.base-delay-ms:5}") long baseDelayMs,
+                                   @Value("${order.point.optimistic.max-delay-ms:100}") long maxDelayMs) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.conflictCounter = Counter.builder("point.optimistic.conflicts")
+                .description("포인트 차감 버전 충돌 횟수")
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("point.optimistic.exhausted")
+                .description("재시도를 모두 소진한 포인트 차감 수")
+                .register(meterRegistry);
+        this.attemptSummary = DistributionSummary.builder("point.optimistic.attempts")
+                .description("성공한 포인트 차감의 시도 횟수")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = action.get();
+                attemptSummary.record(attempt);
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                conflictCounter.increment();
+
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    log.warn("포인트 버전 충돌 재시도 소진 - 시도: {}회", attempt);
+                    throw e;
+                }
+
+                log.debug("포인트 버전 충돌 - 재시도: {}", attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long delay = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(delay / 2, delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 차감 재시도 중 인터럽트 발생", e);
+        }
+    }
+}
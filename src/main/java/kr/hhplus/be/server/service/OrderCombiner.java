@@ -0,0 +1,360 @@
+package kr.hhplus.be.server.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.Coupon;
+import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.domain.Product;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.order.RequestOrder;
+import kr.hhplus.be.server.enums.OrderStatus;
+import kr.hhplus.be.server.enums.ProductStatus;
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.eventHandler.OrderCreatedEvent;
+import kr.hhplus.be.server.eventHandler.OrderEventPublisher;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.exception.custom.OutcomeUnknownException;
+import kr.hhplus.be.server.repository.OrderJdbcRepository;
+import kr.hhplus.be.server.repository.ProductRepository;
+import kr.hhplus.be.server.service.stock.StockStrategyResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품별 주문 묶음 처리 (group commit)
+ * 같은 상품 주문을 짧은 구간(window-ms) 또는 max-batch 건까지 모아
+ * 재고 예약/차감 1회, 주문 JDBC 배치 INSERT 1회로 처리하고 요청별 결과를 각각 돌려준다.
+ * 묶음 처리가 불가능한 경우(분할 재고, 락 기반 전략, 묶음 재고 차감 실패)는 빈 값을 돌려주어
+ * 호출자가 건별 처리로 넘어가게 한다.
+ * 빈 값은 주문이 저장되지 않았음이 확실할 때만 돌려준다. 커밋 이후의 실패는 저장된 주문을 그대로 돌려주고,
+ * 커밋 여부를 알 수 없는 실패(커밋 중 오류)는 건별 처리로 넘기지 않고 예외로 알린다.
+ * 대기 시간이 지나면 아직 묶음 처리가 가져가지 않은 주문만 빼서 건별 처리로 넘기고, 이미 처리 중이면 결과가 나올 때까지 기다린다.
+ */
+@Component
+@Slf4j
+public class OrderCombiner {
+
+    private final UserService userService;
+    private final CouponService couponService;
+    private final ProductService productService;
+    private final ProductRepository productRepository;
+    private final StockReservationService stockReservationService;
+    private final StockStrategyResolver stockStrategyResolver;
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final OrderEventPublisher orderEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationExpiryService reservationExpiryService;
+
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxBatch;
+    private final long timeoutMs;
+
+    private final Map<Long, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService windowScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService flushExecutor;
+
+    public OrderCombiner(UserService userService,
+                         CouponService couponService,
+                         ProductService productService,
+                         ProductRepository productRepository,
+                         StockReservationService stockReservationService,
+                         StockStrategyResolver stockStrategyResolver,
+                         OrderJdbcRepository orderJdbcRepository,
+                         OrderEventPublisher orderEventPublisher,
+                         TransactionTemplate transactionTemplate,
+                         ReservationExpiryService reservationExpiryService,
+                         @Value("${order.combiner.enabled:false}") boolean enabled,
+                         @Value("${order.combiner.window-ms:3}") long windowMs,
+                         @Value("${order.combiner.max-batch:64}") int maxBatch,
+                         @Value("${order.combiner.flush-threads:2}") int flushThreads,
+                         @Value("${order.combiner.timeout-ms:5000}") long timeoutMs) {
+        this.userService = userService;
+        this.couponService = couponService;
+        this.productService = productService;
+        this.productRepository = productRepository;
+        this.stockReservationService = stockReservationService;
+        this.stockStrategyResolver = stockStrategyResolver;
+        this.orderJdbcRepository = orderJdbcRepository;
+        this.orderEventPublisher = orderEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.reservationExpiryService = reservationExpiryService;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxBatch = maxBatch;
+        this.timeoutMs = timeoutMs;
+        this.flushExecutor = Executors.newFixedThreadPool(flushThreads);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 묶음에 주문 추가 후 결과 대기
+     * @return 저장된 주문, 묶음 처리 불가 시 빈 값
+     */
+    public Optional<Order> submit(RequestOrder request) {
+
+        PendingOrder pendingOrder = new PendingOrder(request);
+
+        while (true) {
+            PendingBatch batch = pendingBatches.computeIfAbsent(request.productId(), this::openBatch);
+
+            synchronized (batch) {
+                if (batch.closed) {
+                    continue;
+                }
+                batch.orders.add(pendingOrder);
+
+                if (batch.orders.size() >= maxBatch) {
+                    closeAndFlush(request.productId(), batch);
+                }
+            }
+            break;
+        }
+
+        return await(pendingOrder);
+    }
+
+    private PendingBatch openBatch(Long productId) {
+        PendingBatch batch = new PendingBatch();
+        windowScheduler.schedule(() -> {
+            synchronized (batch) {
+                closeAndFlush(productId, batch);
+            }
+        }, windowMs, TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    /**
+     * batch 모니터를 잡은 상태에서 호출
+     */
+    private void closeAndFlush(Long productId, PendingBatch batch) {
+        if (batch.closed) {
+            return;
+        }
+        batch.closed = true;
+        pendingBatches.remove(productId, batch);
+
+        List<PendingOrder> orders = List.copyOf(batch.orders);
+        flushExecutor.execute(() -> flush(productId, orders));
+    }
+
+    private void flush(Long productId, List<PendingOrder> batchOrders) {
+        // 대기 시간이 지나 빠져나간 주문은 제외
+        List<PendingOrder> orders = batchOrders.stream()
+                .filter(order -> order.taken.compareAndSet(false, true))
+                .toList();
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        try {
+            combine(productId, orders);
+        } catch (CommitUnknownException e) {
+            log.error("주문 묶음 커밋 결과 확인 불가 - 상품ID: {}, 건수: {}", productId, orders.size(), e.getCause());
+            orders.forEach(order -> order.future.completeExceptionally(
+                    new OutcomeUnknownException("주문 처리 결과를 확인할 수 없습니다. 주문 내역을 확인해주세요.")));
+        } catch (Exception e) {
+            // 커밋 전 실패 - 저장된 주문이 없으므로 건별 처리로 넘긴다 (커밋 후에는 이미 결과를 돌려줌)
+            log.warn("주문 묶음 처리 실패, 건별 처리로 전환 - 상품ID: {}, 건수: {}", productId, orders.size(), e);
+            orders.forEach(order -> order.future.complete(Optional.empty()));
+        }
+    }
+
+    private void combine(Long productId, List<PendingOrder> orders) {
+
+        Product product = productRepository.findByIdAndStatus(productId, ProductStatus.ACTIVE).orElse(null);
+
+        StockStrategyType strategyType = product == null ? null : stockStrategyResolver.resolve(product).getType();
+
+        if (strategyType != StockStrategyType.REDIS_LUA && strategyType != StockStrategyType.ATOMIC_UPDATE) {
+            orders.forEach(order -> order.future.complete(Optional.empty()));
+            return;
+        }
+
+        Map<Long, User> users = userService.getActiveUsers(
+                orders.stream().map(order -> order.request.userId()).distinct().toList()
+        );
+
+        Coupon coupon = null;
+        if (orders.stream().anyMatch(order -> order.request.couponId() != null)) {
+            coupon = couponService.searchCouponByProductId(productId);
+        }
+
+        int availableQuantity = productService.getAvailableQuantity(product);
+
+        List<PendingOrder> accepted = new ArrayList<>();
+        List<Order> newOrders = new ArrayList<>();
+        int totalQuantity = 0;
+
+        // 도착 순서대로 검증하고 재고 범위 안의 주문만 묶음에 포함
+        for (PendingOrder pendingOrder : orders) {
+            RequestOrder request = pendingOrder.request;
+            try {
+                User user = users.get(request.userId());
+                if (user == null) {
+                    throw new CustomException("사용자가 존재하지 않습니다.");
+                }
+                user.checkPoint(request.requestPrice(), user.getPoint());
+
+                product.checkPrice(request.originalPrice(), product.getPrice() * request.requestQuantity());
+                product.checkQuantity(request.requestQuantity(), availableQuantity - totalQuantity);
+
+                Coupon orderCoupon = request.couponId() != null ? coupon : null;
+                long discountedPrice = couponService.calculateDiscountedPrice(product, orderCoupon);
+
+                newOrders.add(Order.create(user, product, orderCoupon, discountedPrice, request.requestQuantity(), OrderStatus.IN_PROGRESS));
+                accepted.add(pendingOrder);
+                totalQuantity += request.requestQuantity();
+
+            } catch (RuntimeException e) {
+                pendingOrder.future.completeExceptionally(e);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        String reservationId = strategyType == StockStrategyType.REDIS_LUA
+                ? stockReservationService.reserve(productId, totalQuantity, availableQuantity)
+                : null;
+
+        int decreaseQuantity = totalQuantity;
+        AtomicBoolean callbackCompleted = new AtomicBoolean();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                productService.decreaseStockAtomically(productId, decreaseQuantity);
+
+                List<Long> ids = orderJdbcRepository.insertAll(newOrders);
+
+                for (int i = 0; i < newOrders.size(); i++) {
+                    newOrders.get(i).assignId(ids.get(i));
+                    reservationExpiryService.register(ids.get(i));
+                    orderEventPublisher.publishOrderCreated(OrderCreatedEvent.of(newOrders.get(i), ids.get(i), List.of()));
+                }
+                callbackCompleted.set(true);
+            });
+        } catch (RuntimeException e) {
+            if (callbackCompleted.get()) {
+                // 콜백은 끝났는데 커밋 단계에서 실패 - 커밋되었을 수 있으므로 재고 예약도 그대로 두고 만료에 맡긴다
+                throw new CommitUnknownException(e);
+            }
+            if (reservationId != null) {
+                stockReservationService.release(productId, reservationId);
+            }
+            throw e;
+        }
+
+        // 커밋 완료 - 이후 실패와 관계없이 저장된 주문을 돌려준다
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).future.complete(Optional.of(newOrders.get(i)));
+        }
+
+        try {
+            if (reservationId != null) {
+                stockReservationService.confirm(reservationId);
+            } else {
+                stockReservationService.invalidate(productId);
+            }
+        } catch (Exception e) {
+            log.warn("주문 묶음 커밋 후 재고 예약 정리 실패 - 상품ID: {}, 예약ID: {}", productId, reservationId, e);
+        }
+
+        log.debug("주문 묶음 처리 완료 - 상품ID: {}, 건수: {}, 수량: {}", productId, newOrders.size(), totalQuantity);
+    }
+
+    private Optional<Order> await(PendingOrder pendingOrder) {
+        try {
+            return pendingOrder.future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (TimeoutException e) {
+            if (pendingOrder.taken.compareAndSet(false, true)) {
+                log.warn("주문 묶음 대기 시간 초과, 건별 처리로 전환 - 사용자ID: {}, 상품ID: {}",
+                        pendingOrder.request.userId(), pendingOrder.request.productId());
+                return Optional.empty();
+            }
+            // 이미 묶음 처리 중 - 저장 여부가 정해질 때까지 기다린다 (트랜잭션 타임아웃 안에 끝남)
+            return awaitTaken(pendingOrder);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pendingOrder.taken.compareAndSet(false, true)) {
+                throw new CustomException("주문 처리 중 인터럽트 발생");
+            }
+            return awaitTaken(pendingOrder);
+        }
+    }
+
+    private Optional<Order> awaitTaken(PendingOrder pendingOrder) {
+        try {
+            return pendingOrder.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CustomException("주문 처리 실패");
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new CustomException("주문 처리 실패");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        windowScheduler.shutdown();
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                flushExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flushExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class PendingBatch {
+        private final List<PendingOrder> orders = new ArrayList<>();
+        private boolean closed;
+    }
+
+    private static class PendingOrder {
+        private final RequestOrder request;
+        private final CompletableFuture<Optional<Order>> future = new CompletableFuture<>();
+        /** 묶음 처리가 가져갔거나 대기 시간이 지나 빠져나갔으면 true */
+        private final AtomicBoolean taken = new AtomicBoolean();
+
+        private PendingOrder(RequestOrder request) {
+            this.request = request;
+        }
+    }
+
+    private static class CommitUnknownException extends RuntimeException {
+        private CommitUnknownException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -2,72 +2,73 @@ package kr.hhplus.be.server.service;
 
 import kr.hhplus.be.server.domain.Coupon;
 import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.domain.OrderLine;
 import kr.hhplus.be.server.domain.Product;
 import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.order.OrderLineItem;
+import kr.hhplus.be.server.dto.order.RequestCartOrder;
 import kr.hhplus.be.server.dto.order.RequestOrder;
 import kr.hhplus.be.server.dto.order.ResponseOrder;
 import kr.hhplus.be.server.enums.OrderStatus;
+import kr.hhplus.be.server.enums.UserStatus;
 import kr.hhplus.be.server.eventHandler.OrderCreatedEvent;
 import kr.hhplus.be.server.eventHandler.OrderEventPublisher;
 import kr.hhplus.be.server.exception.custom.CustomException;
 import kr.hhplus.be.server.repository.CouponRepository;
+import kr.hhplus.be.server.repository.OrderLineRepository;
 import kr.hhplus.be.server.repository.OrderRepository;
 import kr.hhplus.be.server.repository.ProductRepository;
 import kr.hhplus.be.server.repository.UserRepository;
+import kr.hhplus.be.server.service.stock.StockConcurrencyStrategy;
+import kr.hhplus.be.server.service.stock.StockStrategyResolver;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 public class OrderFacade {
 
     private final OrderRepository orderRepository;
+    private final OrderLineRepository orderLineRepository;
     private final OrderEventPublisher orderEventPublisher;
     private final UserService userService;
     private final CouponService couponService;
     private final ProductService productService;
-    private final RedissonClient redissonClient;
+    private final StockStrategyResolver stockStrategyResolver;
+    private final StockReservationService stockReservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderCombiner orderCombiner;
+    private final ReservationExpiryService reservationExpiryService;
 
     public ResponseOrder processOrder(RequestOrder request) {
-        String lockKey = "product:stock:" + request.productId();
-        RLock lock = redissonClient.getLock(lockKey);
 
-        int maxRetry = 5;
-        int retryDelay = 50;
+        Order order = createOrder(request);
 
-        try {
-            boolean locked = false;
-            for (int i = 0; i < maxRetry; i++) {
-                if (lock.tryLock(5, 5, TimeUnit.SECONDS)) {
-                    locked = true;
-                    break;
-                }
-                Thread.sleep(retryDelay);
-            }
-
-            if (!locked) {
-                throw new CustomException("재고 처리 중입니다. 잠시 후 다시 시도해주세요.");
-            }
-            Order order = createOrderCore(request);
-
-            orderEventPublisher.publishOrderCreated(OrderCreatedEvent.of(order));
+        return ResponseOrder.from(order);
+    }
 
-            return ResponseOrder.from(order);
+    /**
+     * 주문 생성 (재고 차감 + 주문 저장 + 이벤트 기록)
+     */
+    public Order createOrder(RequestOrder request) {
+        return combineOrder(request).orElseGet(() -> createOrderCore(request));
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new CustomException("주문 처리 중 오류가 발생했습니다.");
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+    /**
+     * 묶음 처리 모드에서는 같은 상품 주문을 모아 한 번에 처리하고, 불가능하면 건별 처리
+     */
+    private Optional<Order> combineOrder(RequestOrder request) {
+        if (!orderCombiner.isEnabled()) {
+            return Optional.empty();
         }
+        return orderCombiner.submit(request);
     }
 
     @Transactional(timeout = 10)
@@ -77,7 +78,109 @@ public class OrderFacade {
 
         Product product = productService.getProductInfo(request);
 
-        productService.decreaseStock(request.productId(), request.requestQuantity());
+        StockConcurrencyStrategy stockStrategy = stockStrategyResolver.resolve(product);
+
+        return stockStrategy.executeWithStock(
+                request.productId(),
+                request.requestQuantity(),
+                productService.getAvailableQuantity(product),
+                () -> transactionTemplate.execute(status -> saveOrder(request, user, product))
+        );
+    }
+
+    /**
+     * 장바구니 주문
+     * 라인을 상품ID 순으로 정렬해 Redis 예약(Lua 1회)과 DB 행 잠금을 항상 같은 순서로 잡고,
+     * 재고 차감 / 주문 / 주문 라인 / outbox 기록을 한 트랜잭션에서 처리한다.
+     * 장바구니 주문에는 쿠폰을 적용하지 않는다.
+     */
+    public ResponseOrder processCartOrder(RequestCartOrder request) {
+
+        List<OrderLineItem> lines = sortAndMergeLines(request.lines());
+
+        User user = userService.getUserInfo(request.userId(), UserStatus.ACTIVE);
+
+        user.checkPoint(request.requestPrice(), user.getPoint());
+
+        Map<Long, Product> products = productService.getCartProducts(lines);
+
+        long totalPrice = lines.stream()
+                .mapToLong(line -> products.get(line.productId()).getPrice() * line.requestQuantity())
+                .sum();
+
+        if (totalPrice != request.requestPrice()) {
+            throw new CustomException("요청하신 상품 금액이 다릅니다.");
+        }
+
+        Map<Long, Integer> availableQuantities = productService.getAvailableQuantities(products.values());
+
+        for (OrderLineItem line : lines) {
+            products.get(line.productId()).checkQuantity(line.requestQuantity(), availableQuantities.get(line.productId()));
+        }
+
+        String reservationId = stockReservationService.reserveAll(lines, availableQuantities);
+
+        try {
+            Order order = transactionTemplate.execute(status -> saveCartOrder(user, lines, products, totalPrice));
+
+            stockReservationService.confirm(reservationId);
+
+            return ResponseOrder.fromCart(order, lines.size());
+
+        } catch (RuntimeException e) {
+            stockReservationService.releaseAll(lines, reservationId);
+            throw e;
+        }
+    }
+
+    private Order saveCartOrder(User user, List<OrderLineItem> lines, Map<Long, Product> products, long totalPrice) {
+
+        productService.decreaseStocks(lines, products);
+
+        int totalQuantity = lines.stream().mapToInt(OrderLineItem::requestQuantity).sum();
+
+        // 대표 상품은 상품ID가 가장 작은 라인
+        Product representative = products.get(lines.get(0).productId());
+
+        Order order = new Order(user, representative, null, totalPrice, totalPrice, totalQuantity, OrderStatus.IN_PROGRESS);
+
+        Order savedOrder = orderRepository.save(order);
+
+        orderLineRepository.saveAll(lines.stream()
+                .map(line -> new OrderLine(savedOrder, products.get(line.productId()), line.requestQuantity()))
+                .toList());
+
+        reservationExpiryService.register(savedOrder.getId());
+
+        orderEventPublisher.publishOrderCreated(OrderCreatedEvent.ofCart(savedOrder, lines));
+
+        return savedOrder;
+    }
+
+    /**
+     * 같은 상품 라인은 합치고 상품ID 오름차순으로 정렬
+     */
+    private List<OrderLineItem> sortAndMergeLines(List<OrderLineItem> lines) {
+
+        if (lines == null || lines.isEmpty()) {
+            throw new CustomException("주문 상품이 없습니다.");
+        }
+
+        Map<Long, Integer> merged = new TreeMap<>();
+
+        for (OrderLineItem line : lines) {
+            if (line.requestQuantity() <= 0) {
+                throw new CustomException("주문 수량은 0보다 커야 합니다.");
+            }
+            merged.merge(line.productId(), line.requestQuantity(), Integer::sum);
+        }
+
+        return merged.entrySet().stream()
+                .map(entry -> new OrderLineItem(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private Order saveOrder(RequestOrder request, User user, Product product) {
 
         Coupon coupon = null;
 
@@ -89,7 +192,14 @@ public class OrderFacade {
 
         Order order = Order.create(user, product, coupon, expectedDiscountPrice, request.requestQuantity(), OrderStatus.IN_PROGRESS);
 
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+
+        reservationExpiryService.register(savedOrder.getId());
+
+        // 주문 행과 같은 트랜잭션에서 outbox 기록
+        orderEventPublisher.publishOrderCreated(OrderCreatedEvent.of(savedOrder));
+
+        return savedOrder;
     }
 
 }
@@ -5,22 +5,34 @@ import kr.hhplus.be.server.domain.Coupon;
 import kr.hhplus.be.server.domain.Order;
 import kr.hhplus.be.server.domain.Product;
 import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.order.OrderCursor;
+import kr.hhplus.be.server.dto.order.OrderLineItem;
+import kr.hhplus.be.server.dto.order.OrderSummary;
 import kr.hhplus.be.server.dto.order.RequestOrder;
 import kr.hhplus.be.server.dto.order.ResponseOrder;
+import kr.hhplus.be.server.dto.order.ResponseOrderHistory;
 import kr.hhplus.be.server.enums.OrderStatus;
 import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.OrderLineRepository;
 import kr.hhplus.be.server.repository.OrderRepository;
 import kr.hhplus.be.server.repository.PointHistRepository;
 import kr.hhplus.be.server.repository.ProductRepository;
 import kr.hhplus.be.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
+    private final OrderLineRepository orderLineRepository;
     private final ProductService productService;
     private final UserService userService;
     private final PaymentService paymentService;
@@ -67,22 +79,98 @@ public class OrderService {
         return responseOrder;
     }
 
+    /**
+     * 주문완료 - 예약 만료와 동시에 상태를 바꾸지 않도록 행 잠금 후 확인한다
+     */
     @Transactional
     public void completeOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new CustomException("주문을 찾을 수 없습니다"));
+
+        order.complete();
+    }
+
+    /**
+     * 단계별 처리 모드의 포인트 차감 기록 - 포인트 차감 트랜잭션에서 차감보다 먼저 호출한다
+     * 주문 행을 먼저 잠가 예약 만료와 같은 잠금 순서(주문 -> 사용자)를 지키고, 이미 만료 취소된 주문이면 차감하지 않는다.
+     */
+    @Transactional
+    public void markPointDeducted(Long orderId, long amount) {
+        if (orderRepository.updatePointDeductedAmount(orderId, amount, OrderStatus.IN_PROGRESS) == 0) {
+            throw new CustomException("진행중인 주문이 아닙니다.");
+        }
+    }
+
+    public OrderStatus getOrderStatus(Long orderId) {
+        return orderRepository.findById(orderId)
+                .map(Order::getStatus)
+                .orElseThrow(() -> new CustomException("주문을 찾을 수 없습니다"));
+    }
+
+    /**
+     * 사용자 주문 목록 (키셋 페이징)
+     * 한 건 더 조회해 다음 페이지 존재 여부를 판단하고, 마지막 주문으로 다음 커서를 만든다
+     */
+    public ResponseOrderHistory getOrderHistory(Long userId, String cursor, int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<OrderSummary> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findOrderSummaries(userId, limit);
+        } else {
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+            orders = orderRepository.findOrderSummariesAfter(userId, orderCursor.orderDateTime(), orderCursor.orderId(), limit);
+        }
+
+        if (orders.size() <= pageSize) {
+            return new ResponseOrderHistory(orders, null);
+        }
+
+        List<OrderSummary> page = orders.subList(0, pageSize);
+
+        return new ResponseOrderHistory(List.copyOf(page), OrderCursor.from(page.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * 재고 반영 대상 라인 - 장바구니 주문은 주문 라인, 단건 주문은 주문 상품 한 줄
+     */
+    public List<OrderLineItem> getStockLines(Long orderId, Long productId, int quantity) {
+
+        List<OrderLineItem> lines = orderLineRepository.findLineItemsByOrderId(orderId);
+
+        return lines.isEmpty() ? List.of(new OrderLineItem(productId, quantity)) : lines;
     }
 
     /**
-     * 주문취소
+     * 주문취소 - 예약 만료와 동시에 상태를 바꾸지 않도록 행 잠금 후 확인한다
      */
     @Transactional
     public void cancelOrder(Long orderId) {
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new CustomException("주문을 찾을 수 없습니다"));
 
         order.cancel();
 
     }
+
+    /**
+     * 진행중인 주문만 취소 (보상 처리용)
+     * @return 취소했으면 true, 예약 만료 등으로 이미 끝난 주문이면 false - 호출자는 재고/포인트를 되돌리지 않는다
+     */
+    @Transactional
+    public boolean cancelIfInProgress(Long orderId) {
+
+        Order order = orderRepository.findByIdWithLock(orderId)
+                .orElseThrow(() -> new CustomException("주문을 찾을 수 없습니다"));
+
+        if (order.getStatus() != OrderStatus.IN_PROGRESS) {
+            return false;
+        }
+
+        order.cancel();
+        return true;
+    }
 }
@@ -0,0 +1,303 @@
+package kr.hhplus.be.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.dto.order.RequestOrder;
+import kr.hhplus.be.server.dto.order.ResponseOrderSubmission;
+import kr.hhplus.be.server.enums.OrderSubmissionStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.exception.custom.ServiceBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 비동기 주문 접수
+ * 요청을 Redis 스트림에 기록하고 접수 ID를 바로 돌려준다. 주문 생성은 OrderSubmissionWorker가 컨슈머 그룹으로 읽어 처리하므로
+ * 접수한 노드가 종료되어도 다른 노드가 이어서 처리한다. 대기 중인 접수가 max-queued 이상이면 503으로 거절한다.
+ * 상태는 Redis 해시에 두고, 변경 시 Redis 채널로 알려 어느 노드에 연결된 SSE 구독자든 받을 수 있게 한다.
+ */
+@Service
+@Slf4j
+public class OrderSubmissionService implements MessageListener {
+
+    private final OrderFacade orderFacade;
+    private final OrderService orderService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final long maxQueued;
+
+    /**
+     * 종료 상태는 진행 상태로 되돌리지 않는다 (주문 생성 스레드와 후속 처리 스레드의 경합 방지)
+     * KEYS[1] 접수 상태, ARGV[1] 상태 JSON, ARGV[2] 새 상태의 종료 여부(1/0), ARGV[3] TTL(초)
+     */
+    private static final RedisScript<Long> UPDATE_STATUS_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('GET', KEYS[1]) " +
+            "if cur and ARGV[2] == '0' then " +
+            "  local status = cjson.decode(cur)['status'] " +
+            "  if status == 'COMPLETED' or status == 'CANCELLED' or status == 'FAILED' then return 0 end " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * QUEUED일 때만 PROCESSING으로 바꾼다 - 바꾼 호출자만 주문을 생성한다
+     * KEYS[1] 접수 상태, ARGV[1] 상태 JSON, ARGV[2] TTL(초)
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('GET', KEYS[1]) " +
+            "if not cur or cjson.decode(cur)['status'] ~= 'QUEUED' then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    private static final String SUBMISSION_KEY = "order:submission:";
+    private static final String ORDER_SUBMISSION_KEY = "order:submission:order:";
+    private static final String STATUS_CHANNEL = "order:submission:status";
+    public static final String STREAM_KEY = "order:submission:stream";
+    private static final Duration SUBMISSION_TTL = Duration.ofHours(1);
+    private static final long EMITTER_TIMEOUT_MS = 60_000L;
+
+    public OrderSubmissionService(OrderFacade orderFacade,
+                                  OrderService orderService,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer redisMessageListenerContainer,
+                                  ObjectMapper objectMapper,
+                                  @Value("${order.submission.max-queued:1000}") long maxQueued) {
+        this.orderFacade = orderFacade;
+        this.orderService = orderService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.maxQueued = maxQueued;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(STATUS_CHANNEL));
+    }
+
+    /**
+     * 주문 접수 - 주문 생성 결과를 기다리지 않는다
+     * 처리되지 않은 접수(스트림 길이)가 max-queued 이상이면 거절한다 (동시 접수로 약간 넘을 수 있다)
+     */
+    public ResponseOrderSubmission submit(RequestOrder request) {
+
+        Long queuedCount = stringRedisTemplate.opsForStream().size(STREAM_KEY);
+        if (queuedCount != null && queuedCount >= maxQueued) {
+            log.warn("주문 접수 대기열 초과 - 대기: {}건", queuedCount);
+            throw new ServiceBusyException("주문 접수가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        String submissionId = UUID.randomUUID().toString();
+
+        ResponseOrderSubmission queued = new ResponseOrderSubmission(submissionId, OrderSubmissionStatus.QUEUED, null, null);
+        save(queued);
+
+        stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                "submissionId", submissionId,
+                "request", write(request)
+        )).withStreamKey(STREAM_KEY));
+
+        return queued;
+    }
+
+    /**
+     * 접수 건 주문 생성 (OrderSubmissionWorker에서 호출)
+     * 다른 노드에서 넘겨받은 접수는 이미 처리 중이거나 처리되었을 수 있으므로 QUEUED → PROCESSING으로 바꾼 호출자만 처리한다.
+     * 주문 생성 중 종료되면 PROCESSING으로 남고 다시 처리하지 않는다 (주문이 커밋되었을 수 있어 중복 생성보다 안전).
+     */
+    public void process(String submissionId, String requestJson) {
+        String processing = write(new ResponseOrderSubmission(submissionId, OrderSubmissionStatus.PROCESSING, null, null));
+        Long claimed = stringRedisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(SUBMISSION_KEY + submissionId),
+                processing,
+                String.valueOf(SUBMISSION_TTL.getSeconds())
+        );
+        if (claimed == null || claimed != 1L) {
+            log.info("이미 처리 중이거나 만료된 주문 접수 - 접수ID: {}", submissionId);
+            return;
+        }
+        stringRedisTemplate.convertAndSend(STATUS_CHANNEL, processing);
+
+        RequestOrder request;
+        try {
+            request = objectMapper.readValue(requestJson, RequestOrder.class);
+        } catch (JsonProcessingException e) {
+            log.error("주문 접수 요청 복원 실패 - 접수ID: {}", submissionId, e);
+            updateStatus(new ResponseOrderSubmission(submissionId, OrderSubmissionStatus.FAILED, null, "주문 접수 요청이 올바르지 않습니다."));
+            return;
+        }
+
+        Order order;
+        try {
+            order = orderFacade.createOrder(request);
+        } catch (Exception e) {
+            log.warn("비동기 주문 생성 실패 - 접수ID: {}", submissionId, e);
+            updateStatus(new ResponseOrderSubmission(submissionId, OrderSubmissionStatus.FAILED, null, e.getMessage()));
+            return;
+        }
+
+        stringRedisTemplate.opsForValue().set(ORDER_SUBMISSION_KEY + order.getId(), submissionId, SUBMISSION_TTL);
+
+        // 연결 키를 쓰기 전에 후속 처리가 끝났을 수 있으므로 DB 상태로 한 번 더 맞춘다
+        OrderSubmissionStatus status = OrderSubmissionStatus.from(orderService.getOrderStatus(order.getId()));
+
+        updateStatus(new ResponseOrderSubmission(submissionId, status, order.getId(), null));
+    }
+
+    /**
+     * 주문 후속 처리 결과 반영 (OrderEventHandler에서 호출)
+     * 동기 주문처럼 접수 기록이 없는 주문은 무시한다.
+     */
+    public void onOrderFinished(Long orderId, OrderSubmissionStatus status) {
+        try {
+            String submissionId = stringRedisTemplate.opsForValue().get(ORDER_SUBMISSION_KEY + orderId);
+            if (submissionId == null) {
+                return;
+            }
+
+            updateStatus(new ResponseOrderSubmission(submissionId, status, orderId, null));
+
+        } catch (Exception e) {
+            log.error("주문 접수 상태 갱신 실패 - 주문ID: {}", orderId, e);
+        }
+    }
+
+    public ResponseOrderSubmission getStatus(String submissionId) {
+
+        String json = stringRedisTemplate.opsForValue().get(SUBMISSION_KEY + submissionId);
+        if (json == null) {
+            throw new CustomException("주문 접수 내역이 없습니다.");
+        }
+
+        return read(json);
+    }
+
+    /**
+     * 상태 스트림 - 현재 상태를 먼저 보내고 종료 상태가 되면 스트림을 닫는다
+     */
+    public SseEmitter stream(String submissionId) {
+
+        ResponseOrderSubmission current = getStatus(submissionId);
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+
+        if (current.status().isFinished()) {
+            send(emitter, current);
+            emitter.complete();
+            return emitter;
+        }
+
+        List<SseEmitter> subscribers = emitters.computeIfAbsent(submissionId, id -> new CopyOnWriteArrayList<>());
+        subscribers.add(emitter);
+
+        emitter.onCompletion(() -> removeEmitter(submissionId, emitter));
+        emitter.onTimeout(() -> removeEmitter(submissionId, emitter));
+        emitter.onError(e -> removeEmitter(submissionId, emitter));
+
+        send(emitter, current);
+
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        ResponseOrderSubmission submission = read(new String(message.getBody(), StandardCharsets.UTF_8));
+
+        List<SseEmitter> subscribers = emitters.get(submission.submissionId());
+        if (subscribers == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, submission);
+            if (submission.status().isFinished()) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private void updateStatus(ResponseOrderSubmission submission) {
+        String json = write(submission);
+
+        Long updated = stringRedisTemplate.execute(
+                UPDATE_STATUS_SCRIPT,
+                List.of(SUBMISSION_KEY + submission.submissionId()),
+                json,
+                submission.status().isFinished() ? "1" : "0",
+                String.valueOf(SUBMISSION_TTL.getSeconds())
+        );
+
+        if (updated != null && updated == 1L) {
+            stringRedisTemplate.convertAndSend(STATUS_CHANNEL, json);
+        }
+    }
+
+    private void save(ResponseOrderSubmission submission) {
+        stringRedisTemplate.opsForValue().set(SUBMISSION_KEY + submission.submissionId(), write(submission), SUBMISSION_TTL);
+    }
+
+    private void send(SseEmitter emitter, ResponseOrderSubmission submission) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(submission));
+        } catch (IOException | IllegalStateException e) {
+            removeEmitter(submission.submissionId(), emitter);
+        }
+    }
+
+    private void removeEmitter(String submissionId, SseEmitter emitter) {
+        List<SseEmitter> subscribers = emitters.get(submissionId);
+        if (subscribers == null) {
+            return;
+        }
+        subscribers.remove(emitter);
+        if (subscribers.isEmpty()) {
+            emitters.remove(submissionId, subscribers);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new CustomException("주문 접수 상태 저장 실패");
+        }
+    }
+
+    private ResponseOrderSubmission read(String json) {
+        try {
+            return objectMapper.readValue(json, ResponseOrderSubmission.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException("주문 접수 상태 조회 실패");
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package kr.hhplus.be.server.service;
+
+import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.dto.order.ResponseOrderSummary;
+import kr.hhplus.be.server.enums.OrderStatus;
+import kr.hhplus.be.server.eventHandler.OrderCreatedEvent;
+import kr.hhplus.be.server.eventHandler.PaymentCompletedEvent;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 조회 모델 (CQRS)
+ * 주문 이벤트로 주문별 Redis 해시를 갱신해 조회 시 조인 없이 키 하나로 읽는다.
+ * 이벤트 도착 순서가 바뀌어도 결과가 같도록 생성 이벤트는 상태를 덮어쓰지 않는다.
+ * 해시가 없으면(만료, 이벤트 유실) DB에서 한 번 다시 만든다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OrderRepository orderRepository;
+
+    private static final String ORDER_SUMMARY_KEY = "order:summary:";
+    private static final Duration SUMMARY_TTL = Duration.ofDays(7);
+
+    /**
+     * KEYS[1] 주문 요약
+     * ARGV[1] TTL(초), ARGV[2] 초기 상태, 이후 필드/값 쌍
+     */
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('HSETNX', KEYS[1], 'status', ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    public void onCreated(OrderCreatedEvent event) {
+        try {
+            write(event.getOrderId(), OrderStatus.IN_PROGRESS, Map.of(
+                    "orderId", String.valueOf(event.getOrderId()),
+                    "userId", String.valueOf(event.getUserId()),
+                    "userName", nullToEmpty(event.getUserName()),
+                    "productId", String.valueOf(event.getProductId()),
+                    "productName", nullToEmpty(event.getProductName()),
+                    "requestQuantity", String.valueOf(event.getRequestQuantity()),
+                    "originalPrice", String.valueOf(event.getOriginalPrice()),
+                    "requestPrice", String.valueOf(event.getRequestPrice()),
+                    "orderDateTime", String.valueOf(event.getCreatedAt())
+            ));
+        } catch (Exception e) {
+            log.error("주문 조회 모델 생성 실패 - 주문ID: {}", event.getOrderId(), e);
+        }
+    }
+
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        if (!event.isPaymentSuccess()) {
+            return;
+        }
+
+        try {
+            String key = ORDER_SUMMARY_KEY + event.getOrderId();
+            stringRedisTemplate.opsForHash().putAll(key, Map.of(
+                    "status", OrderStatus.COMPLETED.name(),
+                    "paymentId", String.valueOf(event.getPaymentId())
+            ));
+            stringRedisTemplate.expire(key, SUMMARY_TTL);
+        } catch (Exception e) {
+            log.error("주문 조회 모델 결제완료 반영 실패 - 주문ID: {}", event.getOrderId(), e);
+        }
+    }
+
+    public void onCancelled(Long orderId) {
+        try {
+            String key = ORDER_SUMMARY_KEY + orderId;
+            stringRedisTemplate.opsForHash().put(key, "status", OrderStatus.CANCELLED.name());
+            stringRedisTemplate.expire(key, SUMMARY_TTL);
+        } catch (Exception e) {
+            log.error("주문 조회 모델 취소 반영 실패 - 주문ID: {}", orderId, e);
+        }
+    }
+
+    public ResponseOrderSummary getSummary(Long orderId) {
+
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(ORDER_SUMMARY_KEY + orderId);
+
+        // 생성 이벤트가 반영되기 전이면 상태 필드만 있을 수 있다
+        if (fields.containsKey("orderId")) {
+            return toSummary(fields);
+        }
+
+        return rebuild(orderId);
+    }
+
+    private ResponseOrderSummary rebuild(Long orderId) {
+
+        Order order = orderRepository.findWithDetailsById(orderId)
+                .orElseThrow(() -> new CustomException("주문을 찾을 수 없습니다"));
+
+        ResponseOrderSummary summary = new ResponseOrderSummary(
+                order.getId(),
+                order.getUser().getId(),
+                order.getUser().getName(),
+                order.getProduct().getId(),
+                order.getProduct().getName(),
+                order.getRequestQuantity(),
+                order.getOriginalPrice(),
+                order.getDiscountedPrice(),
+                order.getStatus(),
+                null,
+                order.getOrderDateTime()
+        );
+
+        try {
+            write(orderId, order.getStatus(), Map.of(
+                    "orderId", String.valueOf(summary.orderId()),
+                    "userId", String.valueOf(summary.userId()),
+                    "userName", nullToEmpty(summary.userName()),
+                    "productId", String.valueOf(summary.productId()),
+                    "productName", nullToEmpty(summary.productName()),
+                    "requestQuantity", String.valueOf(summary.requestQuantity()),
+                    "originalPrice", String.valueOf(summary.originalPrice()),
+                    "requestPrice", String.valueOf(summary.requestPrice()),
+                    "orderDateTime", String.valueOf(summary.orderDateTime())
+            ));
+        } catch (Exception e) {
+            log.warn("주문 조회 모델 재생성 저장 실패 - 주문ID: {}", orderId, e);
+        }
+
+        return summary;
+    }
+
+    private void write(Long orderId, OrderStatus initialStatus, Map<String, String> fields) {
+
+        String[] args = new String[2 + fields.size() * 2];
+        args[0] = String.valueOf(SUMMARY_TTL.getSeconds());
+        args[1] = initialStatus.name();
+
+        int i = 2;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            args[i++] = field.getKey();
+            args[i++] = field.getValue();
+        }
+
+        stringRedisTemplate.execute(CREATE_SCRIPT, List.of(ORDER_SUMMARY_KEY + orderId), (Object[]) args);
+    }
+
+    private ResponseOrderSummary toSummary(Map<Object, Object> fields) {
+        String paymentId = (String) fields.get("paymentId");
+
+        return new ResponseOrderSummary(
+                Long.valueOf((String) fields.get("orderId")),
+                Long.valueOf((String) fields.get("userId")),
+                (String) fields.get("userName"),
+                Long.valueOf((String) fields.get("productId")),
+                (String) fields.get("productName"),
+                Integer.parseInt((String) fields.get("requestQuantity")),
+                Long.parseLong((String) fields.get("originalPrice")),
+                Long.parseLong((String) fields.get("requestPrice")),
+                OrderStatus.valueOf((String) fields.get("status")),
+                paymentId == null ? null : Long.valueOf(paymentId),
+                LocalDateTime.parse((String) fields.get("orderDateTime"))
+        );
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
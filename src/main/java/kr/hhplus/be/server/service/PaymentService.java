@@ -58,13 +58,7 @@ public class PaymentService {
 
         user.addPoint(requestPointCharge.userPoint());
 
-        Payment payment = new Payment(
-                PaymentStatus.COMPLETED,
-                requestPointCharge.userPoint(),
-                TransactionType.CHARGE
-        );
-
-        Payment returnPayment = paymentRepository.save(payment);
+        Payment returnPayment = createChargePayment(requestPointCharge.userPoint());
 
         pointHistService.createPointHist(user,
                 TransactionType.CHARGE,
@@ -75,6 +69,17 @@ public class PaymentService {
         return user;
     }
 
+    /**
+     * 충전 결제 기록 - 포인트 원장 모드에서는 잔액/이력을 원장이 처리하므로 결제만 저장
+     */
+    public Payment createChargePayment(long amount) {
+        return paymentRepository.save(new Payment(
+                PaymentStatus.COMPLETED,
+                amount,
+                TransactionType.CHARGE
+        ));
+    }
+
 
 
 }
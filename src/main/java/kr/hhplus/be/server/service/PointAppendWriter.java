@@ -0,0 +1,335 @@
+package kr.hhplus.be.server.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.dto.point.PointLedgerEntry;
+import kr.hhplus.be.server.enums.TransactionType;
+import kr.hhplus.be.server.repository.PointAppendJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 이력 비동기 일괄 저장
+ * 이력을 커밋 후 고정 크기 버퍼에 넣고 바로 돌아오며, 전용 스레드 하나가 모아서 다중 행 INSERT로 저장한다.
+ * 로컬 스풀 파일에 먼저 남겨 저장 전에 종료되어도 다음 기동 시 다시 넣는다.
+ * DB 커밋과 체크포인트 기록 사이에 종료되면 그 묶음이 한 번 더 저장될 수 있다 (최소 한 번).
+ * 결제는 생성키가 필요하고 호출 트랜잭션과 함께 커밋되어야 하므로 묶지 않는다.
+ * 버퍼가 가득 차면 호출 스레드에서 새 트랜잭션으로 바로 저장한다. 커밋 후 콜백에서는 끝난 트랜잭션의 연결이
+ * 자동 커밋이 꺼진 채 묶여 있어, 그대로 저장하면 커밋되지 않고 연결 반납 시 사라지기 때문이다.
+ */
+@Component
+@Slf4j
+public class PointAppendWriter {
+
+    private static final String SPOOL_FILE = "point-hist.spool";
+    private static final String CHECKPOINT_FILE = "point-hist.checkpoint";
+    private static final long MAX_RETRY_DELAY_MS = 30000;
+
+    private final PointAppendJdbcRepository pointAppendJdbcRepository;
+    private final TransactionTemplate fallbackTransactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerMs;
+    private final boolean spoolFsync;
+    private final Path spoolFile;
+    private final Path checkpointFile;
+
+    private final BlockingQueue<HistoryRecord> buffer;
+
+    // 스풀 기록과 버퍼 투입 순서를 맞추기 위한 잠금
+    private final Object spoolLock = new Object();
+    private FileChannel spool;
+    private long lastSpooledSeq;
+    private volatile long committedSeq;
+
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public PointAppendWriter(PointAppendJdbcRepository pointAppendJdbcRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${order.point.append-writer.enabled:false}") boolean enabled,
+                             @Value("${order.point.append-writer.capacity:65536}") int capacity,
+                             @Value("${order.point.append-writer.batch-size:1000}") int batchSize,
+                             @Value("${order.point.append-writer.linger-ms:5}") long lingerMs,
+                             @Value("${order.point.append-writer.spool-dir:./data/point-append-spool}") String spoolDir,
+                             @Value("${order.point.append-writer.spool-fsync:false}") boolean spoolFsync) {
+        this.pointAppendJdbcRepository = pointAppendJdbcRepository;
+        this.fallbackTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.fallbackTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+        this.spoolFsync = spoolFsync;
+        this.spoolFile = Path.of(spoolDir, SPOOL_FILE);
+        this.checkpointFile = Path.of(spoolDir, CHECKPOINT_FILE);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        recoverSpool();
+
+        running = true;
+        writerThread = new Thread(this::run, "point-append-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이력 추가 - 트랜잭션 안이면 커밋 후에 넣는다
+     */
+    public void appendHistory(PointLedgerEntry entry) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueHistory(entry);
+                }
+            });
+            return;
+        }
+
+        enqueueHistory(entry);
+    }
+
+    private void enqueueHistory(PointLedgerEntry entry) {
+        synchronized (spoolLock) {
+            long seq = lastSpooledSeq + 1;
+            if (buffer.offer(new HistoryRecord(seq, entry))) {
+                lastSpooledSeq = seq;
+                writeSpool(seq, entry);
+                return;
+            }
+        }
+
+        log.warn("포인트 이력 버퍼 가득 참, 바로 저장 - 사용자ID: {}", entry.userId());
+        try {
+            fallbackTransactionTemplate.executeWithoutResult(
+                    status -> pointAppendJdbcRepository.insertHistories(List.of(entry)));
+        } catch (Exception e) {
+            log.error("포인트 이력 저장 실패 - 사용자ID: {}, 결제ID: {}", entry.userId(), entry.paymentId(), e);
+        }
+    }
+
+    private void run() {
+        List<HistoryRecord> batch = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                HistoryRecord first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    truncateSpoolIfDrained();
+                    continue;
+                }
+                batch.add(first);
+
+                // 짧게 더 기다려 한 번에 저장하는 행 수를 늘린다
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    HistoryRecord next = remaining > 0 ? buffer.poll(remaining, TimeUnit.NANOSECONDS) : buffer.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flushHistories(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("포인트 이력 일괄 저장 실패", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 이력은 스풀에 남아 있으므로 저장될 때까지 재시도하고, 종료 중이면 다음 기동 시 복구에 맡긴다
+     */
+    private void flushHistories(List<HistoryRecord> records) throws InterruptedException {
+        List<PointLedgerEntry> entries = records.stream().map(record -> record.entry).toList();
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                pointAppendJdbcRepository.insertHistories(entries);
+                break;
+            } catch (Exception e) {
+                if (!running) {
+                    log.error("포인트 이력 저장 실패, 다음 기동 시 스풀에서 복구 - 건수: {}", entries.size(), e);
+                    return;
+                }
+                long delay = Math.min(MAX_RETRY_DELAY_MS, 100L << Math.min(attempt, 20));
+                log.warn("포인트 이력 저장 실패, {}ms 후 재시도 - 건수: {}", delay, entries.size(), e);
+                Thread.sleep(delay);
+            }
+        }
+
+        committedSeq = records.get(records.size() - 1).seq;
+        writeCheckpoint(committedSeq);
+        truncateSpoolIfDrained();
+    }
+
+    private void writeSpool(long seq, PointLedgerEntry entry) {
+        String line = seq + "|" + entry.userId() + "|" + entry.transactionType() + "|" + entry.amount() + "|"
+                + entry.balance() + "|" + (entry.paymentId() == null ? "" : entry.paymentId()) + "|"
+                + entry.transactionDateTime() + "\n";
+        try {
+            spool.write(ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8)));
+            if (spoolFsync) {
+                spool.force(false);
+            }
+        } catch (IOException e) {
+            log.warn("포인트 이력 스풀 기록 실패 - seq: {}", seq, e);
+        }
+    }
+
+    /**
+     * 스풀의 모든 이력이 저장되었으면 파일을 비운다
+     */
+    private void truncateSpoolIfDrained() {
+        if (spool == null) {
+            return;
+        }
+        synchronized (spoolLock) {
+            try {
+                if (committedSeq == lastSpooledSeq && spool.size() > 0) {
+                    spool.truncate(0);
+                }
+            } catch (IOException e) {
+                log.warn("포인트 이력 스풀 정리 실패", e);
+            }
+        }
+    }
+
+    private void writeCheckpoint(long seq) {
+        try {
+            Files.writeString(checkpointFile, String.valueOf(seq));
+        } catch (IOException e) {
+            log.warn("포인트 이력 체크포인트 기록 실패 - seq: {}", seq, e);
+        }
+    }
+
+    /**
+     * 체크포인트 이후의 스풀 이력을 같은 순번으로 다시 버퍼에 넣는다
+     */
+    private void recoverSpool() throws IOException {
+        Files.createDirectories(spoolFile.getParent());
+
+        long checkpoint = Files.exists(checkpointFile)
+                ? Long.parseLong(Files.readString(checkpointFile).trim())
+                : 0L;
+
+        List<HistoryRecord> recovered = new ArrayList<>();
+        long maxSeq = checkpoint;
+
+        if (Files.exists(spoolFile)) {
+            for (String line : Files.readAllLines(spoolFile, StandardCharsets.UTF_8)) {
+                HistoryRecord record = parseSpoolLine(line);
+                if (record == null) {
+                    continue;
+                }
+                maxSeq = Math.max(maxSeq, record.seq);
+                if (record.seq > checkpoint) {
+                    recovered.add(record);
+                }
+            }
+        }
+
+        spool = FileChannel.open(spoolFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        committedSeq = checkpoint;
+        lastSpooledSeq = maxSeq;
+
+        for (HistoryRecord record : recovered) {
+            if (!buffer.offer(record)) {
+                throw new IllegalStateException("복구할 포인트 이력이 버퍼 크기보다 많습니다: " + recovered.size());
+            }
+        }
+
+        if (!recovered.isEmpty()) {
+            log.info("포인트 이력 스풀 복구 - {}건", recovered.size());
+        }
+    }
+
+    private HistoryRecord parseSpoolLine(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = line.split("\\|", -1);
+            PointLedgerEntry entry = new PointLedgerEntry(
+                    Long.valueOf(parts[1]),
+                    TransactionType.valueOf(parts[2]),
+                    Long.parseLong(parts[3]),
+                    Long.parseLong(parts[4]),
+                    parts[5].isEmpty() ? null : Long.valueOf(parts[5]),
+                    LocalDateTime.parse(parts[6])
+            );
+            return new HistoryRecord(Long.parseLong(parts[0]), entry);
+        } catch (RuntimeException e) {
+            // 기록 중 종료되어 잘린 마지막 줄
+            log.warn("포인트 이력 스풀 줄 무시 - {}", line);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (spool != null) {
+            try {
+                spool.close();
+            } catch (IOException e) {
+                log.warn("포인트 이력 스풀 닫기 실패", e);
+            }
+        }
+    }
+
+    private static class HistoryRecord {
+        private final long seq;
+        private final PointLedgerEntry entry;
+
+        private HistoryRecord(long seq, PointLedgerEntry entry) {
+            this.seq = seq;
+            this.entry = entry;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package kr.hhplus.be.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.point.ResponseUserPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 잔액 캐시 (L1 Caffeine + L2 Redis)
+ * 조회 시 L1 → L2 → DB 순으로 읽고 채운다. 포인트를 바꾸는 경로는 커밋 후 새 잔액을 양쪽에 바로 써 넣는다.
+ * 값마다 USERS.version을 함께 두고 더 높은 버전만 덮어쓰므로, 늦게 끝난 조회나 순서가 뒤바뀐 쓰기가 새 잔액을 되돌리지 않는다.
+ * 다른 노드의 L1은 Redis 채널로 받은 버전보다 낮으면 지운다 (유실 대비 L1 TTL은 짧게 둔다).
+ * 포인트 원장 모드에서는 잔액을 원장에서 읽으므로 사용하지 않는다.
+ */
+@Component
+@Slf4j
+public class PointBalanceCache implements MessageListener {
+
+    private static final String BALANCE_CACHE_KEY = "point:balance:cache:";
+    private static final String CHANGED_CHANNEL = "point:balance:changed";
+
+    /**
+     * KEYS[1] 잔액 캐시
+     * ARGV[1] 버전, ARGV[2] 잔액, ARGV[3] 사용자명, ARGV[4] TTL(초)
+     * 저장된 버전이 같거나 높으면 덮어쓰지 않는다
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('HGET', KEYS[1], 'version') " +
+            "if cur and tonumber(cur) >= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'version', ARGV[1], 'point', ARGV[2], 'name', ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final boolean enabled;
+    private final Duration redisTtl;
+    private final Cache<Long, CachedBalance> localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public PointBalanceCache(StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             MeterRegistry meterRegistry,
+                             @Value("${order.point.balance-cache.enabled:false}") boolean enabled,
+                             @Value("${order.point.balance-cache.local-ttl-ms:5000}") long localTtlMs,
+                             @Value("${order.point.balance-cache.local-max-size:100000}") long localMaxSize,
+                             @Value("${order.point.balance-cache.redis-ttl-seconds:600}") long redisTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .maximumSize(localMaxSize)
+                .build();
+        this.localHitCounter = counter(meterRegistry, "l1");
+        this.redisHitCounter = counter(meterRegistry, "l2");
+        this.missCounter = counter(meterRegistry, "miss");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 잔액 조회 - 캐시에 없으면 loader로 DB에서 읽어 채운다
+     */
+    public ResponseUserPoint get(Long userId, Supplier<User> loader) {
+
+        CachedBalance local = localCache.getIfPresent(userId);
+        if (local != null) {
+            localHitCounter.increment();
+            return local.toResponse(userId);
+        }
+
+        CachedBalance remote = readRedis(userId);
+        if (remote != null) {
+            redisHitCounter.increment();
+            putLocal(userId, remote);
+            return remote.toResponse(userId);
+        }
+
+        missCounter.increment();
+        User user = loader.get();
+        put(user);
+        return ResponseUserPoint.from(user);
+    }
+
+    /**
+     * 포인트 변경 반영 - 트랜잭션 안이면 커밋 후 (롤백된 잔액은 쓰지 않는다)
+     * 커밋 시 flush로 올라간 version을 쓰므로 변경된 영속 엔티티를 넘긴다.
+     */
+    public void onChanged(User user) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putAndNotify(user);
+                }
+            });
+            return;
+        }
+
+        putAndNotify(user);
+    }
+
+    /**
+     * 다른 노드에서 잔액이 바뀌면 그보다 낮은 버전의 L1 항목을 지운다
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+            Long userId = Long.valueOf(parts[0]);
+            long version = Long.parseLong(parts[1]);
+
+            localCache.asMap().computeIfPresent(userId, (id, cached) -> cached.version() < version ? null : cached);
+        } catch (Exception e) {
+            log.warn("포인트 잔액 캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    private void putAndNotify(User user) {
+        put(user);
+        try {
+            stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, user.getId() + ":" + user.getVersion());
+        } catch (Exception e) {
+            log.warn("포인트 잔액 변경 알림 실패 - 사용자ID: {}", user.getId(), e);
+        }
+    }
+
+    private void put(User user) {
+        CachedBalance balance = new CachedBalance(user.getPoint(), user.getVersion(), user.getName());
+
+        putLocal(user.getId(), balance);
+
+        try {
+            stringRedisTemplate.execute(PUT_SCRIPT, List.of(BALANCE_CACHE_KEY + user.getId()),
+                    String.valueOf(balance.version()),
+                    String.valueOf(balance.point()),
+                    nullToEmpty(balance.name()),
+                    String.valueOf(redisTtl.getSeconds()));
+        } catch (Exception e) {
+            log.warn("포인트 잔액 캐시 저장 실패 - 사용자ID: {}", user.getId(), e);
+        }
+    }
+
+    private void putLocal(Long userId, CachedBalance balance) {
+        localCache.asMap().merge(userId, balance,
+                (cached, incoming) -> incoming.version() > cached.version() ? incoming : cached);
+    }
+
+    private CachedBalance readRedis(Long userId) {
+        try {
+            Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(BALANCE_CACHE_KEY + userId);
+            if (fields.isEmpty()) {
+                return null;
+            }
+            return new CachedBalance(
+                    Long.parseLong((String) fields.get("point")),
+                    Long.parseLong((String) fields.get("version")),
+                    (String) fields.get("name")
+            );
+        } catch (Exception e) {
+            log.warn("포인트 잔액 캐시 조회 실패, DB 조회 - 사용자ID: {}", userId, e);
+            return null;
+        }
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("point.balance.cache")
+                .description("포인트 잔액 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedBalance(long point, long version, String name) {
+        ResponseUserPoint toResponse(Long userId) {
+            return new ResponseUserPoint(userId, name, point);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package kr.hhplus.be.server.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.Payment;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.point.PointLedgerEntry;
+import kr.hhplus.be.server.dto.point.RequestPointCharge;
+import kr.hhplus.be.server.dto.point.ResponseUserPoint;
+import kr.hhplus.be.server.enums.PaymentStatus;
+import kr.hhplus.be.server.enums.TransactionType;
+import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.exception.custom.OutcomeUnknownException;
+import kr.hhplus.be.server.repository.PaymentJdbcRepository;
+import kr.hhplus.be.server.repository.PointLedgerJdbcRepository;
+import kr.hhplus.be.server.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 충전 묶음 처리 (group commit)
+ * 짧은 구간(window-ms) 또는 max-batch 건까지 모인 충전 요청을 한 트랜잭션에서 처리한다.
+ * 사용자 행은 USER_ID 순서로 한 번씩만 잠가 합산 금액으로 한 번 갱신하고,
+ * PAYMENT/POINT_HIST는 요청마다 한 건씩 JDBC 배치로 저장해 요청별 응답과 이력은 그대로 남긴다.
+ * 묶음 처리 자체가 실패하면 빈 값을 돌려주어 호출자가 건별 충전으로 넘어가게 한다.
+ * 빈 값은 충전이 반영되지 않았음이 확실할 때만 돌려주고, 커밋 여부를 알 수 없으면 OutcomeUnknownException으로 알린다.
+ * 대기 시간이 지나면 아직 묶음 처리가 가져가지 않은 요청만 빼서 건별 처리로 넘기고, 이미 처리 중이면 결과를 기다린다.
+ * 포인트 원장 모드에서는 충전이 이미 Redis에서 처리되므로 사용하지 않는다.
+ */
+@Component
+@Slf4j
+public class PointChargeCombiner {
+
+    private final UserRepository userRepository;
+    private final PaymentJdbcRepository paymentJdbcRepository;
+    private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+    private final PointLedgerService pointLedgerService;
+    private final PointBalanceCache pointBalanceCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxBatch;
+    private final long timeoutMs;
+
+    private final Object batchLock = new Object();
+    private PendingBatch pendingBatch;
+
+    private final ScheduledExecutorService windowScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService flushExecutor;
+
+    public PointChargeCombiner(UserRepository userRepository,
+                               PaymentJdbcRepository paymentJdbcRepository,
+                               PointLedgerJdbcRepository pointLedgerJdbcRepository,
+                               PointLedgerService pointLedgerService,
+                               PointBalanceCache pointBalanceCache,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${order.point.charge-combiner.enabled:false}") boolean enabled,
+                               @Value("${order.point.charge-combiner.window-ms:5}") long windowMs,
+                               @Value("${order.point.charge-combiner.max-batch:200}") int maxBatch,
+                               @Value("${order.point.charge-combiner.flush-threads:2}") int flushThreads,
+                               @Value("${order.point.charge-combiner.timeout-ms:5000}") long timeoutMs) {
+        this.userRepository = userRepository;
+        this.paymentJdbcRepository = paymentJdbcRepository;
+        this.pointLedgerJdbcRepository = pointLedgerJdbcRepository;
+        this.pointLedgerService = pointLedgerService;
+        this.pointBalanceCache = pointBalanceCache;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxBatch = maxBatch;
+        this.timeoutMs = timeoutMs;
+        this.flushExecutor = Executors.newFixedThreadPool(flushThreads);
+    }
+
+    public boolean isEnabled() {
+        return enabled && !pointLedgerService.isEnabled();
+    }
+
+    /**
+     * 묶음에 충전 요청 추가 후 결과 대기
+     * @return 충전 후 잔액, 묶음 처리 실패 시 빈 값
+     */
+    public Optional<ResponseUserPoint> submit(RequestPointCharge request) {
+
+        PendingCharge pendingCharge = new PendingCharge(request);
+
+        synchronized (batchLock) {
+            if (pendingBatch == null) {
+                pendingBatch = openBatch();
+            }
+            pendingBatch.charges.add(pendingCharge);
+
+            if (pendingBatch.charges.size() >= maxBatch) {
+                closeAndFlush(pendingBatch);
+            }
+        }
+
+        return await(pendingCharge);
+    }
+
+    private PendingBatch openBatch() {
+        PendingBatch batch = new PendingBatch();
+        windowScheduler.schedule(() -> {
+            synchronized (batchLock) {
+                closeAndFlush(batch);
+            }
+        }, windowMs, TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    /**
+     * batchLock을 잡은 상태에서 호출
+     */
+    private void closeAndFlush(PendingBatch batch) {
+        if (batch.closed) {
+            return;
+        }
+        batch.closed = true;
+        if (pendingBatch == batch) {
+            pendingBatch = null;
+        }
+
+        List<PendingCharge> charges = List.copyOf(batch.charges);
+        flushExecutor.execute(() -> flush(charges));
+    }
+
+    private void flush(List<PendingCharge> batchCharges) {
+        // 대기 시간이 지나 빠져나간 요청은 제외
+        List<PendingCharge> charges = batchCharges.stream()
+                .filter(charge -> charge.taken.compareAndSet(false, true))
+                .toList();
+        if (charges.isEmpty()) {
+            return;
+        }
+
+        try {
+            combine(charges);
+        } catch (CommitUnknownException e) {
+            log.error("포인트 충전 묶음 커밋 결과 확인 불가 - 건수: {}", charges.size(), e.getCause());
+            charges.forEach(charge -> charge.future.completeExceptionally(
+                    new OutcomeUnknownException("포인트 충전 결과를 확인할 수 없습니다. 잔액을 확인해주세요.")));
+        } catch (Exception e) {
+            // 커밋 전 실패 - 반영된 충전이 없으므로 건별 처리로 넘긴다
+            log.warn("포인트 충전 묶음 처리 실패, 건별 처리로 전환 - 건수: {}", charges.size(), e);
+            charges.forEach(charge -> charge.future.complete(Optional.empty()));
+        }
+    }
+
+    private void combine(List<PendingCharge> charges) {
+
+        List<Long> userIds = charges.stream()
+                .map(charge -> charge.request.userId())
+                .distinct()
+                .sorted()
+                .toList();
+
+        List<PendingCharge> accepted = new ArrayList<>();
+        List<ResponseUserPoint> responses = new ArrayList<>();
+        AtomicBoolean callbackCompleted = new AtomicBoolean();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, User> users = userRepository.findAllByIdInAndStatusWithLock(userIds, UserStatus.ACTIVE).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+
+                List<Payment> payments = new ArrayList<>();
+                List<Long> balances = new ArrayList<>();
+
+                // 도착 순서대로 더해 요청마다 그 시점의 잔액을 이력과 응답에 남긴다
+                for (PendingCharge pendingCharge : charges) {
+                    RequestPointCharge request = pendingCharge.request;
+                    try {
+                        User user = users.get(request.userId());
+                        if (user == null) {
+                            throw new CustomException("사용자를 찾을 수 없습니다: " + request.userId());
+                        }
+                        user.addPoint(request.userPoint());
+
+                        payments.add(new Payment(PaymentStatus.COMPLETED, request.userPoint(), TransactionType.CHARGE));
+                        balances.add(user.getPoint());
+                        responses.add(ResponseUserPoint.from(user));
+                        accepted.add(pendingCharge);
+
+                    } catch (RuntimeException e) {
+                        pendingCharge.future.completeExceptionally(e);
+                    }
+                }
+
+                if (accepted.isEmpty()) {
+                    return;
+                }
+
+                List<Long> paymentIds = paymentJdbcRepository.insertAll(payments);
+
+                List<PointLedgerEntry> histories = new ArrayList<>();
+                for (int i = 0; i < accepted.size(); i++) {
+                    histories.add(new PointLedgerEntry(
+                            accepted.get(i).request.userId(),
+                            TransactionType.CHARGE,
+                            payments.get(i).getPrice(),
+                            balances.get(i),
+                            paymentIds.get(i),
+                            payments.get(i).getPaymentDate()
+                    ));
+                }
+                pointLedgerJdbcRepository.insertHistories(histories);
+
+                // 잠근 사용자 엔티티는 커밋 시 사용자별로 한 번씩 UPDATE된다
+                accepted.stream()
+                        .map(charge -> users.get(charge.request.userId()))
+                        .distinct()
+                        .forEach(pointBalanceCache::onChanged);
+                callbackCompleted.set(true);
+            });
+        } catch (RuntimeException e) {
+            if (callbackCompleted.get()) {
+                // 콜백은 끝났는데 커밋 단계에서 실패 - 반영되었을 수 있다
+                throw new CommitUnknownException(e);
+            }
+            throw e;
+        }
+
+        log.debug("포인트 충전 묶음 처리 완료 - 건수: {}, 사용자: {}명", accepted.size(), userIds.size());
+
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).future.complete(Optional.of(responses.get(i)));
+        }
+    }
+
+    private Optional<ResponseUserPoint> await(PendingCharge pendingCharge) {
+        try {
+            return pendingCharge.future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CustomException("포인트 충전 실패");
+        } catch (TimeoutException e) {
+            if (pendingCharge.taken.compareAndSet(false, true)) {
+                log.warn("포인트 충전 묶음 대기 시간 초과, 건별 처리로 전환 - 사용자ID: {}", pendingCharge.request.userId());
+                return Optional.empty();
+            }
+            // 이미 묶음 처리 중 - 반영 여부가 정해질 때까지 기다린다 (트랜잭션 타임아웃 안에 끝남)
+            return awaitTaken(pendingCharge);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pendingCharge.taken.compareAndSet(false, true)) {
+                throw new CustomException("포인트 충전 중 인터럽트 발생");
+            }
+            return awaitTaken(pendingCharge);
+        }
+    }
+
+    private Optional<ResponseUserPoint> awaitTaken(PendingCharge pendingCharge) {
+        try {
+            return pendingCharge.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CustomException("포인트 충전 실패");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        windowScheduler.shutdown();
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                flushExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flushExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class PendingBatch {
+        private final List<PendingCharge> charges = new ArrayList<>();
+        private boolean closed;
+    }
+
+    private static class PendingCharge {
+        private final RequestPointCharge request;
+        private final CompletableFuture<Optional<ResponseUserPoint>> future = new CompletableFuture<>();
+        /** 묶음 처리가 가져갔거나 대기 시간이 지나 빠져나갔으면 true */
+        private final AtomicBoolean taken = new AtomicBoolean();
+
+        private PendingCharge(RequestPointCharge request) {
+            this.request = request;
+        }
+    }
+
+    private static class CommitUnknownException extends RuntimeException {
+        private CommitUnknownException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -1,19 +1,46 @@
 package kr.hhplus.be.server.service;
 
+import kr.hhplus.be.server.dto.point.PointHistCursor;
+import kr.hhplus.be.server.dto.point.PointHistSummary;
+import kr.hhplus.be.server.dto.point.PointLedgerEntry;
+import kr.hhplus.be.server.dto.point.ResponsePointHistory;
 import kr.hhplus.be.server.enums.TransactionType;
 import kr.hhplus.be.server.domain.PointHist;
 import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.exception.custom.CustomException;
 import kr.hhplus.be.server.repository.PointHistRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class PointHistService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     public final PointHistRepository pointHistRepository;
+    private final PointAppendWriter pointAppendWriter;
+
+    // 보관기간이 지난 월 파티션은 삭제되므로 기간을 주지 않으면 보관기간 시작부터 조회
+    @Value("${order.point.history.retention-months:12}")
+    private int retentionMonths;
 
-    public void createPointHist(User user, TransactionType transactionType, long amount, long point, long paymentNo) {
+    public void createPointHist(User user, TransactionType transactionType, long amount, long point, Long paymentNo) {
+
+        // 일괄 저장 모드에서는 커밋 후 기록기가 다중 행 INSERT로 저장
+        if (pointAppendWriter.isEnabled()) {
+            pointAppendWriter.appendHistory(new PointLedgerEntry(
+                    user.getId(), transactionType, amount, point, paymentNo, LocalDateTime.now()));
+            return;
+        }
 
         PointHist pointHist = new PointHist(
                 user,
@@ -27,8 +54,40 @@ public class PointHistService {
 
     }
 
+    /**
+     * 포인트 이력 조회 (최신순, 키셋 페이징)
+     * 조회 기간은 항상 거래일시 조건으로 걸려 해당 월 파티션만 읽는다.
+     */
+    public ResponsePointHistory getHistory(Long userId, String cursor, int size, LocalDate fromDate, LocalDate toDate) {
+
+        LocalDateTime from = fromDate != null
+                ? fromDate.atStartOfDay()
+                : YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+        LocalDateTime to = (toDate != null ? toDate : LocalDate.now()).plusDays(1).atStartOfDay();
 
+        if (!from.isBefore(to)) {
+            throw new CustomException("조회 시작일이 종료일보다 늦습니다.");
+        }
 
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
+        List<PointHistSummary> histories;
+        if (cursor == null || cursor.isBlank()) {
+            histories = pointHistRepository.findHistories(userId, from, to, limit);
+        } else {
+            PointHistCursor histCursor = PointHistCursor.decode(cursor);
+            histories = pointHistRepository.findHistoriesAfter(
+                    userId, from, to, histCursor.transactionDateTime(), histCursor.pointHistId(), limit);
+        }
+
+        if (histories.size() <= pageSize) {
+            return new ResponsePointHistory(histories, null);
+        }
+
+        List<PointHistSummary> page = histories.subList(0, pageSize);
+
+        return new ResponsePointHistory(List.copyOf(page), PointHistCursor.from(page.get(pageSize - 1)).encode());
+    }
 
 }
@@ -0,0 +1,160 @@
+package kr.hhplus.be.server.service;
+
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.enums.TransactionType;
+import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 잔액 원장 (hot-balance 모드)
+ * 사용자 잔액을 Redis에 두고 차감/충전/환불을 Lua 한 번으로 처리하면서 같은 스크립트에서 스트림에 기록한다.
+ * USERS.USER_POINT와 POINT_HIST는 PointLedgerWriter가 스트림을 읽어 일괄 반영한다.
+ * 잔액 키에는 TTL을 두지 않는다 (스트림에 반영 전 항목이 남아있을 수 있으므로 DB 값으로 다시 채우면 안 된다).
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserRepository userRepository;
+
+    public static final String STREAM_KEY = "point:ledger:stream";
+    private static final String BALANCE_KEY = "point:balance:";
+
+    private static final long NOT_LOADED = -2L;
+    private static final long INSUFFICIENT = -1L;
+
+    /**
+     * KEYS[1] 잔액, KEYS[2] 원장 스트림
+     * ARGV[1] 변동액(차감은 음수), ARGV[2] 사용자ID, ARGV[3] 거래유형, ARGV[4] 금액, ARGV[5] 결제ID, ARGV[6] 거래시각
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "local balance = redis.call('GET', KEYS[1]) " +
+            "if not balance then return -2 end " +
+            "local next = tonumber(balance) + tonumber(ARGV[1]) " +
+            "if next < 0 then return -1 end " +
+            "redis.call('SET', KEYS[1], next) " +
+            "redis.call('XADD', KEYS[2], '*', 'userId', ARGV[2], 'type', ARGV[3], 'amount', ARGV[4], " +
+            "  'balance', next, 'paymentId', ARGV[5], 'at', ARGV[6]) " +
+            "return next",
+            Long.class
+    );
+
+    @Value("${order.point.ledger.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getBalance(Long userId) {
+        String balance = stringRedisTemplate.opsForValue().get(BALANCE_KEY + userId);
+        if (balance != null) {
+            return Long.parseLong(balance);
+        }
+        load(userId);
+        return Long.parseLong(stringRedisTemplate.opsForValue().get(BALANCE_KEY + userId));
+    }
+
+    /**
+     * 포인트 차감
+     * 트랜잭션 안에서 호출되면 롤백 시 환불 기록으로 되돌린다.
+     * @return 차감 후 잔액
+     */
+    public long deduct(Long userId, long amount, Long paymentId) {
+        long balance = apply(userId, -amount, TransactionType.USE, amount, paymentId);
+
+        if (balance == INSUFFICIENT) {
+            throw new IllegalArgumentException("포인트 부족");
+        }
+
+        compensateOnRollback(userId, amount, paymentId);
+        return balance;
+    }
+
+    public long charge(Long userId, long amount, Long paymentId) {
+        if (amount <= 0) {
+            throw new CustomException("충전 금액은 0보다 커야 합니다.");
+        }
+        return apply(userId, amount, TransactionType.CHARGE, amount, paymentId);
+    }
+
+    public long refund(Long userId, long amount, Long paymentId) {
+        return apply(userId, amount, TransactionType.REFUND, amount, paymentId);
+    }
+
+    /**
+     * 잔액 키가 없으면 DB 잔액으로 채운 뒤 한 번 더 시도한다
+     */
+    private long apply(Long userId, long delta, TransactionType type, long amount, Long paymentId) {
+        Long result = execute(userId, delta, type, amount, paymentId);
+
+        if (result != null && result == NOT_LOADED) {
+            load(userId);
+            result = execute(userId, delta, type, amount, paymentId);
+        }
+
+        if (result == null || result == NOT_LOADED) {
+            throw new CustomException("포인트 원장 반영 실패 - 사용자ID: " + userId);
+        }
+        return result;
+    }
+
+    private Long execute(Long userId, long delta, TransactionType type, long amount, Long paymentId) {
+        return stringRedisTemplate.execute(
+                APPLY_SCRIPT,
+                List.of(BALANCE_KEY + userId, STREAM_KEY),
+                String.valueOf(delta),
+                String.valueOf(userId),
+                type.name(),
+                String.valueOf(amount),
+                paymentId == null ? "" : String.valueOf(paymentId),
+                LocalDateTime.now().toString()
+        );
+    }
+
+    /**
+     * 처음 사용하는 사용자만 DB 잔액으로 채운다 (이미 있으면 그대로 둔다)
+     */
+    private void load(Long userId) {
+        User user = userRepository.findByIdAndStatus(userId, UserStatus.ACTIVE)
+                .orElseThrow(() -> new CustomException("사용자가 존재하지 않습니다."));
+
+        stringRedisTemplate.opsForValue().setIfAbsent(BALANCE_KEY + userId, String.valueOf(user.getPoint()));
+    }
+
+    private void compensateOnRollback(Long userId, long amount, Long paymentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    refund(userId, amount, paymentId);
+                    log.warn("트랜잭션 롤백으로 포인트 원장 환불 - 사용자ID: {}, 금액: {}", userId, amount);
+                } catch (Exception e) {
+                    log.error("포인트 원장 환불 실패 - 사용자ID: {}, 금액: {}", userId, amount, e);
+                }
+            }
+        });
+    }
+}
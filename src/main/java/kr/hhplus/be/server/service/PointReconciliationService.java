@@ -0,0 +1,281 @@
+package kr.hhplus.be.server.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.domain.PointReconciliationMismatch;
+import kr.hhplus.be.server.domain.PointReconciliationRange;
+import kr.hhplus.be.server.domain.PointReconciliationRun;
+import kr.hhplus.be.server.dto.point.PointBalanceCheck;
+import kr.hhplus.be.server.enums.ReconciliationStatus;
+import kr.hhplus.be.server.repository.PointReconciliationJdbcRepository;
+import kr.hhplus.be.server.repository.PointReconciliationMismatchRepository;
+import kr.hhplus.be.server.repository.PointReconciliationRangeRepository;
+import kr.hhplus.be.server.repository.PointReconciliationRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 정합성 검사 (USERS.USER_POINT ↔ 마지막 POINT_HIST 거래 후 잔액)
+ * 사용자 ID를 범위로 나눠 ForkJoin 풀에서 병렬로 스트리밍 조회하고, DB 조회 동시 실행 수는 전용 풀 크기만큼으로 제한한다.
+ * 범위를 마치면 불일치와 체크포인트를 한 트랜잭션에 기록하므로, 중단된 실행은 다음 실행에서 남은 범위부터 이어간다.
+ * 기록은 기본 풀 연결을 쓰므로 전용 스레드 하나에서 차례로 실행해 서비스 요청이 쓸 연결을 하나만 빌린다.
+ * 검사 중에 바뀐 잔액은 오탐이 되므로 불일치 후보는 잠시 뒤 다시 읽어 값이 그대로인 것만 불일치로 남긴다.
+ */
+@Service
+@Slf4j
+public class PointReconciliationService {
+
+    private static final int RECHECK_CHUNK = 1000;
+
+    private final PointReconciliationRunRepository runRepository;
+    private final PointReconciliationRangeRepository rangeRepository;
+    private final PointReconciliationMismatchRepository mismatchRepository;
+    private final PointReconciliationJdbcRepository pointReconciliationJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long rangeSize;
+    private final int parallelism;
+    private final int dbConcurrency;
+    private final long recheckDelayMs;
+
+    private final Counter checkedCounter;
+    private final Counter mismatchCounter;
+    private final Counter unstableCounter;
+    private final Counter noHistoryCounter;
+    private final Timer rangeTimer;
+
+    public PointReconciliationService(PointReconciliationRunRepository runRepository,
+                                      PointReconciliationRangeRepository rangeRepository,
+                                      PointReconciliationMismatchRepository mismatchRepository,
+                                      PointReconciliationJdbcRepository pointReconciliationJdbcRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${order.point.reconciliation.range-size:50000}") long rangeSize,
+                                      @Value("${order.point.reconciliation.parallelism:8}") int parallelism,
+                                      @Value("${order.point.reconciliation.db-concurrency:4}") int dbConcurrency,
+                                      @Value("${order.point.reconciliation.recheck-delay-ms:2000}") long recheckDelayMs) {
+        this.runRepository = runRepository;
+        this.rangeRepository = rangeRepository;
+        this.mismatchRepository = mismatchRepository;
+        this.pointReconciliationJdbcRepository = pointReconciliationJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rangeSize = rangeSize;
+        this.parallelism = parallelism;
+        this.dbConcurrency = dbConcurrency;
+        this.recheckDelayMs = recheckDelayMs;
+        this.checkedCounter = counter(meterRegistry, "checked");
+        this.mismatchCounter = counter(meterRegistry, "mismatch");
+        this.unstableCounter = counter(meterRegistry, "unstable");
+        this.noHistoryCounter = counter(meterRegistry, "no_history");
+        this.rangeTimer = Timer.builder("point.reconciliation.range")
+                .description("포인트 정합성 검사 범위별 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 진행 중인 실행이 있으면 남은 범위부터 이어서, 없으면 새로 시작한다
+     * @return 실행 (사용자가 없으면 null), 실패한 범위가 있으면 RUNNING으로 남는다
+     */
+    public PointReconciliationRun run() {
+        PointReconciliationRun run = runRepository.findFirstByStatusOrderByIdDesc(ReconciliationStatus.RUNNING)
+                .orElseGet(this::startRun);
+        if (run == null) {
+            return null;
+        }
+
+        Set<Long> completed = rangeRepository.findAllByRunId(run.getId()).stream()
+                .map(PointReconciliationRange::getStartUserId)
+                .collect(Collectors.toSet());
+
+        List<UserIdRange> pending = new ArrayList<>();
+        for (long start = run.getMinUserId(); start <= run.getMaxUserId(); start += run.getRangeSize()) {
+            if (!completed.contains(start)) {
+                pending.add(new UserIdRange(start, Math.min(start + run.getRangeSize() - 1, run.getMaxUserId())));
+            }
+        }
+
+        log.info("포인트 정합성 검사 시작 - 실행ID: {}, 남은 범위: {}개, 완료 범위: {}개",
+                run.getId(), pending.size(), completed.size());
+
+        int failed = checkRanges(run.getId(), pending);
+        if (failed > 0) {
+            log.warn("포인트 정합성 검사 일부 범위 실패, 다음 실행에서 재개 - 실행ID: {}, 실패 범위: {}개", run.getId(), failed);
+            return run;
+        }
+
+        List<PointReconciliationRange> ranges = rangeRepository.findAllByRunId(run.getId());
+        run.complete(
+                ranges.stream().mapToLong(PointReconciliationRange::getCheckedCount).sum(),
+                ranges.stream().mapToLong(PointReconciliationRange::getMismatchCount).sum()
+        );
+        runRepository.save(run);
+
+        log.info("포인트 정합성 검사 완료 - 실행ID: {}, 검사: {}명, 불일치: {}명",
+                run.getId(), run.getCheckedCount(), run.getMismatchCount());
+        return run;
+    }
+
+    private PointReconciliationRun startRun() {
+        Long minUserId = pointReconciliationJdbcRepository.findMinUserId();
+        Long maxUserId = pointReconciliationJdbcRepository.findMaxUserId();
+        if (minUserId == null || maxUserId == null) {
+            log.info("포인트 정합성 검사 대상 사용자 없음");
+            return null;
+        }
+        return runRepository.save(new PointReconciliationRun(minUserId, maxUserId, rangeSize));
+    }
+
+    /**
+     * @return 실패한 범위 수
+     */
+    private int checkRanges(Long runId, List<UserIdRange> ranges) {
+        // 재확인 대기 중인 작업이 연결을 쥐고 있지 않도록 작업 수는 연결 수보다 크게 두고 조회만 세마포어로 묶는다
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Semaphore dbPermits = new Semaphore(dbConcurrency);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        int failed = 0;
+
+        try {
+            List<Callable<Void>> tasks = ranges.stream()
+                    .map(range -> (Callable<Void>) () -> {
+                        rangeTimer.record(() -> checkRange(runId, range, dbPermits, writer));
+                        return null;
+                    })
+                    .toList();
+
+            List<Future<Void>> futures = pool.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.error("포인트 정합성 검사 범위 실패 - 실행ID: {}, 범위: {}", runId, ranges.get(i), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ranges.size();
+        } finally {
+            pool.shutdownNow();
+            writer.shutdownNow();
+        }
+
+        return failed;
+    }
+
+    private void checkRange(Long runId, UserIdRange range, Semaphore dbPermits, ExecutorService writer) {
+        List<PointBalanceCheck> suspects = new ArrayList<>();
+        long[] counts = new long[2]; // 검사, 이력 없음
+
+        withPermit(dbPermits, () -> pointReconciliationJdbcRepository.streamRange(range.start(), range.end(), check -> {
+            counts[0]++;
+            if (!check.hasHistory()) {
+                counts[1]++;
+            } else if (!check.isMatched()) {
+                suspects.add(check);
+            }
+        }));
+
+        List<PointBalanceCheck> mismatches = suspects.isEmpty() ? List.of() : recheck(suspects, dbPermits);
+
+        write(writer, () -> transactionTemplate.executeWithoutResult(status -> {
+            mismatchRepository.saveAll(mismatches.stream()
+                    .map(check -> new PointReconciliationMismatch(runId, check))
+                    .toList());
+            rangeRepository.save(new PointReconciliationRange(runId, range.start(), range.end(), counts[0], mismatches.size()));
+        }));
+
+        mismatches.forEach(check -> log.warn("포인트 잔액 불일치 - 사용자ID: {}, 잔액: {}, 마지막 이력 잔액: {}, 이력ID: {}",
+                check.userId(), check.userPoint(), check.histBalance(), check.lastPointHistId()));
+
+        checkedCounter.increment(counts[0]);
+        noHistoryCounter.increment(counts[1]);
+        mismatchCounter.increment(mismatches.size());
+        unstableCounter.increment(suspects.size() - mismatches.size());
+    }
+
+    /**
+     * 잠시 뒤 다시 읽어 잔액과 마지막 이력이 그대로인 후보만 불일치로 본다
+     * 값이 바뀐 사용자는 검사 중에 거래가 있었던 것이므로 다음 실행에서 다시 확인한다.
+     */
+    private List<PointBalanceCheck> recheck(List<PointBalanceCheck> suspects, Semaphore dbPermits) {
+        try {
+            Thread.sleep(recheckDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 정합성 재확인 중단", e);
+        }
+
+        List<PointBalanceCheck> confirmed = new ArrayList<>();
+        for (int from = 0; from < suspects.size(); from += RECHECK_CHUNK) {
+            List<PointBalanceCheck> chunk = suspects.subList(from, Math.min(from + RECHECK_CHUNK, suspects.size()));
+            List<Long> userIds = chunk.stream().map(PointBalanceCheck::userId).toList();
+
+            Map<Long, PointBalanceCheck> current = new HashMap<>();
+            withPermit(dbPermits, () -> pointReconciliationJdbcRepository.findChecks(userIds)
+                    .forEach(check -> current.put(check.userId(), check)));
+
+            chunk.stream()
+                    .filter(suspect -> suspect.equals(current.get(suspect.userId())))
+                    .forEach(confirmed::add);
+        }
+        return confirmed;
+    }
+
+    /**
+     * 기록 스레드에서 실행하고 끝날 때까지 기다린다 - 실패하면 체크포인트가 남지 않아 범위 실패로 처리된다
+     */
+    private static void write(ExecutorService writer, Runnable action) {
+        try {
+            writer.submit(action).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("포인트 정합성 검사 결과 기록 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 정합성 검사 결과 기록 대기 중단", e);
+        }
+    }
+
+    private static void withPermit(Semaphore dbPermits, Runnable query) {
+        try {
+            dbPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 정합성 검사 조회 대기 중단", e);
+        }
+        try {
+            query.run();
+        } finally {
+            dbPermits.release();
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("point.reconciliation.users")
+                .description("포인트 정합성 검사 사용자 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record UserIdRange(long start, long end) {}
+}
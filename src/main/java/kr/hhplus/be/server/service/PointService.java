@@ -1,12 +1,16 @@
 package kr.hhplus.be.server.service;
 
+import kr.hhplus.be.server.domain.Payment;
 import kr.hhplus.be.server.domain.User;
 import kr.hhplus.be.server.dto.point.RequestPointCharge;
 import kr.hhplus.be.server.dto.point.ResponseUserPoint;
+import kr.hhplus.be.server.enums.PointDeductMode;
+import kr.hhplus.be.server.enums.TransactionType;
 import kr.hhplus.be.server.enums.UserStatus;
 import kr.hhplus.be.server.exception.custom.CustomException;
 import kr.hhplus.be.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,19 +20,28 @@ public class PointService {
 
     private final UserRepository userRepository;
     private final PaymentService paymentService;
+    private final PointHistService pointHistService;
+    private final PointLedgerService pointLedgerService;
+    private final PointBalanceCache pointBalanceCache;
+
+    @Value("${order.point.deduct-mode:PESSIMISTIC_LOCK}")
+    private PointDeductMode deductMode;
 
     /**
      * 포인트 조회
      */
     public ResponseUserPoint getPoint(long id) {
 
-        User user = getUserWithValidation(id);
+        if (pointLedgerService.isEnabled()) {
+            User user = getUserWithValidation(id);
+            return ResponseUserPoint.of(user, pointLedgerService.getBalance(user.getId()));
+        }
 
-        if (user.getPoint() < 0) {
-            throw new RuntimeException("포인트는 음수가 불가능");
+        if (pointBalanceCache.isEnabled()) {
+            return pointBalanceCache.get(id, () -> getUserWithPointCheck(id));
         }
 
-        return ResponseUserPoint.from(user);
+        return ResponseUserPoint.from(getUserWithPointCheck(id));
     }
 
     /**
@@ -38,24 +51,90 @@ public class PointService {
     public ResponseUserPoint chargePoint(RequestPointCharge requestPointCharge) {
 
         User user = getUserWithValidation(requestPointCharge.userId());
+
+        if (pointLedgerService.isEnabled()) {
+            Payment payment = paymentService.createChargePayment(requestPointCharge.userPoint());
+            long balance = pointLedgerService.charge(user.getId(), requestPointCharge.userPoint(), payment.getId());
+            return ResponseUserPoint.of(user, balance);
+        }
+
         User returnUser = paymentService.chargePoint(user, requestPointCharge);
+        pointBalanceCache.onChanged(returnUser);
 
         return ResponseUserPoint.from(returnUser);
     }
 
     @Transactional
-    public void deductPointsWithLock(Long userId, long amount) {
+    public User deductPointsWithLock(Long userId, long amount) {
 
         User user = userRepository.findByIdAndStatusWithLock(userId, UserStatus.ACTIVE)
                 .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다"));
 
         user.usePoint(amount);
+        pointBalanceCache.onChanged(user);
+
+        return user;
+    }
+
+    /**
+     * 낙관적 락 차감 - 잠금 없이 읽고 버전 조건부 UPDATE(@Version)로 반영
+     * 충돌 시 ObjectOptimisticLockingFailureException이 발생하므로 트랜잭션 밖에서 OptimisticRetryExecutor로 재시도한다.
+     */
+    @Transactional
+    public User deductPointsOptimistic(Long userId, long amount) {
+
+        User user = getUserWithValidation(userId);
+
+        user.usePoint(amount);
+
+        User savedUser = userRepository.saveAndFlush(user);
+        pointBalanceCache.onChanged(savedUser);
+
+        return savedUser;
+    }
+
+    public boolean isOptimisticMode() {
+        return deductMode == PointDeductMode.OPTIMISTIC_LOCK;
+    }
+
+    /**
+     * 행 잠금 없이 차감 - 같은 사용자의 포인트 변경이 직렬로 실행될 때만 사용
+     */
+    @Transactional
+    public User deductPoints(Long userId, long amount) {
+
+        User user = getUserWithValidation(userId);
+
+        user.usePoint(amount);
+        pointBalanceCache.onChanged(user);
+
+        return user;
     }
 
+    /**
+     * 포인트 환불 - 잔액과 함께 환불 이력을 남겨 정합성 검사에서 불일치로 잡히지 않게 한다 (원장 모드는 원장이 이력 기록)
+     */
     @Transactional
     public void refundPoints(Long userId, long amount) {
+        if (pointLedgerService.isEnabled()) {
+            pointLedgerService.refund(userId, amount, null);
+            return;
+        }
+
         User user = getUserWithValidation(userId);
         user.addPoint((int) amount);
+        pointHistService.createPointHist(user, TransactionType.REFUND, amount, user.getPoint(), null);
+        pointBalanceCache.onChanged(user);
+    }
+
+    private User getUserWithPointCheck(long id) {
+        User user = getUserWithValidation(id);
+
+        if (user.getPoint() < 0) {
+            throw new RuntimeException("포인트는 음수가 불가능");
+        }
+
+        return user;
     }
 
     private User getUserWithValidation(Long userId) {
@@ -1,11 +1,14 @@
 package kr.hhplus.be.server.service;
 
 import kr.hhplus.be.server.domain.Product;
+import kr.hhplus.be.server.dto.order.OrderLineItem;
 import kr.hhplus.be.server.dto.order.RequestOrder;
+import kr.hhplus.be.server.dto.product.ProductStockSummary;
 import kr.hhplus.be.server.dto.product.ResponseProduct;
 import kr.hhplus.be.server.enums.ProductStatus;
 import kr.hhplus.be.server.exception.custom.CustomException;
 import kr.hhplus.be.server.repository.ProductRepository;
+import kr.hhplus.be.server.repository.ProductStockJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -19,10 +22,16 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -31,6 +40,9 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ProductStockSlotService productStockSlotService;
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+    private final StockReservationService stockReservationService;
 
     /**
      * 상품리스트 조회
@@ -40,9 +52,7 @@ public class ProductService {
 
         List<Product> products = productRepository.findByStatus(ProductStatus.ACTIVE);
 
-        return products.stream()
-                .map(ResponseProduct::from)
-                .toList();
+        return toResponses(products);
     }
 
     public ResponseProduct getProduct(long id) {
@@ -50,7 +60,7 @@ public class ProductService {
         Optional<Product> product = productRepository.findById(id);
 
         return product
-                .map(ResponseProduct::from)
+                .map(p -> toResponses(List.of(p)).get(0))
                 .orElseThrow(() -> new CustomException("상품이 존재하지 않음"));
     }
 
@@ -72,11 +82,98 @@ public class ProductService {
 
         product.checkPrice(requestOrder.originalPrice(), product.getPrice() * requestOrder.requestQuantity());
 
-        product.checkQuantity(requestOrder.requestQuantity(), product.getQuantity());
+        product.checkQuantity(requestOrder.requestQuantity(), getAvailableQuantity(product));
 
         return product;
     }
 
+    /**
+     * 가용 재고 - 분할 재고 상품은 슬롯 합계
+     */
+    public int getAvailableQuantity(Product product) {
+        if (!product.isStockSharded()) {
+            return product.getQuantity();
+        }
+
+        ProductStockSummary summary = productStockSlotService.summarize(List.of(product.getId())).get(product.getId());
+
+        return product.getQuantity() + (summary == null ? 0 : summary.getQuantity().intValue());
+    }
+
+    /**
+     * 장바구니 상품 조회 - 한 번의 IN 조회로 판매중 상품을 확인
+     * @return 상품ID 오름차순 상품 맵
+     */
+    public Map<Long, Product> getCartProducts(List<OrderLineItem> lines) {
+
+        List<Long> productIds = lines.stream().map(OrderLineItem::productId).toList();
+
+        Map<Long, Product> products = productRepository.findByIdInAndStatus(productIds, ProductStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(Product::getId, p -> p, (a, b) -> a, TreeMap::new));
+
+        if (products.size() != productIds.size()) {
+            throw new CustomException("상품이 존재하지 않음");
+        }
+
+        return products;
+    }
+
+    /**
+     * 상품별 가용 재고 - 분할 재고 상품이 있을 때만 슬롯 합계를 한 번에 조회
+     */
+    public Map<Long, Integer> getAvailableQuantities(Collection<Product> products) {
+
+        List<Long> shardedIds = products.stream()
+                .filter(Product::isStockSharded)
+                .map(Product::getId)
+                .toList();
+
+        Map<Long, ProductStockSummary> summaries = shardedIds.isEmpty()
+                ? Map.of()
+                : productStockSlotService.summarize(shardedIds);
+
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (Product product : products) {
+            ProductStockSummary summary = summaries.get(product.getId());
+            quantities.put(product.getId(), product.getQuantity() + (summary == null ? 0 : summary.getQuantity().intValue()));
+        }
+        return quantities;
+    }
+
+    /**
+     * 장바구니 재고 차감
+     * 일반 상품은 조건부 UPDATE를 한 번의 배치로 보내고, 분할 재고 상품은 슬롯에서 차감한다.
+     * 호출한 트랜잭션에 참여하므로 한 라인이라도 실패하면 전체가 롤백된다.
+     * @param lines 상품ID 오름차순으로 정렬된 주문 라인 (행 잠금 순서 고정)
+     */
+    @Transactional
+    public void decreaseStocks(List<OrderLineItem> lines, Map<Long, Product> products) {
+
+        List<OrderLineItem> plainLines = new ArrayList<>();
+
+        for (OrderLineItem line : lines) {
+            Product product = products.get(line.productId());
+
+            if (product.isStockSharded()) {
+                productStockSlotService.decrease(product.getId(), product.getStockSlotCount(), line.requestQuantity());
+            } else {
+                plainLines.add(line);
+            }
+        }
+
+        if (plainLines.isEmpty()) {
+            return;
+        }
+
+        int[] updated = productStockJdbcRepository.decreaseStocks(plainLines);
+
+        for (int count : updated) {
+            if (count == 0) {
+                throw new CustomException("요청수량보다 재고 부족");
+            }
+        }
+    }
+
     @Transactional
     public void decreaseStock(Long productId, int quantity) {
         Product product = productRepository.findByIdAndStatus(productId, ProductStatus.ACTIVE)
@@ -85,12 +182,52 @@ public class ProductService {
         product.decreaseStock(quantity);
     }
 
+    /**
+     * 재고 차감 (행 잠금)
+     * 분산락 없이 호출될 때 SELECT ... FOR UPDATE로 갱신 유실을 막는다
+     */
+    @Transactional
+    public void decreaseStockWithLock(Long productId, int quantity) {
+        Product product = productRepository.findByIdAndStatusWithLock(productId, ProductStatus.ACTIVE)
+                .orElseThrow(() -> new CustomException("상품을 찾을 수 없습니다"));
+
+        product.decreaseStock(quantity);
+    }
+
+    /**
+     * 재고 차감 (원자적 UPDATE)
+     * 조회 없이 한 번의 UPDATE로 처리하며 행 잠금은 구문 실행 동안만 유지된다
+     */
+    @Transactional
+    public void decreaseStockAtomically(Long productId, int quantity) {
+        int updated = productRepository.decreaseStockIfAvailable(productId, quantity, ProductStatus.ACTIVE);
+
+        if (updated == 0) {
+            throw new CustomException("요청수량보다 재고 부족");
+        }
+    }
+
+    /**
+     * 재고 복원 (보상) - 커밋 후 Redis 재고를 무효화해 다음 예약이 DB 값으로 다시 채우게 한다
+     * 상품 엔티티를 읽어 변경 감지로 저장하면 동시 주문이 올린 version과 충돌해 보상이 롤백되므로 원자적 UPDATE로 더한다.
+     */
     @Transactional
     public void increaseStock(Long productId, int quantity) {
-        Product product = productRepository.findById(productId)
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("증가할 수량은 0보다 커야 합니다.");
+        }
+
+        int stockSlotCount = productRepository.findStockSlotCount(productId)
                 .orElseThrow(() -> new CustomException("상품을 찾을 수 없습니다"));
 
-        product.increaseStock(quantity);
+        // Product.isStockSharded와 같은 기준
+        if (stockSlotCount > 1) {
+            productStockSlotService.increase(productId, stockSlotCount, quantity);
+        } else if (productRepository.increaseStock(productId, quantity) == 0) {
+            throw new CustomException("상품을 찾을 수 없습니다");
+        }
+
+        stockReservationService.invalidate(productId);
     }
 
     private ResponseProduct getProductFromDB(Long productId) {
@@ -106,8 +243,28 @@ public class ProductService {
             products = List.of();
         }
 
+        return toResponses(products);
+    }
+
+    /**
+     * 분할 재고 상품이 있으면 슬롯 합계를 한 번에 조회해 응답에 반영
+     */
+    private List<ResponseProduct> toResponses(List<Product> products) {
+        List<Long> shardedIds = products.stream()
+                .filter(Product::isStockSharded)
+                .map(Product::getId)
+                .toList();
+
+        if (shardedIds.isEmpty()) {
+            return products.stream()
+                    .map(ResponseProduct::from)
+                    .toList();
+        }
+
+        Map<Long, ProductStockSummary> summaries = productStockSlotService.summarize(shardedIds);
+
         return products.stream()
-                .map(ResponseProduct::from)
+                .map(product -> ResponseProduct.from(product, summaries.get(product.getId())))
                 .toList();
     }
 
@@ -131,11 +288,12 @@ public class ProductService {
 
         List<Product> products = productRepository.findByIdInAndStatus(productIds, ProductStatus.ACTIVE);
 
+        List<ResponseProduct> responses = toResponses(products);
+
         return productIds.stream()
-                .map(id -> products.stream()
-                        .filter(p -> p.getId().equals(id))
+                .map(id -> responses.stream()
+                        .filter(p -> p.productId().equals(id))
                         .findFirst()
-                        .map(ResponseProduct::from)
                         .orElse(null))
                 .filter(product -> product != null)
                 .toList();
@@ -0,0 +1,115 @@
+package kr.hhplus.be.server.service;
+
+import kr.hhplus.be.server.domain.Product;
+import kr.hhplus.be.server.domain.ProductStockSlot;
+import kr.hhplus.be.server.dto.product.ProductStockSummary;
+import kr.hhplus.be.server.enums.ProductStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.ProductRepository;
+import kr.hhplus.be.server.repository.ProductStockSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 분할 슬롯 관리
+ * 주문은 임의의 슬롯에서 시작해 재고가 없으면 이웃 슬롯으로 넘어간다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProductStockSlotService {
+
+    private final ProductStockSlotRepository productStockSlotRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * 상품 재고를 N개 슬롯으로 분할
+     */
+    @Transactional
+    public void shardStock(Long productId, int slotCount) {
+        if (slotCount < 2) {
+            throw new CustomException("슬롯은 2개 이상이어야 합니다.");
+        }
+
+        Product product = productRepository.findByIdAndStatusWithLock(productId, ProductStatus.ACTIVE)
+                .orElseThrow(() -> new CustomException("상품을 찾을 수 없습니다"));
+
+        if (product.isStockSharded() || productStockSlotRepository.existsByProductId(productId)) {
+            throw new CustomException("이미 재고가 분할된 상품입니다.");
+        }
+
+        int totalQuantity = product.moveStockToSlots(slotCount);
+
+        List<ProductStockSlot> slots = new ArrayList<>();
+        for (int slotNo = 0; slotNo < slotCount; slotNo++) {
+            int slotQuantity = totalQuantity / slotCount + (slotNo < totalQuantity % slotCount ? 1 : 0);
+            slots.add(new ProductStockSlot(productId, slotNo, slotQuantity));
+        }
+        productStockSlotRepository.saveAll(slots);
+
+        log.info("상품 {} 재고 {}개를 {}개 슬롯으로 분할", productId, totalQuantity, slotCount);
+    }
+
+    /**
+     * 슬롯 재고 차감
+     * 임의 슬롯부터 순서대로 시도하고, 단일 슬롯으로 부족하면 전체 슬롯을 잠그고 나누어 차감한다.
+     */
+    @Transactional
+    public void decrease(Long productId, int slotCount, int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(slotCount);
+
+        for (int i = 0; i < slotCount; i++) {
+            int slotNo = (start + i) % slotCount;
+            if (productStockSlotRepository.decreaseIfAvailable(productId, slotNo, quantity) == 1) {
+                return;
+            }
+        }
+
+        decreaseAcrossSlots(productId, quantity);
+    }
+
+    /**
+     * 슬롯 재고 복원 - 임의 슬롯에 되돌린다
+     */
+    @Transactional
+    public void increase(Long productId, int slotCount, int quantity) {
+        int slotNo = ThreadLocalRandom.current().nextInt(slotCount);
+        productStockSlotRepository.increase(productId, slotNo, quantity);
+    }
+
+    public Map<Long, ProductStockSummary> summarize(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return productStockSlotRepository.summarizeByProductIds(productIds).stream()
+                .collect(Collectors.toMap(ProductStockSummary::getProductId, Function.identity()));
+    }
+
+    private void decreaseAcrossSlots(Long productId, int quantity) {
+        List<ProductStockSlot> slots = productStockSlotRepository.findByProductIdWithLock(productId);
+
+        int available = slots.stream().mapToInt(ProductStockSlot::getQuantity).sum();
+        if (available < quantity) {
+            throw new CustomException("요청수량보다 재고 부족");
+        }
+
+        int remaining = quantity;
+        for (ProductStockSlot slot : slots) {
+            if (remaining == 0) {
+                break;
+            }
+            remaining -= slot.take(remaining);
+        }
+    }
+}
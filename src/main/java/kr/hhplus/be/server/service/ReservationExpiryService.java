@@ -0,0 +1,238 @@
+package kr.hhplus.be.server.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.dto.order.OrderLineItem;
+import kr.hhplus.be.server.enums.OrderStatus;
+import kr.hhplus.be.server.enums.OrderSubmissionStatus;
+import kr.hhplus.be.server.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 재고 점유 만료
+ * 주문 생성 시 차감한 재고에 만료시각을 걸어두고, 그때까지 완료/취소되지 않은 주문은 취소하고 재고를 되돌린다.
+ * 결제 전에 포인트를 차감한 주문(단계별 처리 모드)은 차감한 포인트도 환불한다.
+ * 만료시각은 노드 내 해시 타이밍 휠로 관리하고, 노드가 죽어도 다른 노드가 이어받도록 Redis ZSET에도 기록한다.
+ * 휠과 ZSET 스윕 모두 ZREM 성공한 주문만 처리하므로 같은 주문을 두 번 해제하지 않는다.
+ */
+@Service
+@Slf4j
+public class ReservationExpiryService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final PointService pointService;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderSubmissionService orderSubmissionService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String EXPIRY_KEY = "stock:hold:expiry";
+
+    /**
+     * 지정한 주문 중 아직 남아있는 것만 제거하고 돌려준다
+     */
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local claimed = {} " +
+            "for i = 1, #ARGV do " +
+            "  if redis.call('ZREM', KEYS[1], ARGV[i]) == 1 then claimed[#claimed + 1] = ARGV[i] end " +
+            "end " +
+            "return claimed",
+            List.class
+    );
+
+    /**
+     * 만료된 주문을 최대 ARGV[2]건 꺼낸다
+     */
+    private static final RedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end " +
+            "return ids",
+            List.class
+    );
+
+    private final boolean enabled;
+    private final long ttlMs;
+    private final long tickMs;
+    private final long sweepIntervalMs;
+    private final int batchSize;
+
+    private final HashedTimingWheel wheel;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReservationExpiryService(StringRedisTemplate stringRedisTemplate,
+                                    OrderRepository orderRepository,
+                                    OrderService orderService,
+                                    ProductService productService,
+                                    PointService pointService,
+                                    OrderSummaryService orderSummaryService,
+                                    @Lazy OrderSubmissionService orderSubmissionService,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${order.reservation.expiry-enabled:true}") boolean enabled,
+                                    @Value("${order.reservation.ttl-seconds:600}") long ttlSeconds,
+                                    @Value("${order.reservation.tick-ms:100}") long tickMs,
+                                    @Value("${order.reservation.wheel-size:512}") int wheelSize,
+                                    @Value("${order.reservation.sweep-interval-ms:5000}") long sweepIntervalMs,
+                                    @Value("${order.reservation.batch-size:100}") int batchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.productService = productService;
+        this.pointService = pointService;
+        this.orderSummaryService = orderSummaryService;
+        this.orderSubmissionService = orderSubmissionService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.ttlMs = ttlSeconds * 1000;
+        this.tickMs = tickMs;
+        this.sweepIntervalMs = sweepIntervalMs;
+        this.batchSize = batchSize;
+        this.wheel = new HashedTimingWheel(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        timer.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        timer.scheduleWithFixedDelay(this::sweep, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * 주문 생성 트랜잭션 안에서 호출 - 롤백되면 존재하지 않는 주문이 남지만 만료 시 무시된다
+     */
+    public void register(Long orderId) {
+        if (!enabled) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + ttlMs;
+        stringRedisTemplate.opsForZSet().add(EXPIRY_KEY, String.valueOf(orderId), deadline);
+        wheel.add(orderId, deadline);
+    }
+
+    /**
+     * 주문 완료/취소 시 만료 해제
+     */
+    public void clear(Long orderId) {
+        if (!enabled) {
+            return;
+        }
+        wheel.cancel(orderId);
+        try {
+            stringRedisTemplate.opsForZSet().remove(EXPIRY_KEY, String.valueOf(orderId));
+        } catch (Exception e) {
+            log.warn("재고 점유 만료 해제 실패 - 주문ID: {}", orderId, e);
+        }
+    }
+
+    private void tick() {
+        try {
+            List<Long> expired = wheel.advance(System.currentTimeMillis());
+
+            for (int from = 0; from < expired.size(); from += batchSize) {
+                List<Long> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+                releaseExpired(claim(batch));
+            }
+        } catch (Exception e) {
+            log.error("재고 점유 만료 처리 실패", e);
+        }
+    }
+
+    /**
+     * 다른 노드(종료된 노드 포함)에서 등록된 만료 주문 처리
+     */
+    private void sweep() {
+        try {
+            List<Long> claimed;
+            do {
+                claimed = toIds(stringRedisTemplate.execute(
+                        CLAIM_DUE_SCRIPT,
+                        List.of(EXPIRY_KEY),
+                        String.valueOf(System.currentTimeMillis()),
+                        String.valueOf(batchSize)
+                ));
+                releaseExpired(claimed);
+            } while (claimed.size() == batchSize);
+        } catch (Exception e) {
+            log.error("재고 점유 만료 스윕 실패", e);
+        }
+    }
+
+    private List<Long> claim(List<Long> orderIds) {
+        return toIds(stringRedisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(EXPIRY_KEY),
+                orderIds.stream().map(String::valueOf).toArray()
+        ));
+    }
+
+    /**
+     * 만료 주문 일괄 해제 - 진행중 주문만 잠금 조회해 재고 복원(차감된 포인트는 환불) 후 취소
+     */
+    private void releaseExpired(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<OrderLineItem>> cancelled = transactionTemplate.execute(status -> {
+            Map<Long, List<OrderLineItem>> released = new LinkedHashMap<>();
+
+            for (Order order : orderRepository.findAllByIdInAndStatusWithLock(orderIds, OrderStatus.IN_PROGRESS)) {
+                List<OrderLineItem> lines = orderService.getStockLines(
+                        order.getId(), order.getProduct().getId(), order.getRequestQuantity());
+
+                lines.forEach(line -> productService.increaseStock(line.productId(), line.requestQuantity()));
+                if (order.getPointDeductedAmount() != null) {
+                    pointService.refundPoints(order.getUser().getId(), order.getPointDeductedAmount());
+                }
+                order.cancel();
+                released.put(order.getId(), lines);
+            }
+            return released;
+        });
+
+        if (cancelled == null || cancelled.isEmpty()) {
+            return;
+        }
+
+        log.warn("재고 점유 만료로 주문 취소 - 건수: {}, 주문ID: {}", cancelled.size(), cancelled.keySet());
+
+        for (Long orderId : cancelled.keySet()) {
+            orderSummaryService.onCancelled(orderId);
+            orderSubmissionService.onOrderFinished(orderId, OrderSubmissionStatus.CANCELLED);
+        }
+    }
+
+    private List<Long> toIds(List<?> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(value -> Long.valueOf(String.valueOf(value))).toList();
+    }
+}
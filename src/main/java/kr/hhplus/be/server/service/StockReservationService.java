@@ -0,0 +1,244 @@
+package kr.hhplus.be.server.service;
+
+import kr.hhplus.be.server.dto.order.OrderLineItem;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 재고 예약
+ * 상품별 가용 재고를 Redis에 두고 Lua 스크립트 한 번으로 확인/차감 + 예약기록을 처리한다.
+ * 분산락 없이 원자적으로 동작하며, DB 재고 차감은 예약 성공 후 반영한다.
+ * Redis 재고는 DB 재고(조건부 UPDATE가 최종 판단)의 앞단 필터이므로, 예약을 거치지 않고 DB 재고가 바뀌면
+ * 키를 지워 다음 예약이 DB 값으로 다시 채우게 한다. 놓친 변경이 있어도 STOCK_SYNC_TTL마다 DB 값으로 다시 채워진다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String STOCK_KEY = "stock:available:";
+    private static final String RESERVATION_KEY = "stock:reservation:";
+    private static final Duration RESERVATION_TTL = Duration.ofMinutes(10);
+    private static final Duration STOCK_SYNC_TTL = Duration.ofMinutes(5);
+
+    private static final long RESERVED = 1L;
+    private static final long OUT_OF_STOCK = 0L;
+
+    /**
+     * KEYS[1] 가용재고, KEYS[2] 예약기록
+     * ARGV[1] 요청수량, ARGV[2] 예약 TTL(초), ARGV[3] 상품ID, ARGV[4] 재고 초기값(DB), ARGV[5] 재고 동기화 TTL(초)
+     * 재고 키의 TTL은 DB 값으로 채울 때만 설정한다 (DECRBY/INCRBY는 TTL을 유지)
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local stock = redis.call('GET', KEYS[1]) " +
+            "if not stock then " +
+            "  redis.call('SET', KEYS[1], ARGV[4], 'EX', ARGV[5]) " +
+            "  stock = ARGV[4] " +
+            "end " +
+            "if tonumber(stock) < tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('DECRBY', KEYS[1], ARGV[1]) " +
+            "redis.call('HSET', KEYS[2], 'productId', ARGV[3], 'quantity', ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 예약기록이 남아있을 때만 재고를 되돌린다 (중복 해제 방지)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local qty = redis.call('HGET', KEYS[2], 'quantity') " +
+            "if not qty then return 0 end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('INCRBY', KEYS[1], qty) end " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 장바구니 예약 - 모든 라인을 확인한 뒤에만 차감한다 (전부 성공 또는 전부 실패)
+     * KEYS[1..n] 상품별 가용재고(상품ID 오름차순), KEYS[n+1] 예약기록
+     * ARGV[1] 예약 TTL(초), ARGV[2] 재고 동기화 TTL(초), 이후 라인마다 상품ID, 요청수량, 재고 초기값(DB)
+     */
+    private static final RedisScript<Long> RESERVE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS - 1 " +
+            "for i = 1, n do " +
+            "  local base = (i - 1) * 3 + 2 " +
+            "  local stock = redis.call('GET', KEYS[i]) " +
+            "  if not stock then " +
+            "    redis.call('SET', KEYS[i], ARGV[base + 3], 'EX', ARGV[2]) " +
+            "    stock = ARGV[base + 3] " +
+            "  end " +
+            "  if tonumber(stock) < tonumber(ARGV[base + 2]) then return 0 end " +
+            "end " +
+            "for i = 1, n do " +
+            "  local base = (i - 1) * 3 + 2 " +
+            "  redis.call('DECRBY', KEYS[i], ARGV[base + 2]) " +
+            "  redis.call('HSET', KEYS[n + 1], ARGV[base + 1], ARGV[base + 2]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[n + 1], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 장바구니 예약 취소 - 예약기록에 남은 라인 수량만큼 되돌린다
+     * KEYS[1..n] 상품별 가용재고, KEYS[n+1] 예약기록, ARGV[1..n] 상품ID
+     */
+    private static final RedisScript<Long> RELEASE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS - 1 " +
+            "if redis.call('EXISTS', KEYS[n + 1]) == 0 then return 0 end " +
+            "for i = 1, n do " +
+            "  local qty = redis.call('HGET', KEYS[n + 1], ARGV[i]) " +
+            "  if qty and redis.call('EXISTS', KEYS[i]) == 1 then redis.call('INCRBY', KEYS[i], qty) end " +
+            "end " +
+            "redis.call('DEL', KEYS[n + 1]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 재고 예약
+     * @param productId
+     * @param quantity
+     * @param initialStock Redis에 재고가 없을 경우 사용할 DB 재고
+     * @return 예약 ID
+     */
+    public String reserve(Long productId, int quantity, int initialStock) {
+
+        String reservationId = UUID.randomUUID().toString();
+
+        Long result = stringRedisTemplate.execute(
+                RESERVE_SCRIPT,
+                List.of(STOCK_KEY + productId, RESERVATION_KEY + reservationId),
+                String.valueOf(quantity),
+                String.valueOf(RESERVATION_TTL.getSeconds()),
+                String.valueOf(productId),
+                String.valueOf(initialStock),
+                String.valueOf(STOCK_SYNC_TTL.getSeconds())
+        );
+
+        if (result == null || result == OUT_OF_STOCK) {
+            throw new CustomException("요청수량보다 상품 재고가 부족합니다.");
+        }
+
+        log.debug("재고 예약 완료 - 상품ID: {}, 수량: {}, 예약ID: {}", productId, quantity, reservationId);
+        return reservationId;
+    }
+
+    /**
+     * 장바구니 재고 예약
+     * @param lines 상품ID 오름차순으로 정렬된 주문 라인
+     * @param initialStocks Redis에 재고가 없을 경우 사용할 상품별 DB 재고
+     * @return 예약 ID
+     */
+    public String reserveAll(List<OrderLineItem> lines, Map<Long, Integer> initialStocks) {
+
+        String reservationId = UUID.randomUUID().toString();
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(RESERVATION_TTL.getSeconds()));
+        args.add(String.valueOf(STOCK_SYNC_TTL.getSeconds()));
+
+        for (OrderLineItem line : lines) {
+            keys.add(STOCK_KEY + line.productId());
+            args.add(String.valueOf(line.productId()));
+            args.add(String.valueOf(line.requestQuantity()));
+            args.add(String.valueOf(initialStocks.get(line.productId())));
+        }
+        keys.add(RESERVATION_KEY + reservationId);
+
+        Long result = stringRedisTemplate.execute(RESERVE_ALL_SCRIPT, keys, args.toArray());
+
+        if (result == null || result == OUT_OF_STOCK) {
+            throw new CustomException("요청수량보다 상품 재고가 부족합니다.");
+        }
+
+        log.debug("장바구니 재고 예약 완료 - 라인 수: {}, 예약ID: {}", lines.size(), reservationId);
+        return reservationId;
+    }
+
+    /**
+     * 장바구니 예약 취소 - DB 반영 실패 시 Redis 재고 복원
+     */
+    public void releaseAll(List<OrderLineItem> lines, String reservationId) {
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        for (OrderLineItem line : lines) {
+            keys.add(STOCK_KEY + line.productId());
+            args.add(String.valueOf(line.productId()));
+        }
+        keys.add(RESERVATION_KEY + reservationId);
+
+        Long result = stringRedisTemplate.execute(RELEASE_ALL_SCRIPT, keys, args.toArray());
+
+        if (result == null || result != RESERVED) {
+            log.warn("이미 해제되었거나 존재하지 않는 예약 - 예약ID: {}", reservationId);
+        }
+    }
+
+    /**
+     * DB 반영 완료 후 예약기록 제거
+     */
+    public void confirm(String reservationId) {
+        stringRedisTemplate.delete(RESERVATION_KEY + reservationId);
+    }
+
+    /**
+     * 예약 취소 - DB 반영 실패 시 Redis 재고 복원
+     */
+    public void release(Long productId, String reservationId) {
+        Long result = stringRedisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(STOCK_KEY + productId, RESERVATION_KEY + reservationId)
+        );
+
+        if (result == null || result != RESERVED) {
+            log.warn("이미 해제되었거나 존재하지 않는 예약 - 예약ID: {}", reservationId);
+        }
+    }
+
+    /**
+     * 예약을 거치지 않고 DB 재고가 바뀌었을 때 Redis 재고 무효화 (보상 복원, 락/슬롯 전략 차감)
+     * 다음 예약이 그 시점의 DB 재고로 다시 채운다. 트랜잭션 안이면 커밋 후에 지운다 (커밋 전 값으로 다시 채워지지 않도록).
+     */
+    public void invalidate(Long productId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(productId);
+                }
+            });
+            return;
+        }
+
+        delete(productId);
+    }
+
+    private void delete(Long productId) {
+        try {
+            stringRedisTemplate.delete(STOCK_KEY + productId);
+        } catch (Exception e) {
+            log.error("Redis 재고 무효화 실패, 동기화 TTL 후 다시 채워짐 - 상품ID: {}", productId, e);
+        }
+    }
+}
@@ -11,6 +11,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -18,18 +22,33 @@ public class UserService {
     private final UserRepository userRepository;
     private final PointHistService pointHistService;
     private final PaymentService paymentService;
+    private final PointLedgerService pointLedgerService;
 
     public User getUserInfo(long userId, UserStatus status) {
         return userRepository.findByIdAndStatus(userId, status)
                 .orElseThrow(() -> new CustomException("사용자가 존재하지 않습니다."));
     }
 
+    /**
+     * 여러 사용자 일괄 조회 (활성 사용자만)
+     */
+    public Map<Long, User> getActiveUsers(Collection<Long> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .filter(user -> user.getStatus() == UserStatus.ACTIVE)
+                .collect(Collectors.toMap(User::getId, user -> user));
+    }
+
     public User getUserAndCheckBalance(RequestOrder requestOrder) {
 
         User user = userRepository.findByIdAndStatus(requestOrder.userId(), UserStatus.ACTIVE)
                 .orElseThrow(() -> new CustomException("사용자가 존재하지 않습니다."));
 
-        user.checkPoint(requestOrder.requestPrice(), user.getPoint());
+        // 원장 모드에서는 DB 잔액이 늦게 반영되므로 Redis 잔액으로 확인
+        long balance = pointLedgerService.isEnabled()
+                ? pointLedgerService.getBalance(user.getId())
+                : user.getPoint();
+
+        user.checkPoint(requestOrder.requestPrice(), balance);
 
         return user;
     }
@@ -0,0 +1,233 @@
+package kr.hhplus.be.server.service;
+
+import kr.hhplus.be.server.dto.order.OrderLineItem;
+import kr.hhplus.be.server.dto.waiting.ResponseWaitingPosition;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 선착순 판매 대기열
+ * 대기열 상품으로 등록된 상품은 ZSET 대기열에 들어온 순서대로 초당 정해진 수만큼만 입장 토큰을 발급하고,
+ * 주문은 토큰을 가진 사용자만 받는다. 락 경합 대신 입장 속도로 부하를 조절한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String ACTIVE_PRODUCTS_KEY = "waiting:products";
+    private static final String QUEUE_KEY = "waiting:queue:";
+    private static final String TOKEN_KEY = "waiting:token:";
+    private static final String ADMISSION_LOCK_KEY = "waiting:admission:lock";
+
+    /**
+     * 토큰이 일치할 때만 삭제 (1회 사용)
+     * 주문 실패 시 되돌릴 수 있도록 삭제 전 남은 유효시간(ms)을 반환한다. 0이면 소모 실패
+     */
+    private static final RedisScript<Long> CONSUME_TOKEN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "local ttl = redis.call('PTTL', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "if ttl > 0 then return ttl end " +
+            "return -1",
+            Long.class
+    );
+
+    @Value("${order.waiting-room.tokens-per-second:50}")
+    private int tokensPerSecond;
+
+    @Value("${order.waiting-room.admission-interval-ms:1000}")
+    private long admissionIntervalMs;
+
+    @Value("${order.waiting-room.token-ttl-seconds:300}")
+    private long tokenTtlSeconds;
+
+    /**
+     * 대기열 상품 등록/해제
+     */
+    public void open(Long productId) {
+        stringRedisTemplate.opsForSet().add(ACTIVE_PRODUCTS_KEY, String.valueOf(productId));
+        log.info("대기열 시작 - 상품ID: {}", productId);
+    }
+
+    public void close(Long productId) {
+        stringRedisTemplate.opsForSet().remove(ACTIVE_PRODUCTS_KEY, String.valueOf(productId));
+        stringRedisTemplate.delete(QUEUE_KEY + productId);
+        log.info("대기열 종료 - 상품ID: {}", productId);
+    }
+
+    public boolean isActive(Long productId) {
+        return Boolean.TRUE.equals(
+                stringRedisTemplate.opsForSet().isMember(ACTIVE_PRODUCTS_KEY, String.valueOf(productId))
+        );
+    }
+
+    /**
+     * 대기열 진입 - 이미 대기중이면 기존 순번 유지
+     */
+    public ResponseWaitingPosition enter(Long productId, Long userId) {
+
+        if (!isActive(productId)) {
+            throw new CustomException("대기열이 열린 상품이 아닙니다.");
+        }
+
+        String token = stringRedisTemplate.opsForValue().get(tokenKey(productId, userId));
+        if (token != null) {
+            return ResponseWaitingPosition.admitted(productId, userId, token);
+        }
+
+        stringRedisTemplate.opsForZSet().addIfAbsent(QUEUE_KEY + productId, String.valueOf(userId), System.currentTimeMillis());
+
+        return getPosition(productId, userId);
+    }
+
+    /**
+     * 대기 순번 조회 (클라이언트 폴링)
+     */
+    public ResponseWaitingPosition getPosition(Long productId, Long userId) {
+
+        String token = stringRedisTemplate.opsForValue().get(tokenKey(productId, userId));
+        if (token != null) {
+            return ResponseWaitingPosition.admitted(productId, userId, token);
+        }
+
+        Long rank = stringRedisTemplate.opsForZSet().rank(QUEUE_KEY + productId, String.valueOf(userId));
+        if (rank == null) {
+            throw new CustomException("대기열에 존재하지 않습니다.");
+        }
+
+        long position = rank + 1;
+
+        return ResponseWaitingPosition.waiting(productId, userId, position, (position + tokensPerSecond - 1) / tokensPerSecond);
+    }
+
+    /**
+     * 입장 토큰 발급
+     * 여러 노드에서 실행되어도 주기당 한 노드만 발급하도록 Redis 락으로 보호한다.
+     */
+    public void admit() {
+
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(ADMISSION_LOCK_KEY, "1", Duration.ofMillis(admissionIntervalMs));
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        Set<String> productIds = stringRedisTemplate.opsForSet().members(ACTIVE_PRODUCTS_KEY);
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+
+        long batchSize = Math.max(1, tokensPerSecond * admissionIntervalMs / 1000);
+
+        for (String productId : productIds) {
+            admitProduct(Long.valueOf(productId), batchSize);
+        }
+    }
+
+    private void admitProduct(Long productId, long batchSize) {
+
+        Set<ZSetOperations.TypedTuple<String>> admitted =
+                stringRedisTemplate.opsForZSet().popMin(QUEUE_KEY + productId, batchSize);
+
+        if (admitted == null || admitted.isEmpty()) {
+            return;
+        }
+
+        List<String> userIds = admitted.stream().map(ZSetOperations.TypedTuple::getValue).toList();
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String userId : userIds) {
+                stringConnection.setEx(
+                        TOKEN_KEY + productId + ":" + userId,
+                        tokenTtlSeconds,
+                        UUID.randomUUID().toString()
+                );
+            }
+            return null;
+        });
+
+        log.debug("입장 토큰 발급 - 상품ID: {}, 발급 수: {}", productId, userIds.size());
+    }
+
+    /**
+     * 입장 확인 후 주문 실행 - 대기열 상품이면 토큰을 소모하고, 아니면 그대로 실행
+     * 같은 토큰으로 동시에 두 주문이 들어오지 않도록 실행 전에 소모하고, 주문이 실패하면 남은 유효시간으로 되돌려 다시 주문할 수 있게 한다.
+     */
+    public <T> T orderWithAdmission(Long productId, Long userId, String token, Supplier<T> order) {
+
+        if (!isActive(productId)) {
+            return order.get();
+        }
+
+        if (token == null || token.isBlank()) {
+            throw new CustomException("대기열 입장 토큰이 필요합니다.");
+        }
+
+        String key = tokenKey(productId, userId);
+        Long remainingMs = stringRedisTemplate.execute(CONSUME_TOKEN_SCRIPT, List.of(key), token);
+
+        if (remainingMs == null || remainingMs == 0L) {
+            throw new CustomException("유효하지 않은 대기열 입장 토큰입니다.");
+        }
+
+        try {
+            return order.get();
+        } catch (RuntimeException e) {
+            restoreToken(key, token, remainingMs);
+            throw e;
+        }
+    }
+
+    private void restoreToken(String key, String token, long remainingMs) {
+        try {
+            Duration ttl = remainingMs > 0 ? Duration.ofMillis(remainingMs) : Duration.ofSeconds(tokenTtlSeconds);
+            stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        } catch (Exception e) {
+            log.warn("대기열 입장 토큰 복원 실패 - 키: {}", key, e);
+        }
+    }
+
+    /**
+     * 장바구니 주문은 대기열 상품을 포함할 수 없다 (토큰은 상품별로 발급)
+     */
+    public void checkCartAdmission(List<OrderLineItem> lines) {
+
+        if (lines == null || lines.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Boolean> members = stringRedisTemplate.opsForSet().isMember(
+                ACTIVE_PRODUCTS_KEY,
+                lines.stream().map(line -> String.valueOf(line.productId())).toArray()
+        );
+
+        if (members != null && members.containsValue(Boolean.TRUE)) {
+            throw new CustomException("대기열 상품은 단건 주문만 가능합니다.");
+        }
+    }
+
+    private String tokenKey(Long productId, Long userId) {
+        return TOKEN_KEY + productId + ":" + userId;
+    }
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.service.stock;
+
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 조건부 UPDATE 한 번으로 재고 차감 (잠금 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AtomicUpdateStockStrategy implements StockConcurrencyStrategy {
+
+    private final ProductService productService;
+    private final StockReservationService stockReservationService;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.ATOMIC_UPDATE;
+    }
+
+    @Override
+    public <T> T executeWithStock(Long productId, int quantity, int currentStock, Supplier<T> orderCreator) {
+        productService.decreaseStockAtomically(productId, quantity);
+        // 장바구니 주문은 Redis 예약을 거치므로 예약 없이 바뀐 DB 재고를 다시 읽게 한다
+        stockReservationService.invalidate(productId);
+
+        try {
+            return orderCreator.get();
+        } catch (RuntimeException e) {
+            productService.increaseStock(productId, quantity);
+            throw e;
+        }
+    }
+}
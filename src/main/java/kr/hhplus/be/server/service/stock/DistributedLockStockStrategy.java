@@ -0,0 +1,72 @@
+package kr.hhplus.be.server.service.stock;
+
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redisson 분산락으로 상품 단위 임계구역을 직렬화
+ */
+@Component
+@RequiredArgsConstructor
+public class DistributedLockStockStrategy implements StockConcurrencyStrategy {
+
+    private final RedissonClient redissonClient;
+    private final ProductService productService;
+    private final StockReservationService stockReservationService;
+
+    private static final String LOCK_KEY = "product:stock:";
+    private static final int MAX_RETRY = 5;
+    private static final int RETRY_DELAY = 50;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.DISTRIBUTED_LOCK;
+    }
+
+    @Override
+    public <T> T executeWithStock(Long productId, int quantity, int currentStock, Supplier<T> orderCreator) {
+        RLock lock = redissonClient.getLock(LOCK_KEY + productId);
+
+        try {
+            boolean locked = false;
+            for (int i = 0; i < MAX_RETRY; i++) {
+                if (lock.tryLock(5, 5, TimeUnit.SECONDS)) {
+                    locked = true;
+                    break;
+                }
+                Thread.sleep(RETRY_DELAY);
+            }
+
+            if (!locked) {
+                throw new CustomException("재고 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            productService.decreaseStock(productId, quantity);
+            stockReservationService.invalidate(productId);
+
+            try {
+                return orderCreator.get();
+            } catch (RuntimeException e) {
+                productService.increaseStock(productId, quantity);
+                throw e;
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException("주문 처리 중 오류가 발생했습니다.");
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
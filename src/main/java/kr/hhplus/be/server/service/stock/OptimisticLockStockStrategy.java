@@ -0,0 +1,72 @@
+package kr.hhplus.be.server.service.stock;
+
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Product @Version 기반 낙관적 락
+ * 버전 충돌 시 지수 백오프(+지터)로 재시도한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OptimisticLockStockStrategy implements StockConcurrencyStrategy {
+
+    private final ProductService productService;
+    private final StockReservationService stockReservationService;
+
+    private static final int MAX_RETRY = 10;
+    private static final long BASE_DELAY_MS = 10;
+    private static final long MAX_DELAY_MS = 200;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.OPTIMISTIC_LOCK;
+    }
+
+    @Override
+    public <T> T executeWithStock(Long productId, int quantity, int currentStock, Supplier<T> orderCreator) {
+        decreaseWithRetry(productId, quantity);
+        stockReservationService.invalidate(productId);
+
+        try {
+            return orderCreator.get();
+        } catch (RuntimeException e) {
+            productService.increaseStock(productId, quantity);
+            throw e;
+        }
+    }
+
+    private void decreaseWithRetry(Long productId, int quantity) {
+        for (int attempt = 0; attempt < MAX_RETRY; attempt++) {
+            try {
+                productService.decreaseStock(productId, quantity);
+                return;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("재고 버전 충돌 - 상품ID: {}, 재시도: {}", productId, attempt + 1);
+                backoff(attempt);
+            }
+        }
+
+        throw new CustomException("재고 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void backoff(int attempt) {
+        long delay = Math.min(MAX_DELAY_MS, BASE_DELAY_MS << attempt);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(delay / 2, delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException("주문 처리 중 오류가 발생했습니다.");
+        }
+    }
+}
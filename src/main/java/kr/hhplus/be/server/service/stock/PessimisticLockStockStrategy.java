@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.service.stock;
+
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * SELECT ... FOR UPDATE 행 잠금으로 재고 차감
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockStockStrategy implements StockConcurrencyStrategy {
+
+    private final ProductService productService;
+    private final StockReservationService stockReservationService;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.PESSIMISTIC_LOCK;
+    }
+
+    @Override
+    public <T> T executeWithStock(Long productId, int quantity, int currentStock, Supplier<T> orderCreator) {
+        productService.decreaseStockWithLock(productId, quantity);
+        stockReservationService.invalidate(productId);
+
+        try {
+            return orderCreator.get();
+        } catch (RuntimeException e) {
+            productService.increaseStock(productId, quantity);
+            throw e;
+        }
+    }
+}
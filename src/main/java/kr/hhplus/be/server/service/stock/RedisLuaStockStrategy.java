@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.service.stock;
+
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Redis Lua 예약 후 조건부 UPDATE로 DB 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLuaStockStrategy implements StockConcurrencyStrategy {
+
+    private final StockReservationService stockReservationService;
+    private final ProductService productService;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.REDIS_LUA;
+    }
+
+    @Override
+    public <T> T executeWithStock(Long productId, int quantity, int currentStock, Supplier<T> orderCreator) {
+        String reservationId = stockReservationService.reserve(productId, quantity, currentStock);
+
+        boolean decreased = false;
+        try {
+            productService.decreaseStockAtomically(productId, quantity);
+            decreased = true;
+
+            T result = orderCreator.get();
+
+            stockReservationService.confirm(reservationId);
+
+            return result;
+
+        } catch (RuntimeException e) {
+            if (decreased) {
+                // DB 복원 시 Redis 재고가 무효화되므로 예약기록만 지운다 (다시 채워진 키에 이중 복원 방지)
+                productService.increaseStock(productId, quantity);
+                stockReservationService.confirm(reservationId);
+            } else {
+                stockReservationService.release(productId, reservationId);
+            }
+            throw e;
+        }
+    }
+}
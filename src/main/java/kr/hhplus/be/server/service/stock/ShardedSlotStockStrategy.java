@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.service.stock;
+
+import kr.hhplus.be.server.domain.Product;
+import kr.hhplus.be.server.enums.ProductStatus;
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.ProductRepository;
+import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.ProductStockSlotService;
+import kr.hhplus.be.server.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 분할 슬롯 재고 차감
+ * 상품 재고를 N개 행으로 나누어 단일 행/단일 락 경합을 N개로 분산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShardedSlotStockStrategy implements StockConcurrencyStrategy {
+
+    private final ProductStockSlotService productStockSlotService;
+    private final ProductService productService;
+    private final StockReservationService stockReservationService;
+    private final ProductRepository productRepository;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.SHARDED_SLOT;
+    }
+
+    @Override
+    public <T> T executeWithStock(Long productId, int quantity, int currentStock, Supplier<T> orderCreator) {
+        Product product = productRepository.findByIdAndStatus(productId, ProductStatus.ACTIVE)
+                .orElseThrow(() -> new CustomException("상품을 찾을 수 없습니다"));
+
+        if (!product.isStockSharded()) {
+            throw new CustomException("재고가 분할되지 않은 상품입니다.");
+        }
+
+        productStockSlotService.decrease(productId, product.getStockSlotCount(), quantity);
+        stockReservationService.invalidate(productId);
+
+        try {
+            return orderCreator.get();
+        } catch (RuntimeException e) {
+            productService.increaseStock(productId, quantity);
+            throw e;
+        }
+    }
+}
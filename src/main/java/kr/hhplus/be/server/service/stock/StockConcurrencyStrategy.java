@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.service.stock;
+
+import kr.hhplus.be.server.enums.StockStrategyType;
+
+import java.util.function.Supplier;
+
+/**
+ * 재고 동시성 제어 전략
+ * 재고 차감 방식(분산락, 행 잠금, 낙관적 락, 조건부 UPDATE, Redis Lua)을 교체할 수 있도록 분리한다.
+ */
+public interface StockConcurrencyStrategy {
+
+    StockStrategyType getType();
+
+    /**
+     * 재고를 차감한 뒤 주문 생성 로직을 실행한다.
+     * 주문 생성이 실패하면 차감한 재고는 전략이 직접 복원한다.
+     * @param productId
+     * @param quantity 차감 수량
+     * @param currentStock 조회 시점의 DB 재고
+     * @param orderCreator 재고 차감 이후 실행할 로직
+     */
+    <T> T executeWithStock(Long productId, int quantity, int currentStock, Supplier<T> orderCreator);
+}
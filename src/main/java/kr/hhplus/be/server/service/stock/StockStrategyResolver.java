@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.service.stock;
+
+import kr.hhplus.be.server.domain.Product;
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품별 재고 동시성 전략 선택
+ * 재고가 분할된 상품은 슬롯 전략을 사용하고,
+ * order.stock.products.{상품ID} 설정이 있으면 우선 적용하며, 없으면 order.stock.strategy 기본값을 사용한다.
+ */
+@Component
+public class StockStrategyResolver {
+
+    private static final String PRODUCT_STRATEGY_PREFIX = "order.stock.products.";
+
+    private final Map<StockStrategyType, StockConcurrencyStrategy> strategies = new EnumMap<>(StockStrategyType.class);
+    private final Environment environment;
+    private final StockStrategyType defaultType;
+
+    public StockStrategyResolver(List<StockConcurrencyStrategy> strategies,
+                                 Environment environment,
+                                 @Value("${order.stock.strategy:REDIS_LUA}") StockStrategyType defaultType) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.getType(), strategy));
+        this.environment = environment;
+        this.defaultType = defaultType;
+    }
+
+    public StockConcurrencyStrategy resolve(Product product) {
+        if (product.isStockSharded()) {
+            return get(StockStrategyType.SHARDED_SLOT);
+        }
+
+        StockStrategyType type = environment.getProperty(
+                PRODUCT_STRATEGY_PREFIX + product.getId(), StockStrategyType.class, defaultType);
+        return get(type);
+    }
+
+    public StockConcurrencyStrategy get(StockStrategyType type) {
+        StockConcurrencyStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new CustomException("지원하지 않는 재고 전략: " + type);
+        }
+        return strategy;
+    }
+}
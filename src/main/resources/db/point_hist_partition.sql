@@ -0,0 +1,23 @@
+-- POINT_HIST 월별 RANGE 파티셔닝 (ddl-auto로는 만들 수 없으므로 운영 DB에 한 번 적용)
+-- 1. 파티션 키는 모든 유니크 키에 포함되어야 하므로 PK를 (POINT_HIST_ID, TRANSACTION_DATETIME)으로 바꾼다.
+--    AUTO_INCREMENT 컬럼이 PK 첫 컬럼이라 이력번호는 계속 유일하다.
+-- 2. 첫 파티션은 적용 시점 이전 이력을 모두 담는다. 이후 월 파티션 추가/보관기간 지난 파티션 삭제는 PointHistPartitionBatch가 처리한다.
+-- 3. 파티션 테이블은 FK를 지원하지 않는다 (엔티티도 NO_CONSTRAINT).
+
+ALTER TABLE POINT_HIST
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (POINT_HIST_ID, TRANSACTION_DATETIME);
+
+ALTER TABLE POINT_HIST
+    PARTITION BY RANGE COLUMNS (TRANSACTION_DATETIME) (
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01 00:00:00'),
+        PARTITION p202612 VALUES LESS THAN ('2027-01-01 00:00:00'),
+        PARTITION p202701 VALUES LESS THAN ('2027-02-01 00:00:00'),
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+    );
+
+-- 프루닝 확인: partitions 컬럼에 조회 기간의 파티션만 나와야 한다
+-- EXPLAIN SELECT * FROM POINT_HIST
+--  WHERE USER_ID = 1 AND TRANSACTION_DATETIME >= '2026-11-01' AND TRANSACTION_DATETIME < '2026-12-01'
+--  ORDER BY TRANSACTION_DATETIME DESC, POINT_HIST_ID DESC LIMIT 21;
@@ -0,0 +1,12 @@
+-- USERS / PRODUCT 낙관적 락 버전 컬럼 (운영 DB에 한 번 적용)
+-- ddl-auto: update는 기존 행에 기본값을 넣지 않으므로, 애플리케이션 배포 전에 적용해 기존 행을 0으로 채운다.
+-- 버전이 NULL인 행은 JPA 버전 비교와 version + 1 갱신(ProductRepository.increaseStock)이 모두 동작하지 않는다.
+
+ALTER TABLE USERS ADD COLUMN VERSION BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE PRODUCT ADD COLUMN VERSION BIGINT NOT NULL DEFAULT 0;
+
+-- 이미 ddl-auto로 NULL 허용 컬럼이 만들어진 경우 위 대신 아래를 적용한다
+-- UPDATE USERS SET VERSION = 0 WHERE VERSION IS NULL;
+-- ALTER TABLE USERS MODIFY COLUMN VERSION BIGINT NOT NULL DEFAULT 0;
+-- UPDATE PRODUCT SET VERSION = 0 WHERE VERSION IS NULL;
+-- ALTER TABLE PRODUCT MODIFY COLUMN VERSION BIGINT NOT NULL DEFAULT 0;
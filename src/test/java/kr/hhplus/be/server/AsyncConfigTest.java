@@ -0,0 +1,52 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.eventHandler.AsyncConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class AsyncConfigTest {
+
+    /**
+     * 주문 이벤트 실행기 설정 테스트
+     * 1. 가상 스레드 모드가 꺼져 있으면 기존 스레드 풀(CallerRunsPolicy) 사용
+     * 2. 가상 스레드 모드에서는 동시 실행 수를 제한한 가상 스레드 실행기 사용
+     */
+
+    @Test
+    @DisplayName("가상 스레드 모드가 꺼져 있으면 기존 스레드 풀 실행기를 사용한다")
+    void 기본_스레드풀() {
+        AsyncConfig asyncConfig = new AsyncConfig();
+        ReflectionTestUtils.setField(asyncConfig, "virtualThreadsEnabled", false);
+
+        AsyncTaskExecutor executor = asyncConfig.orderTaskExecutor();
+
+        assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+        ThreadPoolTaskExecutor pool = (ThreadPoolTaskExecutor) executor;
+        assertThat(pool.getCorePoolSize()).isEqualTo(10);
+        assertThat(pool.getMaxPoolSize()).isEqualTo(50);
+        assertThat(pool.getThreadPoolExecutor().getRejectedExecutionHandler())
+                .isInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 동시 실행 수를 제한한 가상 스레드 실행기를 사용한다")
+    void 가상스레드_실행기() {
+        AsyncConfig asyncConfig = new AsyncConfig();
+        ReflectionTestUtils.setField(asyncConfig, "virtualThreadsEnabled", true);
+        ReflectionTestUtils.setField(asyncConfig, "virtualConcurrencyLimit", 3);
+
+        AsyncTaskExecutor executor = asyncConfig.orderTaskExecutor();
+
+        assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        assertThat(((SimpleAsyncTaskExecutor) executor).getConcurrencyLimit()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,145 @@
+package kr.hhplus.be.server;
+
+import jakarta.servlet.FilterChain;
+import kr.hhplus.be.server.config.ConcurrencyGuardFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+public class ConcurrencyGuardFilterTest {
+
+    @Mock
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * 가상 스레드 모드 동시 요청 제한 테스트
+     * 1. 한도 안의 쓰기 요청은 그대로 처리
+     * 2. 한도를 넘은 쓰기 요청은 대기 후 503
+     * 3. 조회 요청과 대상이 아닌 경로는 제한하지 않음
+     * 4. 한도를 지정하지 않으면 커넥션 풀 크기 × 커넥션당 요청 수
+     */
+
+    @Test
+    @DisplayName("한도 안의 쓰기 요청은 그대로 처리한다")
+    void 한도안_요청처리() throws Exception {
+        ConcurrencyGuardFilter filter = new ConcurrencyGuardFilter(1, 4, 3, 100);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/order"), response, filterChain);
+
+        verify(filterChain).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 쓰기 요청은 대기 시간이 지나면 503으로 거절한다")
+    void 한도초과_거절() throws Exception {
+        ConcurrencyGuardFilter filter = new ConcurrencyGuardFilter(1, 4, 3, 100);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(filterChain).doFilter(any(), any());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holding = executor.submit(() -> {
+            filter.doFilter(new MockHttpServletRequest("POST", "/point/charge"), new MockHttpServletResponse(), filterChain);
+            return null;
+        });
+        assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/order"), rejected, filterChain);
+
+        release.countDown();
+        holding.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("조회 요청과 대상이 아닌 경로는 한도와 관계없이 처리한다")
+    void 조회요청_제한안함() throws Exception {
+        ConcurrencyGuardFilter filter = new ConcurrencyGuardFilter(1, 4, 3, 100);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(filterChain).doFilter(argThat(request -> "POST".equals(((MockHttpServletRequest) request).getMethod())
+                && "/order".equals(((MockHttpServletRequest) request).getRequestURI())), any());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holding = executor.submit(() -> {
+            filter.doFilter(new MockHttpServletRequest("POST", "/order"), new MockHttpServletResponse(), filterChain);
+            return null;
+        });
+        assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse get = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/point/1"), get, filterChain);
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/coupon"), other, filterChain);
+
+        release.countDown();
+        holding.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(get.getStatus()).isEqualTo(200);
+        assertThat(other.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("한도를 지정하지 않으면 커넥션 풀 크기 × 커넥션당 요청 수만큼 동시에 처리한다")
+    void 기본한도_풀크기기준() throws Exception {
+        ConcurrencyGuardFilter filter = new ConcurrencyGuardFilter(0, 2, 3, 100);
+        CountDownLatch entered = new CountDownLatch(6);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(filterChain).doFilter(any(), any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        for (int i = 0; i < 6; i++) {
+            executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("POST", "/order"), new MockHttpServletResponse(), filterChain);
+                return null;
+            });
+        }
+        assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/order"), rejected, filterChain);
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+    }
+}
@@ -0,0 +1,90 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.repository.ProcessedEventJdbcRepository;
+import kr.hhplus.be.server.service.EventDeduplicator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+public class EventDeduplicatorTest {
+
+    @InjectMocks
+    private EventDeduplicator eventDeduplicator;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ProcessedEventJdbcRepository processedEventJdbcRepository;
+
+    private static final String KEY = "event:processed:payment:event-1";
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(eventDeduplicator, "enabled", true);
+        ReflectionTestUtils.setField(eventDeduplicator, "ttlHours", 24L);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    /**
+     * 이벤트 중복 처리 방지 테스트
+     * 1. 처음 받은 이벤트는 Redis와 DB에 기록 후 처리
+     * 2. Redis에 표시가 있으면 DB 확인 없이 중복 처리
+     * 3. Redis 표시가 만료되어도 DB 유니크 키로 중복 판단
+     * 4. Redis 장애 시 DB 유니크 키로 판단
+     */
+
+    @Test
+    @DisplayName("처음 받은 이벤트는 Redis와 DB에 기록하고 처리한다")
+    void 첫이벤트_처리() {
+        given(valueOperations.setIfAbsent(KEY, "1", Duration.ofHours(24))).willReturn(true);
+        given(processedEventJdbcRepository.insertIfAbsent("event-1", "payment")).willReturn(true);
+
+        assertThat(eventDeduplicator.markProcessed("event-1", "payment")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis에 처리 표시가 있으면 DB를 확인하지 않고 중복으로 판단한다")
+    void Redis표시있으면_중복() {
+        given(valueOperations.setIfAbsent(KEY, "1", Duration.ofHours(24))).willReturn(false);
+
+        assertThat(eventDeduplicator.markProcessed("event-1", "payment")).isFalse();
+        verify(processedEventJdbcRepository, never()).insertIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 표시가 만료되어도 DB 유니크 키로 중복을 판단한다")
+    void Redis만료시_DB로_중복판단() {
+        given(valueOperations.setIfAbsent(KEY, "1", Duration.ofHours(24))).willReturn(true);
+        given(processedEventJdbcRepository.insertIfAbsent("event-1", "payment")).willReturn(false);
+
+        assertThat(eventDeduplicator.markProcessed("event-1", "payment")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 유니크 키로 판단한다")
+    void Redis장애시_DB로_판단() {
+        given(valueOperations.setIfAbsent(KEY, "1", Duration.ofHours(24)))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(processedEventJdbcRepository.insertIfAbsent("event-1", "payment")).willReturn(true);
+
+        assertThat(eventDeduplicator.markProcessed("event-1", "payment")).isTrue();
+        verify(processedEventJdbcRepository).insertIfAbsent("event-1", "payment");
+    }
+}
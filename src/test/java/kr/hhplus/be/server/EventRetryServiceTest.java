@@ -0,0 +1,170 @@
+package kr.hhplus.be.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.domain.EventDeadLetter;
+import kr.hhplus.be.server.domain.EventRetry;
+import kr.hhplus.be.server.enums.EventHandlerType;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.EventDeadLetterRepository;
+import kr.hhplus.be.server.repository.EventRetryRepository;
+import kr.hhplus.be.server.service.EventRetryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.*;
+
+public class EventRetryServiceTest {
+
+    private EventRetryService eventRetryService;
+
+    @Mock
+    private EventRetryRepository eventRetryRepository;
+
+    @Mock
+    private EventDeadLetterRepository eventDeadLetterRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        eventRetryService = new EventRetryService(
+                eventRetryRepository, eventDeadLetterRepository, new ObjectMapper(), transactionTemplate);
+        ReflectionTestUtils.setField(eventRetryService, "enabled", true);
+        ReflectionTestUtils.setField(eventRetryService, "batchSize", 50);
+        ReflectionTestUtils.setField(eventRetryService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(eventRetryService, "baseDelayMs", 1000L);
+        ReflectionTestUtils.setField(eventRetryService, "maxDelayMs", 60000L);
+        ReflectionTestUtils.setField(eventRetryService, "leaseMs", 30000L);
+
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(eventRetryRepository.save(any(EventRetry.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(eventDeadLetterRepository.save(any(EventDeadLetter.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    /**
+     * 핸들러 재시도 테스트
+     * 1. 일시적인 DB/Redis 장애만 재시도 대상
+     * 2. 최초 실패는 1회 시도로 기록되고 기본 간격 뒤에 재시도
+     * 3. 실패할 때마다 재시도 간격이 2배로 늘어남
+     * 4. 최대 횟수를 넘기면 dead letter로 이동
+     * 5. dead letter 재처리는 시도 횟수를 초기화해 재시도 대기열에 등록, 중복 재처리 불가
+     */
+
+    @Test
+    @DisplayName("일시적인 장애만 재시도 대상으로 판단한다")
+    void 재시도대상_판단() {
+        assertAll(
+                () -> assertThat(EventRetryService.isRetryable(new QueryTimeoutException("timeout"))).isTrue(),
+                () -> assertThat(EventRetryService.isRetryable(new RedisConnectionFailureException("down"))).isTrue(),
+                () -> assertThat(EventRetryService.isRetryable(
+                        new RuntimeException(new QueryTimeoutException("timeout")))).isTrue(),
+                () -> assertThat(EventRetryService.isRetryable(new IllegalArgumentException("포인트 부족"))).isFalse(),
+                () -> assertThat(EventRetryService.isRetryable(new CustomException("결제실패"))).isFalse(),
+                () -> assertThat(EventRetryService.isRetryable(new DataIntegrityViolationException("dup"))).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("최초 실패는 1회 시도로 기록되고 기본 간격 뒤에 재시도된다")
+    void 최초실패_기록() {
+        LocalDateTime before = LocalDateTime.now();
+
+        eventRetryService.record(EventHandlerType.PAYMENT, Map.of("orderId", 1), new QueryTimeoutException("timeout"));
+
+        ArgumentCaptor<EventRetry> captor = ArgumentCaptor.forClass(EventRetry.class);
+        verify(eventRetryRepository).save(captor.capture());
+
+        EventRetry retry = captor.getValue();
+        assertAll(
+                () -> assertThat(retry.getHandlerType()).isEqualTo(EventHandlerType.PAYMENT),
+                () -> assertThat(retry.getPayload()).isEqualTo("{\"orderId\":1}"),
+                () -> assertThat(retry.getAttemptCount()).isEqualTo(1),
+                () -> assertThat(retry.getNextAttemptDateTime()).isAfterOrEqualTo(before.plusSeconds(1)),
+                () -> assertThat(retry.getLastError()).contains("QueryTimeoutException")
+        );
+    }
+
+    @Test
+    @DisplayName("재시도에 실패하면 다음 재시도 간격이 2배로 늘어난다")
+    void 재시도실패_지수백오프() {
+        EventRetry retry = EventRetry.create(EventHandlerType.PAYMENT, "{}", LocalDateTime.now(), "error");
+        ReflectionTestUtils.setField(retry, "id", 1L);
+        given(eventRetryRepository.findById(1L)).willReturn(Optional.of(retry));
+
+        LocalDateTime before = LocalDateTime.now();
+        eventRetryService.fail(retry, new QueryTimeoutException("timeout"));
+
+        assertAll(
+                () -> assertThat(retry.getAttemptCount()).isEqualTo(2),
+                () -> assertThat(retry.getNextAttemptDateTime()).isAfterOrEqualTo(before.plusSeconds(2)),
+                () -> assertThat(retry.getNextAttemptDateTime()).isBefore(before.plusSeconds(3))
+        );
+        verify(eventDeadLetterRepository, never()).save(any());
+        verify(eventRetryRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 dead letter로 옮긴다")
+    void 재시도소진_deadLetter이동() {
+        EventRetry retry = new EventRetry(EventHandlerType.POINT_DEDUCTION, "{}", 2, LocalDateTime.now(), "error");
+        ReflectionTestUtils.setField(retry, "id", 1L);
+        given(eventRetryRepository.findById(1L)).willReturn(Optional.of(retry));
+
+        eventRetryService.fail(retry, new QueryTimeoutException("timeout"));
+
+        ArgumentCaptor<EventDeadLetter> captor = ArgumentCaptor.forClass(EventDeadLetter.class);
+        verify(eventDeadLetterRepository).save(captor.capture());
+        verify(eventRetryRepository).delete(retry);
+
+        assertAll(
+                () -> assertThat(captor.getValue().getHandlerType()).isEqualTo(EventHandlerType.POINT_DEDUCTION),
+                () -> assertThat(captor.getValue().getAttemptCount()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("dead letter 재처리 시 시도 횟수를 초기화해 재시도 대기열에 등록하고, 두 번 재처리할 수 없다")
+    void deadLetter_재처리() {
+        EventRetry exhausted = new EventRetry(EventHandlerType.PAYMENT, "{\"orderId\":1}", 3, LocalDateTime.now(), "error");
+        EventDeadLetter deadLetter = EventDeadLetter.from(exhausted);
+        given(eventDeadLetterRepository.findById(1L)).willReturn(Optional.of(deadLetter));
+
+        eventRetryService.replay(1L);
+
+        ArgumentCaptor<EventRetry> captor = ArgumentCaptor.forClass(EventRetry.class);
+        verify(eventRetryRepository).save(captor.capture());
+
+        assertAll(
+                () -> assertThat(captor.getValue().getAttemptCount()).isZero(),
+                () -> assertThat(captor.getValue().getPayload()).isEqualTo("{\"orderId\":1}"),
+                () -> assertThat(deadLetter.getReplayedDateTime()).isNotNull()
+        );
+
+        assertThatThrownBy(() -> eventRetryService.replay(1L))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("이미 재처리된 dead letter입니다.");
+    }
+}
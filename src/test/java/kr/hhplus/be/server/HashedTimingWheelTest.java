@@ -0,0 +1,91 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.service.HashedTimingWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class HashedTimingWheelTest {
+
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        // 100ms tick, 버킷 8개 → 한 바퀴 800ms
+        wheel = new HashedTimingWheel(100, 8, 0);
+    }
+
+    /**
+     * 타이밍 휠 테스트
+     * 1. 만료시각 도달 전에는 만료되지 않음
+     * 2. 한 바퀴를 넘는 만료시각도 정확한 tick에 만료
+     * 3. 취소된 항목은 만료되지 않음
+     * 4. 이미 지난 만료시각은 다음 advance에서 바로 만료
+     * 5. 버킷 수가 2의 거듭제곱이 아니면 예외
+     */
+    @Test
+    @DisplayName("만료시각이 지나야 만료 목록에 포함된다")
+    void 만료시각_도달시_만료() {
+        wheel.add(1L, 350);
+
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(399)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 남은 항목은 같은 버킷을 지나도 만료되지 않는다")
+    void 여러바퀴_만료() {
+        wheel.add(1L, 1050);
+
+        // tick 2 버킷(1050ms와 같은 버킷)을 한 번 지남
+        assertThat(wheel.advance(900)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(wheel.advance(1100)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("취소된 항목은 만료되지 않는다")
+    void 취소_항목_만료안됨() {
+        wheel.add(1L, 300);
+        wheel.add(2L, 300);
+        wheel.advance(100);
+
+        wheel.cancel(1L);
+
+        List<Long> expired = wheel.advance(500);
+        assertThat(expired).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("같은 ID를 다시 등록하면 새 만료시각으로 교체된다")
+    void 재등록시_만료시각_교체() {
+        wheel.add(1L, 200);
+        wheel.add(1L, 600);
+
+        assertThat(wheel.advance(300)).isEmpty();
+        assertThat(wheel.advance(700)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료시각은 다음 advance에서 바로 만료된다")
+    void 지난_만료시각_즉시만료() {
+        wheel.advance(1000);
+
+        wheel.add(1L, 500);
+
+        assertThat(wheel.advance(1000)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("버킷 수가 2의 거듭제곱이 아니면 예외가 발생한다")
+    void 버킷수_검증() {
+        assertThatThrownBy(() -> new HashedTimingWheel(100, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+package kr.hhplus.be.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.dto.point.ResponseUserPoint;
+import kr.hhplus.be.server.exception.custom.IdempotencyConflictException;
+import kr.hhplus.be.server.exception.custom.OutcomeUnknownException;
+import kr.hhplus.be.server.service.IdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+public class IdempotencyServiceTest {
+
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String KEY = "idempotency:point:charge:1:key-1";
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        idempotencyService = new IdempotencyService(stringRedisTemplate, objectMapper);
+        ReflectionTestUtils.setField(idempotencyService, "inProgressTtlSeconds", 30L);
+        ReflectionTestUtils.setField(idempotencyService, "responseTtlSeconds", 86400L);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    /**
+     * 멱등키 테스트
+     * 1. 최초 요청은 실행 후 응답 저장
+     * 2. 완료된 요청 재시도 시 캐시 응답 반환
+     * 3. 처리 중인 요청 재시도 시 충돌
+     * 4. 실행 실패 시 마커 제거
+     * 5. 결과를 알 수 없는 실패는 마커를 유지해 재실행 차단
+     */
+
+    @Test
+    @DisplayName("최초 요청은 실행 후 응답을 저장")
+    void 최초_요청은_실행_후_응답을_저장() throws Exception {
+
+        ResponseUserPoint response = new ResponseUserPoint(1L, "테스트", 1000L);
+        given(valueOperations.setIfAbsent(eq(KEY), eq("IN_PROGRESS"), any(Duration.class))).willReturn(true);
+
+        ResponseUserPoint result = idempotencyService.execute("point:charge:1", "key-1", ResponseUserPoint.class, () -> response);
+
+        assertThat(result).isEqualTo(response);
+        verify(valueOperations).set(KEY, objectMapper.writeValueAsString(response), Duration.ofSeconds(86400));
+    }
+
+    @Test
+    @DisplayName("완료된 요청 재시도 시 실행하지 않고 캐시 응답 반환")
+    void 완료된_요청_재시도시_캐시_응답_반환() throws Exception {
+
+        ResponseUserPoint response = new ResponseUserPoint(1L, "테스트", 1000L);
+        given(valueOperations.setIfAbsent(eq(KEY), eq("IN_PROGRESS"), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(KEY)).willReturn(objectMapper.writeValueAsString(response));
+        AtomicInteger calls = new AtomicInteger();
+
+        ResponseUserPoint result = idempotencyService.execute("point:charge:1", "key-1", ResponseUserPoint.class, () -> {
+            calls.incrementAndGet();
+            return response;
+        });
+
+        assertThat(result).isEqualTo(response);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청 재시도 시 충돌")
+    void 처리중인_요청_재시도시_충돌() {
+
+        given(valueOperations.setIfAbsent(eq(KEY), eq("IN_PROGRESS"), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(KEY)).willReturn("IN_PROGRESS");
+
+        assertThatThrownBy(() -> idempotencyService.execute("point:charge:1", "key-1", ResponseUserPoint.class, () -> null))
+                .isInstanceOf(IdempotencyConflictException.class)
+                .hasMessage("동일한 요청이 처리 중입니다.");
+    }
+
+    @Test
+    @DisplayName("실행 실패 시 마커를 제거해 재시도 허용")
+    void 실행_실패시_마커_제거() {
+
+        given(valueOperations.setIfAbsent(eq(KEY), eq("IN_PROGRESS"), any(Duration.class))).willReturn(true);
+
+        assertThatThrownBy(() -> idempotencyService.execute("point:charge:1", "key-1", ResponseUserPoint.class, () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(stringRedisTemplate).delete(KEY);
+    }
+
+    @Test
+    @DisplayName("결과를 알 수 없는 실패는 처리 중 마커를 유지해 재실행을 막는다")
+    void 결과불명_실패시_마커_유지() {
+
+        given(valueOperations.setIfAbsent(eq(KEY), eq("IN_PROGRESS"), any(Duration.class))).willReturn(true);
+
+        assertThatThrownBy(() -> idempotencyService.execute("point:charge:1", "key-1", ResponseUserPoint.class, () -> {
+            throw new OutcomeUnknownException("결과를 확인할 수 없습니다.");
+        })).isInstanceOf(OutcomeUnknownException.class);
+
+        verify(valueOperations).set(KEY, "IN_PROGRESS", Duration.ofSeconds(86400));
+        verify(stringRedisTemplate, never()).delete(KEY);
+    }
+}
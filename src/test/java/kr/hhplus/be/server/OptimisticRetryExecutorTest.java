@@ -0,0 +1,77 @@
+package kr.hhplus.be.server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.service.OptimisticRetryExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class OptimisticRetryExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticRetryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new OptimisticRetryExecutor(meterRegistry, 3, 1, 2);
+    }
+
+    /**
+     * 낙관적 락 재시도 테스트
+     * 1. 충돌 후 재시도로 성공하면 결과 반환, 충돌 횟수 기록
+     * 2. 최대 횟수까지 충돌하면 마지막 예외 전달
+     * 3. 충돌 외 예외는 재시도하지 않음
+     */
+
+    @Test
+    @DisplayName("버전 충돌 후 재시도로 성공하면 결과를 반환하고 충돌 횟수를 기록한다")
+    void 충돌후_재시도성공() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Long result = executor.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("User", 1L);
+            }
+            return 68000L;
+        });
+
+        assertThat(result).isEqualTo(68000L);
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("point.optimistic.conflicts").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("point.optimistic.exhausted").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 횟수까지 충돌하면 마지막 충돌 예외를 그대로 던진다")
+    void 재시도소진_예외전달() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("User", 1L);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("point.optimistic.exhausted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 아닌 예외는 재시도하지 않는다")
+    void 충돌외예외_재시도안함() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("포인트 부족");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("point.optimistic.conflicts").count()).isZero();
+    }
+}
@@ -1,10 +1,16 @@
 package kr.hhplus.be.server;
 
+import kr.hhplus.be.server.domain.Order;
 import kr.hhplus.be.server.domain.Product;
 import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.order.OrderCursor;
+import kr.hhplus.be.server.dto.order.OrderSummary;
 import kr.hhplus.be.server.dto.order.RequestOrder;
+import kr.hhplus.be.server.dto.order.ResponseOrderHistory;
+import kr.hhplus.be.server.enums.OrderStatus;
 import kr.hhplus.be.server.enums.ProductStatus;
 import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
 import kr.hhplus.be.server.repository.OrderRepository;
 import kr.hhplus.be.server.repository.PointHistRepository;
 import kr.hhplus.be.server.repository.ProductRepository;
@@ -17,6 +23,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -115,6 +125,57 @@ public class OrderServiceTest {
 
     }
 
+    /**
+     * 주문 목록 조회 테스트
+     * 1. 요청 건수보다 많으면 다음 커서 반환
+     * 2. 커서가 있으면 커서 이후부터 조회
+     */
+
+    @Test
+    @DisplayName("요청 건수보다 많으면 마지막 주문으로 다음 커서를 만든다")
+    void 주문목록_다음커서_반환() {
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<OrderSummary> orders = List.of(
+                new OrderSummary(3L, 1L, OrderStatus.COMPLETED, 1, 1000L, now),
+                new OrderSummary(2L, 1L, OrderStatus.COMPLETED, 1, 1000L, now),
+                new OrderSummary(1L, 1L, OrderStatus.CANCELLED, 1, 1000L, now.minusDays(1))
+        );
+        given(orderRepository.findOrderSummaries(eq(1L), any(Pageable.class))).willReturn(orders);
+
+        ResponseOrderHistory result = orderService.getOrderHistory(1L, null, 2);
+
+        assertThat(result.orders()).hasSize(2);
+        assertThat(OrderCursor.decode(result.nextCursor())).isEqualTo(new OrderCursor(now, 2L));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서 이후부터 조회하고 마지막 페이지면 커서가 없다")
+    void 주문목록_커서이후_조회() {
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        String cursor = new OrderCursor(now, 2L).encode();
+        given(orderRepository.findOrderSummariesAfter(eq(1L), eq(now), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(new OrderSummary(1L, 1L, OrderStatus.CANCELLED, 1, 1000L, now.minusDays(1))));
 
+        ResponseOrderHistory result = orderService.getOrderHistory(1L, cursor, 2);
 
+        assertThat(result.orders()).extracting(OrderSummary::orderId).containsExactly(1L);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("예약 만료로 이미 취소된 주문은 잠금 후 확인해 완료하지 않는다")
+    void 만료취소된_주문_완료불가() {
+
+        User user = new User(1L, "테스트유저", UserStatus.ACTIVE, 10000L);
+        Product product = new Product(1L, "테스트상품", ProductStatus.ACTIVE, 5, 0, 1000L, "전자제품");
+        Order order = Order.create(user, product, null, 1000L, 1, OrderStatus.CANCELLED);
+        given(orderRepository.findByIdWithLock(1L)).willReturn(Optional.of(order));
+
+        assertThatThrownBy(() -> orderService.completeOrder(1L))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("진행중인 주문만 완료할 수 있습니다.");
+        verify(orderRepository, never()).findById(anyLong());
+    }
 }
@@ -0,0 +1,195 @@
+package kr.hhplus.be.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.dto.order.RequestOrder;
+import kr.hhplus.be.server.dto.order.ResponseOrderSubmission;
+import kr.hhplus.be.server.enums.OrderStatus;
+import kr.hhplus.be.server.enums.OrderSubmissionStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.exception.custom.ServiceBusyException;
+import kr.hhplus.be.server.service.OrderFacade;
+import kr.hhplus.be.server.service.OrderService;
+import kr.hhplus.be.server.service.OrderSubmissionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+public class OrderSubmissionServiceTest {
+
+    private OrderSubmissionService orderSubmissionService;
+
+    @Mock
+    private OrderFacade orderFacade;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        orderSubmissionService = new OrderSubmissionService(
+                orderFacade, orderService, stringRedisTemplate, redisMessageListenerContainer, objectMapper, 2
+        );
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+    }
+
+    /**
+     * 비동기 주문 접수 테스트
+     * 1. 접수 즉시 QUEUED 반환하고 접수 스트림에 기록
+     * 2. 처리 대기 접수가 상한 이상이면 거절
+     * 3. 주문 생성 실패 시 FAILED 상태 저장
+     * 4. 이미 처리된 접수는 다시 처리하지 않음
+     * 5. 같은 접수를 동시에 처리해도 주문은 한 번만 생성
+     * 6. 접수 기록이 없는 주문의 후속 처리는 무시
+     */
+
+    @Test
+    @DisplayName("접수하면 QUEUED를 바로 반환하고 주문 생성은 접수 스트림에 남긴다")
+    void 접수_스트림기록() {
+        RequestOrder request = new RequestOrder(1L, 1L, null, 2, 40000L, 40000L, false);
+        given(streamOperations.size("order:submission:stream")).willReturn(0L);
+
+        ResponseOrderSubmission result = orderSubmissionService.submit(request);
+
+        assertThat(result.status()).isEqualTo(OrderSubmissionStatus.QUEUED);
+        verify(streamOperations).add(any(MapRecord.class));
+        verify(orderFacade, never()).createOrder(any());
+    }
+
+    @Test
+    @DisplayName("처리 대기 중인 접수가 상한 이상이면 503으로 거절한다")
+    void 접수대기열_초과_거절() {
+        given(streamOperations.size("order:submission:stream")).willReturn(2L);
+
+        assertThatThrownBy(() -> orderSubmissionService.submit(new RequestOrder(1L, 1L, null, 2, 40000L, 40000L, false)))
+                .isInstanceOf(ServiceBusyException.class);
+        verify(streamOperations, never()).add(any(MapRecord.class));
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 시 FAILED 상태를 저장하고 알린다")
+    @SuppressWarnings("unchecked")
+    void 주문생성_실패시_FAILED() throws Exception {
+        RequestOrder request = new RequestOrder(1L, 1L, null, 2, 40000L, 40000L, false);
+        given(orderFacade.createOrder(request)).willThrow(new CustomException("잔고 부족"));
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(1L);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(1L);
+
+        orderSubmissionService.process("sub-1", objectMapper.writeValueAsString(request));
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, times(2)).convertAndSend(eq("order:submission:status"), published.capture());
+        assertThat(objectMapper.readValue(published.getAllValues().get(0), ResponseOrderSubmission.class).status())
+                .isEqualTo(OrderSubmissionStatus.PROCESSING);
+
+        ResponseOrderSubmission failed = objectMapper.readValue(published.getAllValues().get(1), ResponseOrderSubmission.class);
+        assertThat(failed.submissionId()).isEqualTo("sub-1");
+        assertThat(failed.status()).isEqualTo(OrderSubmissionStatus.FAILED);
+        assertThat(failed.message()).isEqualTo("잔고 부족");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 넘겨받은 접수가 이미 처리되었으면 주문을 다시 만들지 않는다")
+    @SuppressWarnings("unchecked")
+    void 처리된접수_재처리안함() throws Exception {
+        RequestOrder request = new RequestOrder(1L, 1L, null, 2, 40000L, 40000L, false);
+        // QUEUED가 아니면 PROCESSING으로 바꾸지 못한다
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(0L);
+
+        orderSubmissionService.process("sub-1", objectMapper.writeValueAsString(request));
+
+        verify(orderFacade, never()).createOrder(any());
+    }
+
+    @Test
+    @DisplayName("같은 접수를 두 워커가 동시에 처리해도 주문은 한 번만 생성한다")
+    @SuppressWarnings("unchecked")
+    void 동시처리_주문한번만생성() throws Exception {
+        RequestOrder request = new RequestOrder(1L, 1L, null, 2, 40000L, 40000L, false);
+        String requestJson = objectMapper.writeValueAsString(request);
+        Order order = mock(Order.class);
+        given(order.getId()).willReturn(10L);
+        given(orderFacade.createOrder(request)).willReturn(order);
+        given(orderService.getOrderStatus(10L)).willReturn(OrderStatus.IN_PROGRESS);
+        // Redis 스크립트처럼 QUEUED → PROCESSING 전환은 한 번만 성공
+        AtomicBoolean queued = new AtomicBoolean(true);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .willAnswer(invocation -> queued.compareAndSet(true, false) ? 1L : 0L);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(1L);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                orderSubmissionService.process("sub-1", requestJson);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        verify(orderFacade, times(1)).createOrder(request);
+    }
+
+    @Test
+    @DisplayName("접수 기록이 없는 주문은 상태를 갱신하지 않는다")
+    void 접수기록_없는_주문_무시() {
+        given(valueOperations.get("order:submission:order:1")).willReturn(null);
+
+        orderSubmissionService.onOrderFinished(1L, OrderSubmissionStatus.COMPLETED);
+
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("접수 내역이 없으면 조회 실패")
+    void 접수내역_없으면_조회실패() {
+        given(valueOperations.get("order:submission:unknown")).willReturn(null);
+
+        assertThatThrownBy(() -> orderSubmissionService.getStatus("unknown"))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("주문 접수 내역이 없습니다.");
+    }
+}
@@ -0,0 +1,100 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.domain.Product;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.order.ResponseOrderSummary;
+import kr.hhplus.be.server.enums.OrderStatus;
+import kr.hhplus.be.server.enums.ProductStatus;
+import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.repository.OrderRepository;
+import kr.hhplus.be.server.service.OrderSummaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.*;
+
+public class OrderSummaryServiceTest {
+
+    @InjectMocks
+    private OrderSummaryService orderSummaryService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+    }
+
+    /**
+     * 주문 조회 모델 테스트
+     * 1. 조회 모델이 있으면 DB를 조회하지 않는다
+     * 2. 조회 모델이 없으면 DB에서 다시 만든다
+     */
+
+    @Test
+    @DisplayName("조회 모델이 있으면 DB 조회 없이 반환")
+    void 조회모델_있으면_DB조회안함() {
+
+        Map<Object, Object> fields = new HashMap<>();
+        fields.put("orderId", "1");
+        fields.put("userId", "2");
+        fields.put("userName", "테스트유저");
+        fields.put("productId", "3");
+        fields.put("productName", "테스트상품");
+        fields.put("requestQuantity", "2");
+        fields.put("originalPrice", "40000");
+        fields.put("requestPrice", "32000");
+        fields.put("status", "COMPLETED");
+        fields.put("paymentId", "10");
+        fields.put("orderDateTime", "2025-01-01T12:00");
+        given(hashOperations.entries("order:summary:1")).willReturn(fields);
+
+        ResponseOrderSummary result = orderSummaryService.getSummary(1L);
+
+        assertAll(
+                () -> assertThat(result.productName()).isEqualTo("테스트상품"),
+                () -> assertThat(result.status()).isEqualTo(OrderStatus.COMPLETED),
+                () -> assertThat(result.paymentId()).isEqualTo(10L)
+        );
+        verify(orderRepository, never()).findWithDetailsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("조회 모델이 없으면 DB에서 다시 만든다")
+    void 조회모델_없으면_DB에서_재생성() {
+
+        User user = new User(2L, "테스트유저", UserStatus.ACTIVE, 10000L);
+        Product product = new Product(3L, "테스트상품", ProductStatus.ACTIVE, 10, 0, 20000L, "전자제품");
+        Order order = Order.create(user, product, null, 20000L, 1, OrderStatus.IN_PROGRESS);
+
+        given(hashOperations.entries("order:summary:1")).willReturn(Map.of());
+        given(orderRepository.findWithDetailsById(1L)).willReturn(Optional.of(order));
+
+        ResponseOrderSummary result = orderSummaryService.getSummary(1L);
+
+        assertThat(result.userName()).isEqualTo("테스트유저");
+        assertThat(result.status()).isEqualTo(OrderStatus.IN_PROGRESS);
+        verify(orderRepository).findWithDetailsById(1L);
+    }
+}
@@ -0,0 +1,145 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.dto.point.PointLedgerEntry;
+import kr.hhplus.be.server.enums.TransactionType;
+import kr.hhplus.be.server.repository.PointAppendJdbcRepository;
+import kr.hhplus.be.server.service.PointAppendWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+public class PointAppendWriterTest {
+
+    @Mock
+    private PointAppendJdbcRepository pointAppendJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path spoolDir;
+
+    private PointAppendWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private PointAppendWriter newWriter(long lingerMs) throws Exception {
+        return newWriter(1024, lingerMs);
+    }
+
+    private PointAppendWriter newWriter(int capacity, long lingerMs) throws Exception {
+        PointAppendWriter created = new PointAppendWriter(
+                pointAppendJdbcRepository, transactionManager, true, capacity, 100, lingerMs, spoolDir.toString(), false);
+        created.start();
+        return created;
+    }
+
+    private PointLedgerEntry entry(long userId, long paymentId) {
+        return new PointLedgerEntry(userId, TransactionType.CHARGE, 1000L, 5000L, paymentId, LocalDateTime.of(2026, 10, 1, 12, 0));
+    }
+
+    /**
+     * 포인트 이력 일괄 저장 테스트
+     * 1. 이어서 들어온 이력은 다중 행 INSERT 한 번으로 저장
+     * 2. 기동 시 체크포인트 이후의 스풀 이력을 다시 저장
+     * 3. 버퍼가 가득 차면 커밋 후 콜백에서 새 트랜잭션으로 바로 저장
+     */
+
+    @Test
+    @DisplayName("이어서 들어온 이력은 한 번의 다중 행 INSERT로 저장한다")
+    @SuppressWarnings("unchecked")
+    void 이력_묶어서_저장() throws Exception {
+        writer = newWriter(200);
+
+        for (long i = 1; i <= 10; i++) {
+            writer.appendHistory(entry(i, i));
+        }
+
+        ArgumentCaptor<List<PointLedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointAppendJdbcRepository, timeout(2000).times(1)).insertHistories(captor.capture());
+        assertThat(captor.getValue()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("기동 시 체크포인트 이후의 스풀 이력만 다시 저장한다")
+    @SuppressWarnings("unchecked")
+    void 스풀_복구() throws Exception {
+        Files.writeString(spoolDir.resolve("point-hist.spool"),
+                "1|1|CHARGE|1000|5000|11|2026-10-01T12:00\n" +
+                "2|2|CHARGE|1000|5000|12|2026-10-01T12:00\n" +
+                "3|3|CHARGE|1000|5000||2026-10-01T12:00\n" +
+                "4|4|CHA");
+        Files.writeString(spoolDir.resolve("point-hist.checkpoint"), "1");
+
+        writer = newWriter(1);
+
+        ArgumentCaptor<List<PointLedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointAppendJdbcRepository, timeout(2000).atLeastOnce()).insertHistories(captor.capture());
+        assertThat(captor.getAllValues().stream().flatMap(List::stream).map(PointLedgerEntry::userId))
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 커밋 후 콜백에서 새 트랜잭션을 열어 바로 저장하고 커밋한다")
+    void 버퍼가득참_새트랜잭션_저장() throws Exception {
+        TransactionStatus fallbackStatus = mock(TransactionStatus.class);
+        given(transactionManager.getTransaction(any())).willReturn(fallbackStatus);
+        // 기록 스레드가 첫 묶음을 저장하지 못하고 붙잡고 있어 버퍼(1칸)가 다시 차도록 한다
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(pointAppendJdbcRepository).insertHistories(argThat(entries -> entries.get(0).userId() == 1L));
+        writer = newWriter(1, 1);
+
+        writer.appendHistory(entry(1L, 1L));
+        verify(pointAppendJdbcRepository, timeout(2000)).insertHistories(argThat(entries -> entries.get(0).userId() == 1L));
+        writer.appendHistory(entry(2L, 2L));
+
+        // 트랜잭션 안에서 추가하고 커밋 후 콜백 실행
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writer.appendHistory(entry(3L, 3L));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            release.countDown();
+        }
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(pointAppendJdbcRepository).insertHistories(List.of(entry(3L, 3L)));
+        verify(transactionManager).commit(fallbackStatus);
+    }
+}
@@ -0,0 +1,145 @@
+package kr.hhplus.be.server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.point.ResponseUserPoint;
+import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.service.PointBalanceCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+public class PointBalanceCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PointBalanceCache pointBalanceCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        given(stringRedisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(anyString())).willReturn(Map.of());
+
+        meterRegistry = new SimpleMeterRegistry();
+        pointBalanceCache = new PointBalanceCache(
+                stringRedisTemplate, redisMessageListenerContainer, meterRegistry, true, 60000, 1000, 600);
+    }
+
+    private User user(long point, long version) {
+        User user = new User(1L, "테스트유저", UserStatus.ACTIVE, point);
+        ReflectionTestUtils.setField(user, "version", version);
+        return user;
+    }
+
+    private Supplier<User> loader(AtomicInteger calls, User user) {
+        return () -> {
+            calls.incrementAndGet();
+            return user;
+        };
+    }
+
+    /**
+     * 포인트 잔액 캐시 테스트
+     * 1. 처음 조회는 DB에서 읽고 이후는 L1에서 반환
+     * 2. L1에 없으면 Redis 값을 반환하고 DB는 읽지 않음
+     * 3. 더 낮은 버전의 변경은 새 잔액을 덮어쓰지 않음
+     * 4. 다른 노드의 더 높은 버전 알림을 받으면 L1을 지움
+     * 5. 이름이 없는 사용자도 L2에 저장
+     */
+
+    @Test
+    @DisplayName("처음 조회는 DB에서 읽고 이후 조회는 L1에서 반환한다")
+    void 첫조회_DB_이후_L1() {
+        AtomicInteger calls = new AtomicInteger();
+
+        pointBalanceCache.get(1L, loader(calls, user(10000L, 3L)));
+        ResponseUserPoint result = pointBalanceCache.get(1L, loader(calls, user(10000L, 3L)));
+
+        assertThat(result.userPoint()).isEqualTo(10000L);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("point.balance.cache", "result", "l1").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("L1에 없으면 Redis 값을 반환하고 DB는 읽지 않는다")
+    void L2_적중() {
+        given(hashOperations.entries("point:balance:cache:1"))
+                .willReturn(Map.of("point", "7000", "version", "4", "name", "테스트유저"));
+        AtomicInteger calls = new AtomicInteger();
+
+        ResponseUserPoint result = pointBalanceCache.get(1L, loader(calls, user(10000L, 3L)));
+
+        assertThat(result.userPoint()).isEqualTo(7000L);
+        assertThat(result.userName()).isEqualTo("테스트유저");
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("더 낮은 버전의 변경은 새 잔액을 덮어쓰지 않는다")
+    void 낮은버전_덮어쓰기_안함() {
+        AtomicInteger calls = new AtomicInteger();
+
+        pointBalanceCache.onChanged(user(5000L, 6L));
+        pointBalanceCache.onChanged(user(8000L, 5L));
+
+        ResponseUserPoint result = pointBalanceCache.get(1L, loader(calls, user(8000L, 5L)));
+
+        assertThat(result.userPoint()).isEqualTo(5000L);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 더 높은 버전으로 바뀌었다는 알림을 받으면 L1을 지운다")
+    void 변경알림_L1무효화() {
+        AtomicInteger calls = new AtomicInteger();
+        pointBalanceCache.onChanged(user(5000L, 6L));
+
+        pointBalanceCache.onMessage(new DefaultMessage(
+                "point:balance:changed".getBytes(StandardCharsets.UTF_8),
+                "1:7".getBytes(StandardCharsets.UTF_8)), null);
+
+        ResponseUserPoint result = pointBalanceCache.get(1L, loader(calls, user(4000L, 7L)));
+
+        assertThat(result.userPoint()).isEqualTo(4000L);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이름이 없는 사용자도 빈 문자열로 L2에 저장한다")
+    @SuppressWarnings("unchecked")
+    void 이름없는사용자_L2저장() {
+        User user = new User(1L, null, UserStatus.ACTIVE, 10000L);
+        ReflectionTestUtils.setField(user, "version", 3L);
+
+        pointBalanceCache.get(1L, loader(new AtomicInteger(), user));
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("point:balance:cache:1")),
+                eq("3"), eq("10000"), eq(""), eq("600"));
+    }
+}
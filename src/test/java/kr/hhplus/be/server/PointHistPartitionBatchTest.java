@@ -0,0 +1,75 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.batch.PointHistPartitionBatch;
+import kr.hhplus.be.server.repository.PointHistPartitionJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.BDDMockito.*;
+
+public class PointHistPartitionBatchTest {
+
+    @InjectMocks
+    private PointHistPartitionBatch pointHistPartitionBatch;
+
+    @Mock
+    private PointHistPartitionJdbcRepository pointHistPartitionJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(pointHistPartitionBatch, "premakeMonths", 2);
+        ReflectionTestUtils.setField(pointHistPartitionBatch, "retentionMonths", 12);
+    }
+
+    /**
+     * 포인트 이력 파티션 관리 테스트
+     * 1. 마지막 월 파티션 다음 달부터 미리 만들 달까지 추가
+     * 2. 보관기간이 지난 월 파티션만 삭제
+     * 3. 파티션 테이블이 아니면 아무것도 하지 않음
+     */
+
+    @Test
+    @DisplayName("마지막 월 파티션 다음 달부터 미리 만들 달까지 파티션을 추가한다")
+    void 파티션_미리생성() {
+        given(pointHistPartitionJdbcRepository.findPartitionNames()).willReturn(List.of("p202610", "pmax"));
+
+        pointHistPartitionBatch.maintain(YearMonth.of(2026, 10));
+
+        verify(pointHistPartitionJdbcRepository).addMonthlyPartition(YearMonth.of(2026, 11));
+        verify(pointHistPartitionJdbcRepository).addMonthlyPartition(YearMonth.of(2026, 12));
+        verify(pointHistPartitionJdbcRepository, times(2)).addMonthlyPartition(any());
+    }
+
+    @Test
+    @DisplayName("보관기간이 지난 월 파티션만 삭제한다")
+    void 보관기간경과_파티션삭제() {
+        given(pointHistPartitionJdbcRepository.findPartitionNames())
+                .willReturn(List.of("p202508", "p202509", "p202510", "p202511", "p202512", "pmax"));
+
+        pointHistPartitionBatch.maintain(YearMonth.of(2026, 10));
+
+        verify(pointHistPartitionJdbcRepository).dropPartition("p202508");
+        verify(pointHistPartitionJdbcRepository).dropPartition("p202509");
+        verify(pointHistPartitionJdbcRepository, never()).dropPartition("p202510");
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 파티션을 추가하거나 삭제하지 않는다")
+    void 파티션테이블아니면_건너뜀() {
+        given(pointHistPartitionJdbcRepository.findPartitionNames()).willReturn(List.of());
+
+        pointHistPartitionBatch.maintain(YearMonth.of(2026, 10));
+
+        verify(pointHistPartitionJdbcRepository, never()).addMonthlyPartition(any());
+        verify(pointHistPartitionJdbcRepository, never()).dropPartition(anyString());
+    }
+}
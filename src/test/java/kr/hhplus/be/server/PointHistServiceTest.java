@@ -3,13 +3,19 @@ package kr.hhplus.be.server;
 import kr.hhplus.be.server.enums.TransactionType;
 import kr.hhplus.be.server.domain.PointHist;
 import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.point.PointHistCursor;
+import kr.hhplus.be.server.dto.point.PointHistSummary;
 import kr.hhplus.be.server.dto.point.RequestPointCharge;
+import kr.hhplus.be.server.dto.point.ResponsePointHistory;
 import kr.hhplus.be.server.dto.point.ResponseUserPoint;
 import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
 import kr.hhplus.be.server.repository.PointHistRepository;
 import kr.hhplus.be.server.repository.UserRepository;
 import kr.hhplus.be.server.service.PaymentService;
+import kr.hhplus.be.server.service.PointBalanceCache;
 import kr.hhplus.be.server.service.PointHistService;
+import kr.hhplus.be.server.service.PointLedgerService;
 import kr.hhplus.be.server.service.PointService;
 import kr.hhplus.be.server.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +24,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -46,6 +56,12 @@ public class PointHistServiceTest {
     @Mock
     private PaymentService paymentService;
 
+    @Mock
+    private PointLedgerService pointLedgerService;
+
+    @Mock
+    private PointBalanceCache pointBalanceCache;
+
     long id = 1;
 
     @BeforeEach
@@ -115,4 +131,68 @@ public class PointHistServiceTest {
 
     }
 
+    /**
+     * 포인트 이력 조회 테스트
+     * 1. 한 페이지보다 많으면 마지막 이력으로 다음 커서 생성
+     * 2. 커서가 있으면 커서 이후부터 조회, 마지막 페이지면 커서 없음
+     * 3. 조회 기간은 종료일 다음 날 0시 미만까지
+     * 4. 시작일이 종료일보다 늦으면 예외
+     */
+    @Test
+    @DisplayName("한 페이지보다 많으면 마지막 이력으로 다음 커서를 만든다")
+    void 포인트이력_다음커서_생성() {
+
+        LocalDateTime now = LocalDateTime.of(2026, 10, 1, 12, 0);
+        List<PointHistSummary> histories = List.of(
+                new PointHistSummary(3L, TransactionType.CHARGE, 1000L, 3000L, 30L, now),
+                new PointHistSummary(2L, TransactionType.USE, 1000L, 2000L, 20L, now),
+                new PointHistSummary(1L, TransactionType.CHARGE, 3000L, 3000L, 10L, now.minusDays(1))
+        );
+        given(pointHistRepository.findHistories(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(histories);
+
+        ResponsePointHistory result = pointHistService.getHistory(1L, null, 2, null, null);
+
+        assertThat(result.histories()).hasSize(2);
+        assertThat(PointHistCursor.decode(result.nextCursor())).isEqualTo(new PointHistCursor(now, 2L));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서 이후부터 조회하고 마지막 페이지면 커서가 없다")
+    void 포인트이력_커서이후_조회() {
+
+        LocalDateTime now = LocalDateTime.of(2026, 10, 1, 12, 0);
+        String cursor = new PointHistCursor(now, 2L).encode();
+        given(pointHistRepository.findHistoriesAfter(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), eq(now), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(new PointHistSummary(1L, TransactionType.CHARGE, 3000L, 3000L, 10L, now.minusDays(1))));
+
+        ResponsePointHistory result = pointHistService.getHistory(1L, cursor, 2, null, null);
+
+        assertThat(result.histories()).extracting(PointHistSummary::pointHistId).containsExactly(1L);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("조회 기간은 시작일 0시부터 종료일 다음 날 0시 미만까지다")
+    void 포인트이력_기간조건() {
+
+        given(pointHistRepository.findHistories(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of());
+
+        pointHistService.getHistory(1L, null, 20, LocalDate.of(2026, 9, 1), LocalDate.of(2026, 9, 30));
+
+        verify(pointHistRepository).findHistories(eq(1L),
+                eq(LocalDateTime.of(2026, 9, 1, 0, 0)),
+                eq(LocalDateTime.of(2026, 10, 1, 0, 0)),
+                any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외가 발생한다")
+    void 포인트이력_기간역전_예외() {
+
+        assertThatThrownBy(() -> pointHistService.getHistory(1L, null, 20, LocalDate.of(2026, 10, 2), LocalDate.of(2026, 10, 1)))
+                .isInstanceOf(CustomException.class);
+    }
+
 }
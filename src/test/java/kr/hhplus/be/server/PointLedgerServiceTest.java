@@ -0,0 +1,90 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.repository.UserRepository;
+import kr.hhplus.be.server.service.PointLedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+public class PointLedgerServiceTest {
+
+    @InjectMocks
+    private PointLedgerService pointLedgerService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    /**
+     * 포인트 원장 테스트
+     * 1. 차감 성공 시 차감 후 잔액 반환
+     * 2. 잔액 부족 시 예외
+     * 3. 잔액 키가 없으면 DB 잔액으로 채운 뒤 다시 시도
+     */
+
+    @Test
+    @DisplayName("차감에 성공하면 차감 후 잔액을 반환한다")
+    @SuppressWarnings("unchecked")
+    void 차감_성공() {
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any(), any())).willReturn(68000L);
+
+        long balance = pointLedgerService.deduct(1L, 32000L, 10L);
+
+        assertThat(balance).isEqualTo(68000L);
+        verify(userRepository, never()).findByIdAndStatus(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 예외가 발생한다")
+    @SuppressWarnings("unchecked")
+    void 잔액부족_예외() {
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any(), any())).willReturn(-1L);
+
+        assertThatThrownBy(() -> pointLedgerService.deduct(1L, 32000L, 10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("포인트 부족");
+    }
+
+    @Test
+    @DisplayName("잔액 키가 없으면 DB 잔액으로 채운 뒤 다시 차감한다")
+    @SuppressWarnings("unchecked")
+    void 잔액미적재_DB로채움() {
+        User user = new User(1L, "테스트유저", UserStatus.ACTIVE, 100000L);
+        given(userRepository.findByIdAndStatus(1L, UserStatus.ACTIVE)).willReturn(Optional.of(user));
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any(), any()))
+                .willReturn(-2L, 68000L);
+
+        long balance = pointLedgerService.deduct(1L, 32000L, 10L);
+
+        assertThat(balance).isEqualTo(68000L);
+        verify(valueOperations).setIfAbsent("point:balance:1", "100000");
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of("point:balance:1", "point:ledger:stream")), any(), any(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,200 @@
+package kr.hhplus.be.server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.PointReconciliationMismatch;
+import kr.hhplus.be.server.domain.PointReconciliationRange;
+import kr.hhplus.be.server.domain.PointReconciliationRun;
+import kr.hhplus.be.server.dto.point.PointBalanceCheck;
+import kr.hhplus.be.server.enums.ReconciliationStatus;
+import kr.hhplus.be.server.repository.PointReconciliationJdbcRepository;
+import kr.hhplus.be.server.repository.PointReconciliationMismatchRepository;
+import kr.hhplus.be.server.repository.PointReconciliationRangeRepository;
+import kr.hhplus.be.server.repository.PointReconciliationRunRepository;
+import kr.hhplus.be.server.service.PointReconciliationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+public class PointReconciliationServiceTest {
+
+    private PointReconciliationService pointReconciliationService;
+
+    @Mock
+    private PointReconciliationRunRepository runRepository;
+
+    @Mock
+    private PointReconciliationRangeRepository rangeRepository;
+
+    @Mock
+    private PointReconciliationMismatchRepository mismatchRepository;
+
+    @Mock
+    private PointReconciliationJdbcRepository pointReconciliationJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final List<PointReconciliationRange> savedRanges = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pointReconciliationService = new PointReconciliationService(runRepository, rangeRepository, mismatchRepository,
+                pointReconciliationJdbcRepository, transactionTemplate, new SimpleMeterRegistry(), 100, 4, 2, 0);
+
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(runRepository.save(any(PointReconciliationRun.class))).willAnswer(invocation -> {
+            PointReconciliationRun run = invocation.getArgument(0);
+            if (run.getId() == null) {
+                ReflectionTestUtils.setField(run, "id", 1L);
+            }
+            return run;
+        });
+        given(rangeRepository.save(any(PointReconciliationRange.class))).willAnswer(invocation -> {
+            savedRanges.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        given(rangeRepository.findAllByRunId(1L)).willAnswer(invocation -> List.copyOf(savedRanges));
+        given(runRepository.findFirstByStatusOrderByIdDesc(ReconciliationStatus.RUNNING)).willReturn(Optional.empty());
+    }
+
+    /**
+     * 포인트 정합성 검사 테스트
+     * 1. 사용자 ID 구간을 범위로 나눠 모두 검사하고 완료 처리
+     * 2. 진행 중인 실행이 있으면 체크포인트가 남은 범위는 건너뜀
+     * 3. 재확인에서도 값이 그대로인 후보만 불일치로 저장
+     * 4. 실패한 범위가 있으면 실행을 완료하지 않음
+     * 5. 범위 결과 기록은 한 스레드에서 차례로 실행
+     */
+
+    @Test
+    @DisplayName("사용자 ID 구간을 범위로 나눠 모두 검사하고 실행을 완료한다")
+    void 범위분할_전체검사() {
+        given(pointReconciliationJdbcRepository.findMinUserId()).willReturn(1L);
+        given(pointReconciliationJdbcRepository.findMaxUserId()).willReturn(250L);
+        willAnswer(invocation -> {
+            long start = invocation.getArgument(0);
+            long end = invocation.getArgument(1);
+            Consumer<PointBalanceCheck> consumer = invocation.getArgument(2);
+            for (long userId = start; userId <= end; userId++) {
+                consumer.accept(new PointBalanceCheck(userId, 1000L, 1000L, userId));
+            }
+            return null;
+        }).given(pointReconciliationJdbcRepository).streamRange(anyLong(), anyLong(), any());
+
+        PointReconciliationRun run = pointReconciliationService.run();
+
+        verify(pointReconciliationJdbcRepository).streamRange(eq(1L), eq(100L), any());
+        verify(pointReconciliationJdbcRepository).streamRange(eq(101L), eq(200L), any());
+        verify(pointReconciliationJdbcRepository).streamRange(eq(201L), eq(250L), any());
+        assertThat(run.getStatus()).isEqualTo(ReconciliationStatus.COMPLETED);
+        assertThat(run.getCheckedCount()).isEqualTo(250L);
+        assertThat(run.getMismatchCount()).isZero();
+        verify(pointReconciliationJdbcRepository, never()).findChecks(anyList());
+    }
+
+    @Test
+    @DisplayName("진행 중인 실행이 있으면 검사를 마친 범위는 건너뛰고 이어서 검사한다")
+    void 체크포인트_재개() {
+        PointReconciliationRun running = new PointReconciliationRun(1L, 250L, 100L);
+        ReflectionTestUtils.setField(running, "id", 1L);
+        given(runRepository.findFirstByStatusOrderByIdDesc(ReconciliationStatus.RUNNING)).willReturn(Optional.of(running));
+        savedRanges.add(new PointReconciliationRange(1L, 1L, 100L, 100L, 0L));
+
+        pointReconciliationService.run();
+
+        verify(pointReconciliationJdbcRepository, never()).streamRange(eq(1L), anyLong(), any());
+        verify(pointReconciliationJdbcRepository).streamRange(eq(101L), eq(200L), any());
+        verify(pointReconciliationJdbcRepository).streamRange(eq(201L), eq(250L), any());
+        verify(pointReconciliationJdbcRepository, never()).findMinUserId();
+        assertThat(running.getStatus()).isEqualTo(ReconciliationStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("재확인에서도 잔액과 마지막 이력이 그대로인 사용자만 불일치로 저장한다")
+    @SuppressWarnings("unchecked")
+    void 불일치_재확인() {
+        given(pointReconciliationJdbcRepository.findMinUserId()).willReturn(1L);
+        given(pointReconciliationJdbcRepository.findMaxUserId()).willReturn(3L);
+
+        PointBalanceCheck stale = new PointBalanceCheck(1L, 5000L, 7000L, 11L);
+        PointBalanceCheck moving = new PointBalanceCheck(2L, 5000L, 7000L, 12L);
+        PointBalanceCheck noHistory = new PointBalanceCheck(3L, 3000L, null, null);
+        willAnswer(invocation -> {
+            Consumer<PointBalanceCheck> consumer = invocation.getArgument(2);
+            List.of(stale, moving, noHistory).forEach(consumer);
+            return null;
+        }).given(pointReconciliationJdbcRepository).streamRange(anyLong(), anyLong(), any());
+        // 2번 사용자는 재확인 사이에 거래가 끝나 잔액과 이력이 맞춰짐
+        given(pointReconciliationJdbcRepository.findChecks(List.of(1L, 2L)))
+                .willReturn(List.of(stale, new PointBalanceCheck(2L, 7000L, 7000L, 13L)));
+
+        PointReconciliationRun run = pointReconciliationService.run();
+
+        ArgumentCaptor<List<PointReconciliationMismatch>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mismatchRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(mismatch -> {
+            assertThat(mismatch.getUserId()).isEqualTo(1L);
+            assertThat(mismatch.getUserPoint()).isEqualTo(5000L);
+            assertThat(mismatch.getHistBalance()).isEqualTo(7000L);
+        });
+        assertThat(run.getCheckedCount()).isEqualTo(3L);
+        assertThat(run.getMismatchCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("실패한 범위가 있으면 체크포인트를 남기지 않고 실행을 진행 중으로 둔다")
+    void 범위실패_미완료() {
+        given(pointReconciliationJdbcRepository.findMinUserId()).willReturn(1L);
+        given(pointReconciliationJdbcRepository.findMaxUserId()).willReturn(200L);
+        willThrow(new IllegalStateException("연결 실패"))
+                .given(pointReconciliationJdbcRepository).streamRange(eq(101L), anyLong(), any());
+
+        PointReconciliationRun run = pointReconciliationService.run();
+
+        assertThat(run.getStatus()).isEqualTo(ReconciliationStatus.RUNNING);
+        assertThat(savedRanges).extracting(PointReconciliationRange::getStartUserId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("범위를 병렬로 검사해도 결과 기록은 한 스레드에서 차례로 실행한다")
+    void 결과기록_단일스레드() {
+        given(pointReconciliationJdbcRepository.findMinUserId()).willReturn(1L);
+        given(pointReconciliationJdbcRepository.findMaxUserId()).willReturn(400L);
+        Set<String> writerThreads = ConcurrentHashMap.newKeySet();
+        willAnswer(invocation -> {
+            writerThreads.add(Thread.currentThread().getName());
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        PointReconciliationRun run = pointReconciliationService.run();
+
+        assertThat(run.getStatus()).isEqualTo(ReconciliationStatus.COMPLETED);
+        assertThat(savedRanges).hasSize(4);
+        assertThat(writerThreads).hasSize(1);
+    }
+}
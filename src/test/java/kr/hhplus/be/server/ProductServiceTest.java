@@ -6,6 +6,8 @@ import kr.hhplus.be.server.dto.product.ResponseProduct;
 import kr.hhplus.be.server.enums.ProductStatus;
 import kr.hhplus.be.server.repository.ProductRepository;
 import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.ProductStockSlotService;
+import kr.hhplus.be.server.service.StockReservationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,12 @@ public class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductStockSlotService productStockSlotService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -193,4 +201,66 @@ public class ProductServiceTest {
         );
     }
 
+    /**
+     * 원자적 재고 차감 테스트
+     * 1. 재고가 부족하여 갱신된 행이 없을 경우
+     * 2. 정상 차감
+     */
+
+    @Test
+    @DisplayName("재고 부족으로 갱신된 행이 없을 경우")
+    void 재고_부족으로_갱신된_행이_없을_경우() {
+
+        given(productRepository.decreaseStockIfAvailable(1L, 5, ProductStatus.ACTIVE)).willReturn(0);
+
+        assertThatThrownBy(() -> productService.decreaseStockAtomically(1L, 5))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("요청수량보다 재고 부족");
+    }
+
+    @Test
+    @DisplayName("원자적 재고 차감 정상 처리")
+    void 원자적_재고_차감_정상_처리() {
+
+        given(productRepository.decreaseStockIfAvailable(1L, 5, ProductStatus.ACTIVE)).willReturn(1);
+
+        productService.decreaseStockAtomically(1L, 5);
+
+        verify(productRepository, times(1)).decreaseStockIfAvailable(1L, 5, ProductStatus.ACTIVE);
+        verify(productRepository, never()).findByIdAndStatus(anyLong(), any());
+    }
+
+    /**
+     * 재고 복원 테스트
+     * 1. 엔티티 조회 없이 원자적 UPDATE로 복원하고 Redis 재고 무효화
+     * 2. 분할 재고 상품은 슬롯에 복원
+     */
+
+    @Test
+    @DisplayName("재고 복원은 상품 엔티티를 읽지 않고 원자적 UPDATE로 처리한다")
+    void 재고_복원_원자적_UPDATE() {
+
+        given(productRepository.findStockSlotCount(1L)).willReturn(Optional.of(0));
+        given(productRepository.increaseStock(1L, 3)).willReturn(1);
+
+        productService.increaseStock(1L, 3);
+
+        verify(productRepository).increaseStock(1L, 3);
+        verify(productRepository, never()).findById(anyLong());
+        verify(stockReservationService).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품은 슬롯에 재고를 복원한다")
+    void 분할재고_슬롯_복원() {
+
+        given(productRepository.findStockSlotCount(1L)).willReturn(Optional.of(4));
+
+        productService.increaseStock(1L, 3);
+
+        verify(productStockSlotService).increase(1L, 4, 3);
+        verify(productRepository, never()).increaseStock(anyLong(), anyInt());
+        verify(stockReservationService).invalidate(1L);
+    }
+
 }
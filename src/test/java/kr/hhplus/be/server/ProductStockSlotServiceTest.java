@@ -0,0 +1,88 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.domain.ProductStockSlot;
+import kr.hhplus.be.server.repository.ProductRepository;
+import kr.hhplus.be.server.repository.ProductStockSlotRepository;
+import kr.hhplus.be.server.service.ProductStockSlotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.*;
+
+public class ProductStockSlotServiceTest {
+
+    @InjectMocks
+    private ProductStockSlotService productStockSlotService;
+
+    @Mock
+    private ProductStockSlotRepository productStockSlotRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * 분할 재고 차감 테스트
+     * 1. 선택한 슬롯이 비어있으면 이웃 슬롯에서 차감
+     * 2. 단일 슬롯으로 부족하면 전체 슬롯에서 나누어 차감
+     * 3. 전체 슬롯 합계가 부족할 경우
+     */
+
+    @Test
+    @DisplayName("비어있는 슬롯은 건너뛰고 이웃 슬롯에서 차감")
+    void 비어있는_슬롯은_건너뛰고_이웃_슬롯에서_차감() {
+
+        given(productStockSlotRepository.decreaseIfAvailable(eq(1L), anyInt(), eq(1))).willReturn(0);
+        given(productStockSlotRepository.decreaseIfAvailable(1L, 2, 1)).willReturn(1);
+
+        productStockSlotService.decrease(1L, 4, 1);
+
+        verify(productStockSlotRepository).decreaseIfAvailable(1L, 2, 1);
+        verify(productStockSlotRepository, never()).findByProductIdWithLock(anyLong());
+    }
+
+    @Test
+    @DisplayName("단일 슬롯으로 부족하면 전체 슬롯에서 나누어 차감")
+    void 단일_슬롯으로_부족하면_전체_슬롯에서_나누어_차감() {
+
+        ProductStockSlot slot0 = new ProductStockSlot(1L, 0, 1);
+        ProductStockSlot slot1 = new ProductStockSlot(1L, 1, 1);
+
+        given(productStockSlotRepository.decreaseIfAvailable(eq(1L), anyInt(), eq(2))).willReturn(0);
+        given(productStockSlotRepository.findByProductIdWithLock(1L)).willReturn(List.of(slot0, slot1));
+
+        productStockSlotService.decrease(1L, 2, 2);
+
+        assertAll("슬롯 재고 검증",
+                () -> assertThat(slot0.getQuantity()).isEqualTo(0),
+                () -> assertThat(slot1.getQuantity()).isEqualTo(0),
+                () -> assertThat(slot0.getSellQuantity() + slot1.getSellQuantity()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("전체 슬롯 합계가 부족할 경우")
+    void 전체_슬롯_합계가_부족할_경우() {
+
+        given(productStockSlotRepository.decreaseIfAvailable(eq(1L), anyInt(), eq(3))).willReturn(0);
+        given(productStockSlotRepository.findByProductIdWithLock(1L))
+                .willReturn(List.of(new ProductStockSlot(1L, 0, 1), new ProductStockSlot(1L, 1, 1)));
+
+        assertThatThrownBy(() -> productStockSlotService.decrease(1L, 2, 3))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("요청수량보다 재고 부족");
+    }
+
+}
@@ -0,0 +1,141 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.config.UserKeyedExecutor;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class UserKeyedExecutorTest {
+
+    private ThreadPoolTaskExecutor delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ThreadPoolTaskExecutor();
+        delegate.setCorePoolSize(8);
+        delegate.setMaxPoolSize(8);
+        delegate.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.shutdown();
+    }
+
+    /**
+     * 사용자별 직렬 실행기 테스트
+     * 1. 같은 사용자 작업은 겹치지 않고 제출 순서대로 실행
+     * 2. 다른 사용자 작업은 동시에 실행
+     * 3. 동기 실행 시 작업 예외를 그대로 전달
+     * 4. 비활성화 시 행 잠금 생략 불가
+     * 5. 동시 실행 수가 제한된 실행기에서도 줄이 멈추지 않음
+     */
+
+    @Test
+    @DisplayName("같은 사용자의 작업은 겹치지 않고 제출 순서대로 실행된다")
+    void 같은사용자_직렬실행() throws InterruptedException {
+        UserKeyedExecutor executor = new UserKeyedExecutor(delegate, true, 4, false);
+
+        int taskCount = 200;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            int seq = i;
+            executor.execute(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(seq);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(order).isSorted().hasSize(taskCount);
+    }
+
+    @Test
+    @DisplayName("다른 줄에 속한 사용자의 작업은 동시에 실행된다")
+    void 다른사용자_병렬실행() throws InterruptedException {
+        UserKeyedExecutor executor = new UserKeyedExecutor(delegate, true, 4, false);
+
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(2);
+
+        for (long userId = 1; userId <= 2; userId++) {
+            executor.execute(userId, () -> {
+                bothStarted.countDown();
+                try {
+                    // 다른 사용자 작업이 동시에 시작되지 않으면 대기 시간 초과
+                    bothStarted.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bothStarted.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동기 실행 시 작업에서 발생한 예외를 그대로 전달한다")
+    void 동기실행_예외전달() {
+        UserKeyedExecutor executor = new UserKeyedExecutor(delegate, true, 4, true);
+
+        assertThat(executor.call(1L, () -> 10)).isEqualTo(10);
+        assertThatThrownBy(() -> executor.call(1L, () -> {
+            throw new CustomException("포인트 부족");
+        })).isInstanceOf(CustomException.class).hasMessage("포인트 부족");
+    }
+
+    @Test
+    @DisplayName("직렬 실행을 끄면 행 잠금을 생략할 수 없다")
+    void 비활성화시_행잠금필수() {
+        assertThat(new UserKeyedExecutor(delegate, false, 4, true).isRowLockSkippable()).isFalse();
+        assertThat(new UserKeyedExecutor(delegate, true, 4, true).isRowLockSkippable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 실행 수가 제한된 실행기에서 모든 줄이 작업을 많이 쌓아도 멈추지 않는다")
+    void 동시실행제한_실행기_교착없음() throws InterruptedException {
+        // 가상 스레드 모드의 orderTaskExecutor와 같은 구성 - 빈자리가 없으면 제출하는 스레드가 기다린다
+        SimpleAsyncTaskExecutor limited = new SimpleAsyncTaskExecutor("limited-");
+        limited.setConcurrencyLimit(3);
+        UserKeyedExecutor executor = new UserKeyedExecutor(limited, true, 3, false);
+
+        int tasksPerUser = 200;
+        CountDownLatch done = new CountDownLatch(tasksPerUser * 3);
+
+        for (int i = 0; i < tasksPerUser; i++) {
+            for (long userId = 0; userId < 3; userId++) {
+                executor.execute(userId, () -> {
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    done.countDown();
+                });
+            }
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
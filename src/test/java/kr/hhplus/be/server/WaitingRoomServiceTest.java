@@ -0,0 +1,142 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.dto.waiting.ResponseWaitingPosition;
+import kr.hhplus.be.server.enums.WaitingStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.service.WaitingRoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.*;
+
+public class WaitingRoomServiceTest {
+
+    private WaitingRoomService waitingRoomService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        waitingRoomService = new WaitingRoomService(stringRedisTemplate);
+        ReflectionTestUtils.setField(waitingRoomService, "tokensPerSecond", 10);
+        ReflectionTestUtils.setField(waitingRoomService, "admissionIntervalMs", 1000L);
+        ReflectionTestUtils.setField(waitingRoomService, "tokenTtlSeconds", 300L);
+
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+    }
+
+    /**
+     * 대기열 테스트
+     * 1. 토큰이 없으면 순번과 예상 대기시간 반환
+     * 2. 토큰이 발급되었으면 입장 허용
+     * 3. 대기열 상품 주문 시 토큰 필수
+     * 4. 대기열 상품이 아니면 토큰 없이 주문 가능
+     * 5. 주문이 실패하면 소모한 토큰을 남은 유효시간으로 되돌림
+     */
+
+    @Test
+    @DisplayName("토큰이 없으면 대기 순번과 예상 대기시간을 반환")
+    void 대기순번_조회() {
+
+        given(valueOperations.get("waiting:token:1:7")).willReturn(null);
+        given(zSetOperations.rank("waiting:queue:1", "7")).willReturn(24L);
+
+        ResponseWaitingPosition result = waitingRoomService.getPosition(1L, 7L);
+
+        assertAll(
+                () -> assertThat(result.status()).isEqualTo(WaitingStatus.WAITING),
+                () -> assertThat(result.position()).isEqualTo(25L),
+                () -> assertThat(result.expectedWaitSeconds()).isEqualTo(3L),
+                () -> assertThat(result.token()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("토큰이 발급되었으면 입장 허용 상태를 반환")
+    void 토큰발급시_입장허용() {
+
+        given(valueOperations.get("waiting:token:1:7")).willReturn("token-1");
+
+        ResponseWaitingPosition result = waitingRoomService.getPosition(1L, 7L);
+
+        assertThat(result.status()).isEqualTo(WaitingStatus.ADMITTED);
+        assertThat(result.token()).isEqualTo("token-1");
+    }
+
+    @Test
+    @DisplayName("대기열 상품은 토큰 없이 주문할 수 없다")
+    void 대기열상품_토큰없이_주문불가() {
+
+        given(setOperations.isMember("waiting:products", "1")).willReturn(true);
+
+        assertThatThrownBy(() -> waitingRoomService.orderWithAdmission(1L, 7L, null, () -> null))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("대기열 입장 토큰이 필요합니다.");
+    }
+
+    @Test
+    @DisplayName("이미 사용했거나 다른 토큰이면 주문할 수 없다")
+    @SuppressWarnings("unchecked")
+    void 유효하지않은_토큰_주문불가() {
+
+        given(setOperations.isMember("waiting:products", "1")).willReturn(true);
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("waiting:token:1:7")), eq("token-1")))
+                .willReturn(0L);
+
+        assertThatThrownBy(() -> waitingRoomService.orderWithAdmission(1L, 7L, "token-1", () -> null))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("유효하지 않은 대기열 입장 토큰입니다.");
+    }
+
+    @Test
+    @DisplayName("대기열 상품이 아니면 토큰 확인 없이 통과")
+    void 일반상품_토큰없이_통과() {
+
+        given(setOperations.isMember("waiting:products", "1")).willReturn(false);
+
+        assertThatCode(() -> waitingRoomService.orderWithAdmission(1L, 7L, null, () -> null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("주문이 실패하면 소모한 토큰을 남은 유효시간으로 되돌린다")
+    @SuppressWarnings("unchecked")
+    void 주문실패시_토큰복원() {
+
+        given(setOperations.isMember("waiting:products", "1")).willReturn(true);
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("waiting:token:1:7")), eq("token-1")))
+                .willReturn(120_000L);
+
+        assertThatThrownBy(() -> waitingRoomService.orderWithAdmission(1L, 7L, "token-1", () -> {
+            throw new CustomException("재고가 부족합니다.");
+        })).isInstanceOf(CustomException.class);
+
+        verify(valueOperations).setIfAbsent("waiting:token:1:7", "token-1", Duration.ofMillis(120_000L));
+    }
+}
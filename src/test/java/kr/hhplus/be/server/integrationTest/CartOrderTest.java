@@ -0,0 +1,164 @@
+package kr.hhplus.be.server.integrationTest;
+
+import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.domain.Product;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.order.OrderLineItem;
+import kr.hhplus.be.server.dto.order.RequestCartOrder;
+import kr.hhplus.be.server.dto.order.ResponseOrder;
+import kr.hhplus.be.server.enums.ProductStatus;
+import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.eventHandler.OrderCreatedEvent;
+import kr.hhplus.be.server.eventHandler.OrderEventPublisher;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.OrderLineRepository;
+import kr.hhplus.be.server.repository.OrderRepository;
+import kr.hhplus.be.server.service.OrderFacade;
+import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.ReservationExpiryService;
+import kr.hhplus.be.server.service.StockReservationService;
+import kr.hhplus.be.server.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CartOrderTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderLineRepository orderLineRepository;
+
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ReservationExpiryService reservationExpiryService;
+
+    @InjectMocks
+    private OrderFacade orderFacade;
+
+    private User testUser;
+    private Map<Long, Product> products;
+    private List<OrderLineItem> sortedLines;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User(1L, "테스트유저", UserStatus.ACTIVE, 100000L);
+
+        products = new TreeMap<>();
+        products.put(1L, new Product(1L, "상품A", ProductStatus.ACTIVE, 10, 0, 10000L, "전자제품"));
+        products.put(2L, new Product(2L, "상품B", ProductStatus.ACTIVE, 10, 0, 5000L, "전자제품"));
+
+        sortedLines = List.of(new OrderLineItem(1L, 3), new OrderLineItem(2L, 2));
+    }
+
+    /**
+     * 장바구니 주문 테스트
+     * 1. 라인을 상품ID 순으로 정렬/병합해 한 번에 예약하고 한 트랜잭션에서 주문 저장
+     * 2. DB 반영 실패 시 예약 전체 해제
+     */
+
+    @Test
+    @DisplayName("라인을 상품ID 순으로 정렬/병합해 한 번에 예약하고 주문과 라인을 저장")
+    void 장바구니_주문_정상처리() {
+        RequestCartOrder request = new RequestCartOrder(1L, List.of(
+                new OrderLineItem(2L, 1),
+                new OrderLineItem(1L, 3),
+                new OrderLineItem(2L, 1)
+        ), 40000L);
+
+        when(userService.getUserInfo(1L, UserStatus.ACTIVE)).thenReturn(testUser);
+        when(productService.getCartProducts(sortedLines)).thenReturn(products);
+        when(productService.getAvailableQuantities(any())).thenReturn(Map.of(1L, 10, 2L, 10));
+        when(stockReservationService.reserveAll(eq(sortedLines), any())).thenReturn("reservation-1");
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        ResponseOrder result = orderFacade.processCartOrder(request);
+
+        verify(productService).decreaseStocks(sortedLines, products);
+        verify(orderLineRepository).saveAll(argThat(lines -> ((List<?>) lines).size() == 2));
+        verify(stockReservationService).confirm("reservation-1");
+
+        ArgumentCaptor<OrderCreatedEvent> eventCaptor = ArgumentCaptor.forClass(OrderCreatedEvent.class);
+        verify(orderEventPublisher).publishOrderCreated(eventCaptor.capture());
+
+        assertAll("장바구니 주문 검증",
+                () -> assertThat(eventCaptor.getValue().getLines()).isEqualTo(sortedLines),
+                () -> assertThat(eventCaptor.getValue().getRequestPrice()).isEqualTo(40000L),
+                () -> assertThat(eventCaptor.getValue().getRequestQuantity()).isEqualTo(5),
+                () -> assertThat(result.productName()).isEqualTo("상품A 외 1건")
+        );
+    }
+
+    @Test
+    @DisplayName("DB 재고 차감 실패 시 장바구니 예약 전체를 해제")
+    void DB재고차감_실패시_예약전체해제() {
+        RequestCartOrder request = new RequestCartOrder(1L, sortedLines, 40000L);
+
+        when(userService.getUserInfo(1L, UserStatus.ACTIVE)).thenReturn(testUser);
+        when(productService.getCartProducts(sortedLines)).thenReturn(products);
+        when(productService.getAvailableQuantities(any())).thenReturn(Map.of(1L, 10, 2L, 10));
+        when(stockReservationService.reserveAll(eq(sortedLines), any())).thenReturn("reservation-1");
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doThrow(new CustomException("요청수량보다 재고 부족"))
+                .when(productService).decreaseStocks(sortedLines, products);
+
+        assertThatThrownBy(() -> orderFacade.processCartOrder(request))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("요청수량보다 재고 부족");
+
+        verify(stockReservationService).releaseAll(sortedLines, "reservation-1");
+        verify(stockReservationService, never()).confirm(anyString());
+        verify(orderEventPublisher, never()).publishOrderCreated(any());
+    }
+
+    @Test
+    @DisplayName("요청 금액이 라인 합계와 다르면 예약하지 않는다")
+    void 요청금액_불일치시_예약안함() {
+        RequestCartOrder request = new RequestCartOrder(1L, sortedLines, 30000L);
+
+        when(userService.getUserInfo(1L, UserStatus.ACTIVE)).thenReturn(testUser);
+        when(productService.getCartProducts(sortedLines)).thenReturn(products);
+
+        assertThatThrownBy(() -> orderFacade.processCartOrder(request))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("요청하신 상품 금액이 다릅니다.");
+
+        verify(stockReservationService, never()).reserveAll(any(), any());
+    }
+}
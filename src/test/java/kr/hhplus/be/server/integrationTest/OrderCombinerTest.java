@@ -0,0 +1,200 @@
+package kr.hhplus.be.server.integrationTest;
+
+import kr.hhplus.be.server.domain.Order;
+import kr.hhplus.be.server.domain.Product;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.order.RequestOrder;
+import kr.hhplus.be.server.enums.ProductStatus;
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.eventHandler.OrderCreatedEvent;
+import kr.hhplus.be.server.eventHandler.OrderEventPublisher;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.repository.OrderJdbcRepository;
+import kr.hhplus.be.server.repository.ProductRepository;
+import kr.hhplus.be.server.service.*;
+import kr.hhplus.be.server.service.stock.StockConcurrencyStrategy;
+import kr.hhplus.be.server.service.stock.StockStrategyResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OrderCombinerTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private StockStrategyResolver stockStrategyResolver;
+
+    @Mock
+    private StockConcurrencyStrategy stockStrategy;
+
+    @Mock
+    private OrderJdbcRepository orderJdbcRepository;
+
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ReservationExpiryService reservationExpiryService;
+
+    private OrderCombiner orderCombiner;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        // 동시 요청이 한 묶음에 들어오도록 구간을 넉넉히 둔다
+        orderCombiner = new OrderCombiner(
+                userService, couponService, productService, productRepository, stockReservationService,
+                stockStrategyResolver, orderJdbcRepository, orderEventPublisher, transactionTemplate,
+                reservationExpiryService, true, 200, 64, 1, 5000
+        );
+
+        testProduct = new Product(1L, "테스트상품", ProductStatus.ACTIVE, 5, 0, 20000L, "전자제품");
+
+        when(productRepository.findByIdAndStatus(1L, ProductStatus.ACTIVE)).thenReturn(Optional.of(testProduct));
+        when(stockStrategyResolver.resolve(testProduct)).thenReturn(stockStrategy);
+        when(stockStrategy.getType()).thenReturn(StockStrategyType.REDIS_LUA);
+        when(productService.getAvailableQuantity(testProduct)).thenReturn(5);
+        when(userService.getActiveUsers(any())).thenReturn(Map.of(
+                1L, new User(1L, "유저1", UserStatus.ACTIVE, 100000L),
+                2L, new User(2L, "유저2", UserStatus.ACTIVE, 100000L),
+                3L, new User(3L, "유저3", UserStatus.ACTIVE, 100000L)
+        ));
+        when(couponService.calculateDiscountedPrice(eq(testProduct), isNull())).thenReturn(20000L);
+        when(stockReservationService.reserve(eq(1L), anyInt(), eq(5))).thenReturn("reservation-1");
+        when(orderJdbcRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Long> ids = new ArrayList<>();
+                    for (int i = 0; i < invocation.<List<?>>getArgument(0).size(); i++) {
+                        ids.add(100L + i);
+                    }
+                    return ids;
+                });
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderCombiner.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 상품 동시 주문은 재고 차감과 주문 저장을 한 번에 처리한다")
+    void 동시주문_묶음처리() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<Optional<Order>> first = executor.submit(() ->
+                orderCombiner.submit(new RequestOrder(1L, 1L, null, 2, 40000L, 40000L, false)));
+        Future<Optional<Order>> second = executor.submit(() ->
+                orderCombiner.submit(new RequestOrder(2L, 1L, null, 3, 60000L, 60000L, false)));
+
+        assertThat(first.get()).get().extracting(Order::getId).isNotNull();
+        assertThat(second.get()).get().extracting(Order::getId).isNotNull();
+        executor.shutdown();
+
+        verify(stockReservationService, times(1)).reserve(1L, 5, 5);
+        verify(productService, times(1)).decreaseStockAtomically(1L, 5);
+        verify(orderJdbcRepository, times(1)).insertAll(argThat(orders -> orders.size() == 2));
+        verify(orderEventPublisher, times(2)).publishOrderCreated(any(OrderCreatedEvent.class));
+        verify(stockReservationService).confirm("reservation-1");
+    }
+
+    @Test
+    @DisplayName("재고를 넘는 주문은 해당 요청만 실패하고 나머지는 묶음 처리된다")
+    void 재고초과_주문만_실패() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<Optional<Order>> first = executor.submit(() ->
+                orderCombiner.submit(new RequestOrder(1L, 1L, null, 4, 80000L, 80000L, false)));
+        Thread.sleep(20);
+        Future<Optional<Order>> second = executor.submit(() ->
+                orderCombiner.submit(new RequestOrder(3L, 1L, null, 2, 40000L, 40000L, false)));
+
+        assertThat(first.get()).isPresent();
+        assertThatThrownBy(second::get).hasCauseInstanceOf(CustomException.class);
+        executor.shutdown();
+
+        verify(productService, times(1)).decreaseStockAtomically(1L, 4);
+    }
+
+    @Test
+    @DisplayName("커밋 후 재고 예약 확정이 실패해도 저장된 주문을 돌려주고 건별 처리로 넘기지 않는다")
+    void 커밋후실패_주문반환() {
+        doThrow(new IllegalStateException("Redis 연결 실패")).when(stockReservationService).confirm("reservation-1");
+
+        Optional<Order> result = orderCombiner.submit(new RequestOrder(1L, 1L, null, 2, 40000L, 40000L, false));
+
+        assertThat(result).get().extracting(Order::getId).isEqualTo(100L);
+        verify(stockReservationService, never()).release(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("커밋 단계에서 실패하면 건별 처리로 넘기지 않고 예외로 알린다")
+    void 커밋결과불명_예외() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            throw new IllegalStateException("커밋 중 연결 끊김");
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        assertThatThrownBy(() -> orderCombiner.submit(new RequestOrder(1L, 1L, null, 2, 40000L, 40000L, false)))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("확인할 수 없습니다");
+        verify(stockReservationService, never()).release(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("락 기반 전략 상품은 묶지 않고 건별 처리로 넘긴다")
+    void 락기반전략_건별처리() {
+        when(stockStrategy.getType()).thenReturn(StockStrategyType.PESSIMISTIC_LOCK);
+
+        Optional<Order> result = orderCombiner.submit(new RequestOrder(1L, 1L, null, 2, 40000L, 40000L, false));
+
+        assertThat(result).isEmpty();
+        verify(orderJdbcRepository, never()).insertAll(anyList());
+    }
+}
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.integrationTest;
 
+import kr.hhplus.be.server.config.UserKeyedExecutor;
 import kr.hhplus.be.server.eventHandler.OrderEventHandler;
 import kr.hhplus.be.server.eventHandler.OrderEventPublisher;
 import kr.hhplus.be.server.eventHandler.OrderTransferData;
@@ -15,11 +16,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +59,15 @@ public class OrderDataTransferTest {
     @Mock
     private ZSetOperations<String, Object> zSetOperations;
 
+    @Mock
+    private EventDeduplicator eventDeduplicator;
+
+    @Mock
+    private UserKeyedExecutor userKeyedExecutor;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private OrderEventHandler orderEventHandler;
 
@@ -60,7 +76,7 @@ public class OrderDataTransferTest {
     @BeforeEach
     void setUp() {
         testPaymentCompletedEvent = new PaymentCompletedEvent(
-                1L, true, 1L, 1L, 1L, 1,
+                "event-1", 1L, true, 1L, 1L, 1L, 1,
                 10000L, 8000L, LocalDateTime.now(), "아이폰 15","홍길동"
         );
     }
@@ -88,13 +104,22 @@ public class OrderDataTransferTest {
     @DisplayName("여러 주문 정보를 연속으로 전송할 수 있어야 한다")
     void sendOrderInfo_ShouldHandleMultipleOrders() {
         PaymentCompletedEvent order1 = new PaymentCompletedEvent(
-                100L, true, 1L, 1L, 1L, 1,
+                "event-100", 100L, true, 1L, 1L, 1L, 1,
                 10000L, 10000L, java.time.LocalDateTime.now(), "상품1", "사용자1"
         );
         PaymentCompletedEvent order2 = new PaymentCompletedEvent(
-                200L, true, 2L, 2L, 2L, 2,
+                "event-200", 200L, true, 2L, 2L, 2L, 2,
                 25000L, 20000L, java.time.LocalDateTime.now(), "상품2", "사용자2"
         );
+        when(eventDeduplicator.markProcessed(any(), any())).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(userKeyedExecutor).execute(anyLong(), any());
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
 
         assertAll("연속 처리",
                 () -> orderEventHandler.sendOrderInfo(order1),
@@ -14,9 +14,15 @@ import kr.hhplus.be.server.eventHandler.OrderCreatedEvent;
 import kr.hhplus.be.server.eventHandler.OrderEventPublisher;
 import kr.hhplus.be.server.repository.OrderRepository;
 import kr.hhplus.be.server.service.CouponService;
+import kr.hhplus.be.server.service.OrderCombiner;
 import kr.hhplus.be.server.service.OrderFacade;
+import kr.hhplus.be.server.exception.custom.CustomException;
 import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.ReservationExpiryService;
+import kr.hhplus.be.server.service.StockReservationService;
 import kr.hhplus.be.server.service.UserService;
+import kr.hhplus.be.server.service.stock.RedisLuaStockStrategy;
+import kr.hhplus.be.server.service.stock.StockStrategyResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,10 +32,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-
-import java.util.concurrent.TimeUnit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -55,10 +59,19 @@ public class OrderEventTest {
     private ProductService productService;
 
     @Mock
-    private RedissonClient redissonClient;
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private StockStrategyResolver stockStrategyResolver;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OrderCombiner orderCombiner;
 
     @Mock
-    private RLock lock;
+    private ReservationExpiryService reservationExpiryService;
 
     @InjectMocks
     private OrderFacade orderFacade;
@@ -69,7 +82,7 @@ public class OrderEventTest {
     private Order testOrder;
     private RequestOrder testRequest;
     @BeforeEach
-    void setUp() throws InterruptedException {
+    void setUp() {
         testUser = new User(1L, "테스트유저", UserStatus.ACTIVE, 100000L);
 
         testProduct = new Product(1L, "테스트상품", ProductStatus.ACTIVE, 10, 0, 20000L, "전자제품");
@@ -80,26 +93,27 @@ public class OrderEventTest {
 
         testRequest = new RequestOrder(1L, 1L, 1L, 2, 40000L, 32000L, true);
 
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-
     }
 
     @Test
     @DisplayName("주문 처리 성공 시 OrderCreatedEvent가 정상적으로 발행되어야 한다")
-    void 주문처리_성공시_이벤트_정상발행() throws InterruptedException {
-
-        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
+    void 주문처리_성공시_이벤트_정상발행() {
 
         when(userService.getUserAndCheckBalance(testRequest)).thenReturn(testUser);
         when(productService.getProductInfo(testRequest)).thenReturn(testProduct);
+        when(stockStrategyResolver.resolve(testProduct)).thenReturn(redisLuaStockStrategy());
+        when(productService.getAvailableQuantity(testProduct)).thenReturn(10);
+        when(stockReservationService.reserve(1L, 2, 10)).thenReturn("reservation-1");
         when(couponService.searchCouponByProductId(1L)).thenReturn(testCoupon);
         when(couponService.calculateDiscountedPrice(testProduct, testCoupon)).thenReturn(16000L);
         when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         ResponseOrder result = orderFacade.processOrder(testRequest);
 
         verify(orderEventPublisher, times(1)).publishOrderCreated(any(OrderCreatedEvent.class));
+        verify(stockReservationService).confirm("reservation-1");
 
         ArgumentCaptor<OrderCreatedEvent> eventCaptor = ArgumentCaptor.forClass(OrderCreatedEvent.class);
         verify(orderEventPublisher).publishOrderCreated(eventCaptor.capture());
@@ -123,9 +137,14 @@ public class OrderEventTest {
     }
 
     @Test
-    @DisplayName("Redis Lock 획득 실패 시 이벤트가 발행되지 않아야 한다")
-    void 락획득_실패시_이벤트_발행안됨() throws InterruptedException {
-        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+    @DisplayName("Redis 재고 예약 실패 시 이벤트가 발행되지 않아야 한다")
+    void 재고예약_실패시_이벤트_발행안됨() {
+        when(userService.getUserAndCheckBalance(testRequest)).thenReturn(testUser);
+        when(productService.getProductInfo(testRequest)).thenReturn(testProduct);
+        when(stockStrategyResolver.resolve(testProduct)).thenReturn(redisLuaStockStrategy());
+        when(productService.getAvailableQuantity(testProduct)).thenReturn(10);
+        when(stockReservationService.reserve(1L, 2, 10))
+                .thenThrow(new CustomException("요청수량보다 상품 재고가 부족합니다."));
 
         try {
             orderFacade.processOrder(testRequest);
@@ -134,13 +153,33 @@ public class OrderEventTest {
 
         verify(orderEventPublisher, never()).publishOrderCreated(any(OrderCreatedEvent.class));
         verify(orderRepository, never()).save(any(Order.class));
+        verify(productService, never()).decreaseStockAtomically(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("DB 재고 차감 실패 시 Redis 예약이 해제되어야 한다")
+    void DB재고차감_실패시_예약해제() {
+        when(userService.getUserAndCheckBalance(testRequest)).thenReturn(testUser);
+        when(productService.getProductInfo(testRequest)).thenReturn(testProduct);
+        when(stockStrategyResolver.resolve(testProduct)).thenReturn(redisLuaStockStrategy());
+        when(productService.getAvailableQuantity(testProduct)).thenReturn(10);
+        when(stockReservationService.reserve(1L, 2, 10)).thenReturn("reservation-1");
+        doThrow(new CustomException("요청수량보다 재고 부족"))
+                .when(productService).decreaseStockAtomically(1L, 2);
+
+        try {
+            orderFacade.processOrder(testRequest);
+        } catch (Exception e) {
+        }
+
+        verify(stockReservationService).release(1L, "reservation-1");
+        verify(stockReservationService, never()).confirm(anyString());
+        verify(orderEventPublisher, never()).publishOrderCreated(any(OrderCreatedEvent.class));
     }
 
     @Test
     @DisplayName("주문 생성 과정에서 예외 발생 시 이벤트가 발행되지 않아야 한다")
-    void 주문생성중_예외발생_이벤트발행안됨() throws InterruptedException {
-        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
+    void 주문생성중_예외발생_이벤트발행안됨() {
         when(userService.getUserAndCheckBalance(testRequest)).thenThrow(new RuntimeException("잔고 부족"));
 
         try {
@@ -151,4 +190,8 @@ public class OrderEventTest {
         verify(orderEventPublisher, never()).publishOrderCreated(any(OrderCreatedEvent.class));
     }
 
+    private RedisLuaStockStrategy redisLuaStockStrategy() {
+        return new RedisLuaStockStrategy(stockReservationService, productService);
+    }
+
 }
@@ -0,0 +1,300 @@
+package kr.hhplus.be.server.integrationTest;
+
+import kr.hhplus.be.server.config.UserKeyedExecutor;
+import kr.hhplus.be.server.domain.Payment;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.enums.EventHandlerType;
+import kr.hhplus.be.server.enums.OrderStatus;
+import kr.hhplus.be.server.enums.OrderSubmissionStatus;
+import kr.hhplus.be.server.enums.PaymentStatus;
+import kr.hhplus.be.server.enums.TransactionType;
+import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.eventHandler.*;
+import kr.hhplus.be.server.service.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OrderPipelineTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PointService pointService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+
+    @Mock
+    private PointHistService pointHistService;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OrderSubmissionService orderSubmissionService;
+
+    @Mock
+    private OrderSummaryService orderSummaryService;
+
+    @Mock
+    private ReservationExpiryService reservationExpiryService;
+
+    @Mock
+    private EventRetryService eventRetryService;
+
+    @Mock
+    private EventDeduplicator eventDeduplicator;
+
+    @Mock
+    private UserKeyedExecutor userKeyedExecutor;
+
+    @Mock
+    private PointLedgerService pointLedgerService;
+
+    @Mock
+    private OptimisticRetryExecutor optimisticRetryExecutor;
+
+    @InjectMocks
+    private OrderEventHandler orderEventHandler;
+
+    private OrderCreatedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderEventHandler, "pipelineEnabled", true);
+
+        event = new OrderCreatedEvent(
+                "event-1", 1L, 1L, 1L, 2, 40000L, 32000L, LocalDateTime.now(), "테스트상품", "테스트유저", List.of()
+        );
+
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        doAnswer(invocation -> {
+            TransactionCallback<?> action = invocation.getArgument(0);
+            return action.doInTransaction(null);
+        }).when(transactionTemplate).execute(any());
+
+        when(eventDeduplicator.markProcessed(anyString(), anyString())).thenReturn(true);
+
+        doAnswer(invocation -> {
+            Runnable task = invocation.getArgument(1);
+            task.run();
+            return null;
+        }).when(userKeyedExecutor).execute(anyLong(), any());
+
+        doAnswer(invocation -> {
+            Supplier<?> task = invocation.getArgument(1);
+            return task.get();
+        }).when(userKeyedExecutor).call(anyLong(), any());
+
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("파이프라인 모드에서는 사용자를 한 번만 조회하고 결제까지 처리해야 한다")
+    void 파이프라인_정상처리() {
+        User user = new User(1L, "테스트유저", UserStatus.ACTIVE, 68000L);
+        Payment payment = Payment.create(PaymentStatus.COMPLETED, 32000L, TransactionType.USE, 1L);
+
+        when(pointService.deductPointsWithLock(1L, 32000L)).thenReturn(user);
+        when(paymentService.processPayment(1L, 32000L)).thenReturn(payment);
+
+        orderEventHandler.handlePointDeduction(event);
+
+        verify(pointService, times(1)).deductPointsWithLock(1L, 32000L);
+        verify(userService, never()).getUserInfo(anyLong(), any());
+        verify(orderService).completeOrder(1L);
+        verify(orderSubmissionService).onOrderFinished(1L, OrderSubmissionStatus.COMPLETED);
+        verify(reservationExpiryService).clear(1L);
+        verify(pointHistService).createPointHist(eq(user), eq(TransactionType.USE), eq(32000L), eq(68000L), anyLong());
+        verify(orderService, never()).cancelIfInProgress(anyLong());
+
+        ArgumentCaptor<PointDeductedEvent> deductedCaptor = ArgumentCaptor.forClass(PointDeductedEvent.class);
+        verify(orderEventPublisher).publishPointDeducted(deductedCaptor.capture());
+        assertThat(deductedCaptor.getValue().isPipelined()).isTrue();
+
+        verify(orderEventPublisher).publishPaymentCompleted(any(PaymentCompletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("파이프라인 처리 중 포인트 차감 실패 시 재고 복원 후 주문이 취소되어야 한다")
+    void 파이프라인_포인트부족시_주문취소() {
+        when(pointService.deductPointsWithLock(1L, 32000L)).thenThrow(new IllegalArgumentException("포인트 부족"));
+        when(orderService.cancelIfInProgress(1L)).thenReturn(true);
+
+        orderEventHandler.handlePointDeduction(event);
+
+        verify(paymentService, never()).processPayment(anyLong(), anyLong());
+        verify(productService).increaseStock(1L, 2);
+        verify(orderService).cancelIfInProgress(1L);
+        verify(orderSummaryService).onCancelled(1L);
+        verify(orderSubmissionService).onOrderFinished(1L, OrderSubmissionStatus.CANCELLED);
+        verify(reservationExpiryService).clear(1L);
+        verify(orderEventPublisher, never()).publishPaymentCompleted(any());
+    }
+
+    @Test
+    @DisplayName("예약 만료로 이미 취소된 주문이면 재고를 다시 돌려놓지 않아야 한다")
+    void 만료취소된주문_재고복원안함() {
+        when(pointService.deductPointsWithLock(1L, 32000L)).thenThrow(new IllegalArgumentException("포인트 부족"));
+        when(orderService.cancelIfInProgress(1L)).thenReturn(false);
+
+        orderEventHandler.handlePointDeduction(event);
+
+        verify(productService, never()).increaseStock(anyLong(), anyInt());
+        verify(orderSubmissionService).onOrderFinished(1L, OrderSubmissionStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("일시적인 DB 장애로 실패하면 주문을 취소하지 않고 재시도 대기열에 등록해야 한다")
+    void 일시장애시_재시도등록() {
+        when(pointService.deductPointsWithLock(1L, 32000L)).thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        orderEventHandler.handlePointDeduction(event);
+
+        verify(eventRetryService).record(eq(EventHandlerType.POINT_DEDUCTION), eq(event), any(QueryTimeoutException.class));
+        verify(orderService, never()).cancelIfInProgress(anyLong());
+        verify(productService, never()).increaseStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재시도 시점에 이미 취소된 주문은 다시 처리하지 않아야 한다")
+    void 재시도_취소된주문_건너뜀() {
+        when(orderService.getOrderStatus(1L)).thenReturn(OrderStatus.CANCELLED);
+
+        orderEventHandler.retryPointDeduction(event);
+
+        verify(pointService, never()).deductPointsWithLock(anyLong(), anyLong());
+        verify(orderService, never()).cancelIfInProgress(anyLong());
+    }
+
+    @Test
+    @DisplayName("재시도 중 일시 장애가 다시 발생하면 예외를 던져 다음 재시도로 넘겨야 한다")
+    void 재시도_일시장애_예외전파() {
+        when(orderService.getOrderStatus(1L)).thenReturn(OrderStatus.IN_PROGRESS);
+        when(pointService.deductPointsWithLock(1L, 32000L)).thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        assertThatThrownBy(() -> orderEventHandler.retryPointDeduction(event))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        verify(orderService, never()).cancelIfInProgress(anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 처리된 이벤트가 다시 전달되면 포인트를 다시 차감하지 않아야 한다")
+    void 중복이벤트_재차감안함() {
+        when(eventDeduplicator.markProcessed("event-1", "point-deduction")).thenReturn(false);
+
+        orderEventHandler.handlePointDeduction(event);
+
+        verify(pointService, never()).deductPointsWithLock(anyLong(), anyLong());
+        verify(paymentService, never()).processPayment(anyLong(), anyLong());
+        verify(orderService, never()).cancelIfInProgress(anyLong());
+        verify(orderSubmissionService, never()).onOrderFinished(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("사용자별 직렬 실행 중 행 잠금 생략이 켜져 있으면 잠금 없이 포인트를 차감해야 한다")
+    void 직렬실행_행잠금생략() {
+        User user = new User(1L, "테스트유저", UserStatus.ACTIVE, 68000L);
+        Payment payment = Payment.create(PaymentStatus.COMPLETED, 32000L, TransactionType.USE, 1L);
+
+        when(userKeyedExecutor.isRowLockSkippable()).thenReturn(true);
+        when(pointService.deductPoints(1L, 32000L)).thenReturn(user);
+        when(paymentService.processPayment(1L, 32000L)).thenReturn(payment);
+
+        orderEventHandler.handlePointDeduction(event);
+
+        verify(userKeyedExecutor).execute(eq(1L), any());
+        verify(pointService).deductPoints(1L, 32000L);
+        verify(pointService, never()).deductPointsWithLock(anyLong(), anyLong());
+        verify(orderService).completeOrder(1L);
+    }
+
+    @Test
+    @DisplayName("포인트 원장 모드에서는 결제 후 Redis 원장에서 차감하고 DB 잔액/이력은 직접 변경하지 않아야 한다")
+    void 원장모드_원장차감() {
+        Payment payment = Payment.create(PaymentStatus.COMPLETED, 32000L, TransactionType.USE, 1L);
+        ReflectionTestUtils.setField(payment, "id", 10L);
+
+        when(pointLedgerService.isEnabled()).thenReturn(true);
+        when(paymentService.processPayment(1L, 32000L)).thenReturn(payment);
+
+        orderEventHandler.handlePointDeduction(event);
+
+        verify(pointLedgerService).deduct(1L, 32000L, 10L);
+        verify(pointService, never()).deductPointsWithLock(anyLong(), anyLong());
+        verify(pointHistService, never()).createPointHist(any(), any(), anyLong(), anyLong(), anyLong());
+        verify(orderService).completeOrder(1L);
+        verify(orderSubmissionService).onOrderFinished(1L, OrderSubmissionStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 모드에서는 버전 조건부로 차감하고 트랜잭션 전체를 재시도 실행기로 감싸야 한다")
+    void 낙관적락모드_재시도실행기사용() {
+        User user = new User(1L, "테스트유저", UserStatus.ACTIVE, 68000L);
+        Payment payment = Payment.create(PaymentStatus.COMPLETED, 32000L, TransactionType.USE, 1L);
+
+        when(pointService.isOptimisticMode()).thenReturn(true);
+        doAnswer(invocation -> {
+            Supplier<?> action = invocation.getArgument(0);
+            return action.get();
+        }).when(optimisticRetryExecutor).execute(any());
+        when(pointService.deductPointsOptimistic(1L, 32000L)).thenReturn(user);
+        when(paymentService.processPayment(1L, 32000L)).thenReturn(payment);
+
+        orderEventHandler.handlePointDeduction(event);
+
+        verify(optimisticRetryExecutor).execute(any());
+        verify(pointService).deductPointsOptimistic(1L, 32000L);
+        verify(pointService, never()).deductPointsWithLock(anyLong(), anyLong());
+        verify(orderService).completeOrder(1L);
+    }
+}
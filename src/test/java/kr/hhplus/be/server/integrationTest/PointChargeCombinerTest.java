@@ -0,0 +1,207 @@
+package kr.hhplus.be.server.integrationTest;
+
+import kr.hhplus.be.server.config.UserKeyedExecutor;
+import kr.hhplus.be.server.controller.PointController;
+import kr.hhplus.be.server.domain.User;
+import kr.hhplus.be.server.dto.point.PointLedgerEntry;
+import kr.hhplus.be.server.dto.point.RequestPointCharge;
+import kr.hhplus.be.server.dto.point.ResponseUserPoint;
+import kr.hhplus.be.server.enums.UserStatus;
+import kr.hhplus.be.server.exception.custom.CustomException;
+import kr.hhplus.be.server.exception.custom.OutcomeUnknownException;
+import kr.hhplus.be.server.repository.PaymentJdbcRepository;
+import kr.hhplus.be.server.repository.PointLedgerJdbcRepository;
+import kr.hhplus.be.server.repository.UserRepository;
+import kr.hhplus.be.server.service.IdempotencyService;
+import kr.hhplus.be.server.service.PointBalanceCache;
+import kr.hhplus.be.server.service.PointChargeCombiner;
+import kr.hhplus.be.server.service.PointHistService;
+import kr.hhplus.be.server.service.PointLedgerService;
+import kr.hhplus.be.server.service.PointService;
+import kr.hhplus.be.server.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PointChargeCombinerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PaymentJdbcRepository paymentJdbcRepository;
+
+    @Mock
+    private PointLedgerJdbcRepository pointLedgerJdbcRepository;
+
+    @Mock
+    private PointLedgerService pointLedgerService;
+
+    @Mock
+    private PointBalanceCache pointBalanceCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PointChargeCombiner pointChargeCombiner;
+
+    @BeforeEach
+    void setUp() {
+        // 동시 요청이 한 묶음에 들어오도록 구간을 넉넉히 둔다
+        pointChargeCombiner = new PointChargeCombiner(
+                userRepository, paymentJdbcRepository, pointLedgerJdbcRepository, pointLedgerService,
+                pointBalanceCache, transactionTemplate, true, 200, 200, 1, 5000
+        );
+
+        when(userRepository.findAllByIdInAndStatusWithLock(anyList(), eq(UserStatus.ACTIVE))).thenReturn(List.of(
+                new User(1L, "유저1", UserStatus.ACTIVE, 10000L),
+                new User(2L, "유저2", UserStatus.ACTIVE, 0L)
+        ));
+        when(paymentJdbcRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Long> ids = new ArrayList<>();
+                    for (int i = 0; i < invocation.<List<?>>getArgument(0).size(); i++) {
+                        ids.add(100L + i);
+                    }
+                    return ids;
+                });
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointChargeCombiner.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 충전 요청은 한 트랜잭션에서 처리하고 요청마다 결제/이력과 응답을 남긴다")
+    @SuppressWarnings("unchecked")
+    void 동시충전_묶음처리() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        Future<Optional<ResponseUserPoint>> first = executor.submit(() ->
+                pointChargeCombiner.submit(new RequestPointCharge(1L, 5000L)));
+        Thread.sleep(20);
+        Future<Optional<ResponseUserPoint>> second = executor.submit(() ->
+                pointChargeCombiner.submit(new RequestPointCharge(1L, 3000L)));
+        Future<Optional<ResponseUserPoint>> third = executor.submit(() ->
+                pointChargeCombiner.submit(new RequestPointCharge(2L, 7000L)));
+
+        assertThat(first.get()).get().extracting(ResponseUserPoint::userPoint).isEqualTo(15000L);
+        assertThat(second.get()).get().extracting(ResponseUserPoint::userPoint).isEqualTo(18000L);
+        assertThat(third.get()).get().extracting(ResponseUserPoint::userPoint).isEqualTo(7000L);
+        executor.shutdown();
+
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(userRepository, times(1)).findAllByIdInAndStatusWithLock(List.of(1L, 2L), UserStatus.ACTIVE);
+        verify(paymentJdbcRepository, times(1)).insertAll(argThat(payments -> payments.size() == 3));
+
+        ArgumentCaptor<List<PointLedgerEntry>> histories = ArgumentCaptor.forClass(List.class);
+        verify(pointLedgerJdbcRepository, times(1)).insertHistories(histories.capture());
+        assertThat(histories.getValue()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("없는 사용자의 충전은 해당 요청만 실패하고 나머지는 묶음 처리된다")
+    void 없는사용자_요청만_실패() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<Optional<ResponseUserPoint>> first = executor.submit(() ->
+                pointChargeCombiner.submit(new RequestPointCharge(1L, 5000L)));
+        Future<Optional<ResponseUserPoint>> second = executor.submit(() ->
+                pointChargeCombiner.submit(new RequestPointCharge(9L, 5000L)));
+
+        assertThat(first.get()).isPresent();
+        assertThatThrownBy(second::get).hasCauseInstanceOf(CustomException.class);
+        executor.shutdown();
+
+        verify(paymentJdbcRepository, times(1)).insertAll(argThat(payments -> payments.size() == 1));
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 빈 값을 돌려주어 건별 충전으로 넘긴다")
+    void 묶음실패_건별처리() {
+        when(paymentJdbcRepository.insertAll(anyList())).thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        Optional<ResponseUserPoint> result = pointChargeCombiner.submit(new RequestPointCharge(1L, 5000L));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋 단계에서 실패하면 건별 충전으로 넘기지 않고 결과 불명 예외로 알린다")
+    void 커밋결과불명_예외() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            throw new IllegalStateException("커밋 중 연결 끊김");
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        assertThatThrownBy(() -> pointChargeCombiner.submit(new RequestPointCharge(1L, 5000L)))
+                .isInstanceOf(OutcomeUnknownException.class)
+                .hasMessageContaining("확인할 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("사용자별 직렬 실행기를 켜도 같은 사용자의 동시 충전은 한 묶음으로 처리한다")
+    void 직렬실행기_같은사용자_묶음처리() throws Exception {
+        ThreadPoolTaskExecutor delegate = new ThreadPoolTaskExecutor();
+        delegate.setCorePoolSize(4);
+        delegate.initialize();
+        UserKeyedExecutor userKeyedExecutor = new UserKeyedExecutor(delegate, true, 64, true);
+        IdempotencyService idempotencyService = mock(IdempotencyService.class);
+        when(idempotencyService.execute(anyString(), any(), eq(ResponseUserPoint.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<ResponseUserPoint>>getArgument(3).get());
+        PointController pointController = new PointController(mock(UserService.class), mock(PointService.class),
+                mock(PointHistService.class), idempotencyService, userKeyedExecutor, pointChargeCombiner);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<?> first = executor.submit(() -> pointController.chargeUserPoint(null, new RequestPointCharge(1L, 5000L)));
+        Future<?> second = executor.submit(() -> pointController.chargeUserPoint(null, new RequestPointCharge(1L, 3000L)));
+        first.get();
+        second.get();
+        executor.shutdown();
+        delegate.shutdown();
+
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(paymentJdbcRepository, times(1)).insertAll(argThat(payments -> payments.size() == 2));
+    }
+
+    @Test
+    @DisplayName("포인트 원장 모드에서는 묶음 충전을 사용하지 않는다")
+    void 원장모드_비활성() {
+        when(pointLedgerService.isEnabled()).thenReturn(true);
+
+        assertThat(pointChargeCombiner.isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,136 @@
+package kr.hhplus.be.server.integrationTest;
+
+import kr.hhplus.be.server.domain.Product;
+import kr.hhplus.be.server.enums.ProductStatus;
+import kr.hhplus.be.server.enums.StockStrategyType;
+import kr.hhplus.be.server.repository.ProductRepository;
+import kr.hhplus.be.server.service.ProductService;
+import kr.hhplus.be.server.service.ProductStockSlotService;
+import kr.hhplus.be.server.service.stock.StockConcurrencyStrategy;
+import kr.hhplus.be.server.service.stock.StockStrategyResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 동시성 전략 비교 벤치마크
+ * 동일한 경합 조건(단일 상품, 고정 스레드 수)에서 전략별 처리량과 p50/p99 지연시간을 측정한다.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Slf4j
+public class StockStrategyBenchmarkTest {
+
+    @Autowired
+    private StockStrategyResolver stockStrategyResolver;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductStockSlotService productStockSlotService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private static final int INITIAL_STOCK = 300;
+    private static final int REQUEST_COUNT = 400;
+    private static final int THREAD_COUNT = 32;
+    private static final int SLOT_COUNT = 8;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @ParameterizedTest
+    @EnumSource(StockStrategyType.class)
+    @DisplayName("전략별 동일 경합 조건 처리량 및 지연시간 측정")
+    void benchmark(StockStrategyType type) throws InterruptedException {
+        Product product = productRepository.save(
+                new Product("벤치마크상품-" + type, ProductStatus.ACTIVE, INITIAL_STOCK, 0, 1000L, "테스트")
+        );
+        if (type == StockStrategyType.SHARDED_SLOT) {
+            productStockSlotService.shardStock(product.getId(), SLOT_COUNT);
+        }
+        StockConcurrencyStrategy strategy = stockStrategyResolver.get(type);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(REQUEST_COUNT);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    long start = System.nanoTime();
+                    try {
+                        strategy.executeWithStock(product.getId(), 1, INITIAL_STOCK, () -> null);
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                    }
+                    latencies.add(System.nanoTime() - start);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        doneLatch.await(120, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - startTime;
+        executorService.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        double throughput = REQUEST_COUNT / (elapsedNanos / 1_000_000_000.0);
+
+        log.info("[{}] 성공: {}, 실패: {}, 처리량: {} req/s, p50: {} ms, p99: {} ms",
+                type, successCount.get(), failCount.get(),
+                String.format("%.1f", throughput),
+                String.format("%.2f", percentile(sorted, 50) / 1_000_000.0),
+                String.format("%.2f", percentile(sorted, 99) / 1_000_000.0));
+
+        Product result = productRepository.findById(product.getId()).orElseThrow();
+
+        assertThat(successCount.get()).isLessThanOrEqualTo(INITIAL_STOCK);
+        assertThat(productService.getAvailableQuantity(result)).isEqualTo(INITIAL_STOCK - successCount.get());
+    }
+
+    private long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}